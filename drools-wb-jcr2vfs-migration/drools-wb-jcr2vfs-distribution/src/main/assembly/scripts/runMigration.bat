@@ -38,6 +38,7 @@ set "JCR_INPUT_DIR="
 set "TMP_DIR=tmp-jcr2vfs"
 set "VFS_OUTPUT_DIR=outputVfs"
 set "OVERRIDE_VFS_REPO=false"
+set "CONTINUE_MIGRATION=false"
 
 :loop
 if not "%1"=="" (
@@ -59,6 +60,9 @@ if not "%1"=="" (
     if "%1"=="-f" (
         set "OVERRIDE_VFS_REPO=true"
     )
+    if "%1"=="-c" (
+        set "CONTINUE_MIGRATION=true"
+    )
     shift
     goto :loop
 )
@@ -75,6 +79,10 @@ set "IMPORTER_ARGS=-i %TMP_DIR% -o %VFS_OUTPUT_DIR%"
 if "%OVERRIDE_VFS_REPO%"=="true" (
     set "IMPORTER_ARGS=%IMPORTER_ARGS% -f"
 )
+if "%CONTINUE_MIGRATION%"=="true" (
+    set "EXPORTER_ARGS=%EXPORTER_ARGS% -c"
+    set "IMPORTER_ARGS=%IMPORTER_ARGS% -c"
+)
 
 set "EXPORTER_MAIN_CLASS=org.drools.workbench.jcr2vfsmigration.JcrExporterLauncher"
 set "IMPORTER_MAIN_CLASS=org.drools.workbench.jcr2vfsmigration.VfsImporterLauncher"
@@ -95,6 +103,7 @@ goto :end_process
     echo     -o dir     Directory to store the migrated VFS repository in. Optional, defaults to "./outputVfs"
     echo     -r name    VFS repository name. Optional, defaults to "guvnor-jcr2vfs-migration"
     echo     -f         Force overwriting the resulting VFS repository. Optional
+    echo     -c         Continue an interrupted migration from its temporary directory and VFS repository. Optional
     echo.
     echo Notes:
     echo   - Working dir needs to be the directory of this script!
@@ -30,6 +30,7 @@ function print_help {
     echo "    -o <dir>   Directory to store the migrated VFS repository in. Optional, defaults to './outputVfs'"
     echo "    -r <name>  VFS repository name. Optional, defaults to 'guvnor-jcr2vfs-migration'"
     echo "    -f         Force overwriting the resulting VFS repository. Optional"
+    echo "    -c         Continue an interrupted migration from its temporary directory and VFS repository. Optional"
     echo
     echo "Notes:"
     echo "  - Working dir needs to be the directory of this script!"
@@ -65,7 +66,7 @@ TMP_DIR="`pwd`/tmp-jcr2vfs"
 JCR_REPO_DIR_SET="false"
 VFS_REPO_DIR_SET="false"
 
-while getopts "hi:o:r:ft:" opt; do
+while getopts "hi:o:r:fct:" opt; do
     case "$opt" in
     h|\?)
         print_help
@@ -81,6 +82,9 @@ while getopts "hi:o:r:ft:" opt; do
         ;;
     f)  IMPORT_ARGS="$IMPORT_ARGS -f"
         ;;
+    c)  EXPORT_ARGS="$EXPORT_ARGS -c"
+        IMPORT_ARGS="$IMPORT_ARGS -c"
+        ;;
     t) TMP_DIR=${OPTARG}
         ;;
     esac
@@ -24,6 +24,7 @@ import javax.inject.Inject;
 import org.apache.commons.io.FileUtils;
 import org.drools.guvnor.server.repository.GuvnorBootstrapConfiguration;
 import org.drools.workbench.jcr2vfsmigration.common.FileManager;
+import org.drools.workbench.jcr2vfsmigration.common.MigrationCheckpoint;
 import org.drools.workbench.jcr2vfsmigration.config.FSExportConfig;
 import org.drools.workbench.jcr2vfsmigration.jcrExport.ModuleAssetExporter;
 import org.drools.workbench.jcr2vfsmigration.jcrExport.CategoryExporter;
@@ -32,6 +33,13 @@ import org.jboss.weld.context.bound.BoundSessionContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Exports the modules and their assets one after the other, on the thread that runs the migration.
+ * <p/>
+ * The export is not spread over several JCR sessions: Guvnor's services and the bound CDI session and
+ * request contexts started here belong to this thread, and an interrupted export is resumed from the
+ * checkpoint instead.
+ */
 public class JcrExporter {
     private static final Logger logger = LoggerFactory.getLogger(JcrExporter.class);
 
@@ -41,6 +49,9 @@ public class JcrExporter {
     @Inject
     FileManager fileManager;
 
+    @Inject
+    MigrationCheckpoint checkpoint;
+
     @Inject
     protected CategoryExporter categoryExporter;
 
@@ -60,7 +71,15 @@ public class JcrExporter {
 
     public boolean parseArgs( String[] args ) {
         boolean ok = exportConfig.parseArgs( args );
-        if ( ok ) fileManager.setExportTempDir( exportConfig.getExportTempDir() );
+        if ( ok ) {
+            fileManager.setExportTempDir( exportConfig.getExportTempDir() );
+            try {
+                checkpoint.open( exportConfig.getExportTempDir(), "export", exportConfig.isContinueExport() );
+            } catch ( IOException e ) {
+                logger.error( "The export checkpoint in ({}) could not be opened!", exportConfig.getExportTempDir(), e );
+                return false;
+            }
+        }
         return ok;
     }
 
@@ -89,6 +108,8 @@ public class JcrExporter {
             //We print out whatever unexpected exceptions we got here
             t.printStackTrace();
             throw new RuntimeException("Unexpected error encountered while exporting the content of JCR repository!", t);
+        } finally {
+            checkpoint.close();
         }
     }
 
@@ -37,6 +37,7 @@ public class FSExportConfig {
     private File inputJcrRepository;
     private File exportTempDir;
     private boolean forceOverwriteTempOutputDirectory;
+    private boolean continueExport;
 
     public File getInputJcrRepository() {
         return inputJcrRepository;
@@ -46,6 +47,10 @@ public class FSExportConfig {
         return exportTempDir;
     }
 
+    public boolean isContinueExport() {
+        return continueExport;
+    }
+
     // ************************************************************************
     // Configuration methods
     // ************************************************************************
@@ -56,6 +61,7 @@ public class FSExportConfig {
         options.addOption( "i", "inputJcrRepository", true, "The Guvnor 5 JCR repository" );
         options.addOption( "o", "exportTempDir", true, "The temporary export directory" );
         options.addOption( "f", "forceOverwriteTempOutputDirectory", false, "Force overwriting the temporary output directory" );
+        options.addOption( "c", "continueExport", false, "Continue an interrupted export in the existing temporary output directory" );
 
         CommandLine commandLine;
         HelpFormatter formatter = new HelpFormatter();
@@ -95,12 +101,13 @@ public class FSExportConfig {
     private boolean parseArgExportTempDir( CommandLine commandLine ) {
         exportTempDir = new File( commandLine.getOptionValue( "o", "./jcrExport" ) );
         forceOverwriteTempOutputDirectory = commandLine.hasOption( "f" );
+        continueExport = commandLine.hasOption( "c" );
         try {
             if ( exportTempDir.isFile() ) {
                 logger.error( "The specified export location ({}) is not a directory!", exportTempDir.getAbsolutePath() );
                 return false;
             }
-            if ( exportTempDir.exists() ) {
+            if ( exportTempDir.exists() && !continueExport ) {
                 if ( forceOverwriteTempOutputDirectory ) {
                     FileUtils.deleteDirectory( exportTempDir );
                 } else {
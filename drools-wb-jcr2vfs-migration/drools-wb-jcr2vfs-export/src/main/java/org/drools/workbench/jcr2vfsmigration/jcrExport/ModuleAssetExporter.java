@@ -16,12 +16,14 @@
 package org.drools.workbench.jcr2vfsmigration.jcrExport;
 
 import java.io.FileNotFoundException;
-import java.io.PrintWriter;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import javax.inject.Inject;
 
 import com.google.gwt.user.client.rpc.SerializationException;
@@ -41,6 +43,7 @@ import org.drools.repository.ModuleItem;
 import org.drools.repository.ModuleIterator;
 import org.drools.repository.RulesRepository;
 import org.drools.workbench.jcr2vfsmigration.common.FileManager;
+import org.drools.workbench.jcr2vfsmigration.common.MigrationCheckpoint;
 import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.AttachmentAssetExporter;
 import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.ExportContext;
 import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.FactModelExporter;
@@ -49,13 +52,11 @@ import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.GuidedEditorExporte
 import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.PlainTextAssetExporter;
 import org.drools.workbench.jcr2vfsmigration.jcrExport.asset.PlainTextAssetWithPackagePropertyExporter;
 import org.drools.workbench.jcr2vfsmigration.util.ExportUtils;
-import org.drools.workbench.jcr2vfsmigration.xml.format.ModulesXmlFormat;
-import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetsFormat;
+import org.drools.workbench.jcr2vfsmigration.xml.format.ModulesXmlWriter;
+import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetsWriter;
 import org.drools.workbench.jcr2vfsmigration.xml.model.ModuleType;
-import org.drools.workbench.jcr2vfsmigration.xml.model.Modules;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.IgnoredAsset;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAsset;
-import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAssets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,6 +70,9 @@ public class ModuleAssetExporter {
     @Inject
     private FileManager fileManager;
 
+    @Inject
+    private MigrationCheckpoint checkpoint;
+
     @Inject
     private ExportUtils exportUtils;
 
@@ -100,9 +104,6 @@ public class ModuleAssetExporter {
     @Inject
     private AttachmentAssetExporter attachmentAssetExporter;
 
-    private ModulesXmlFormat modulesXmlFormat = new ModulesXmlFormat();
-    private XmlAssetsFormat xmlAssetsFormat = new XmlAssetsFormat();
-
     public void exportAll() {
 
         logger.info( "  Module export started" );
@@ -114,22 +115,16 @@ public class ModuleAssetExporter {
             return;
         }
 
-        Collection<org.drools.workbench.jcr2vfsmigration.xml.model.Module> normalModules = new ArrayList<org.drools.workbench.jcr2vfsmigration.xml.model.Module>( 5 );
-        for ( Module jcrModule : jcrModules ) {
-            normalModules.add( export( ModuleType.NORMAL, jcrModule ) );
+        // Each module is written as soon as it is exported. The global module goes first, as in ModulesXmlFormat
+        try ( ModulesXmlWriter modulesWriter = new ModulesXmlWriter( fileManager.createModuleExportFileWriter() ) ) {
+            modulesWriter.write( export( ModuleType.GLOBAL, jcrGlobalModule ) );
+            for ( Module jcrModule : jcrModules ) {
+                modulesWriter.write( export( ModuleType.NORMAL, jcrModule ) );
+            }
+        } catch ( IOException e ) {
+            logger.error( "Exception writing the module export file!", e );
         }
 
-        org.drools.workbench.jcr2vfsmigration.xml.model.Module globalModule = export( ModuleType.GLOBAL, jcrGlobalModule );
-
-        Modules modules = new Modules( globalModule, normalModules );
-
-        StringBuilder xml = new StringBuilder();
-        modulesXmlFormat.format( xml, modules );
-
-        PrintWriter pw = fileManager.createModuleExportFileWriter();
-        pw.print( xml.toString() );
-        pw.close();
-
         logger.info( "  Module export ended" );
     }
 
@@ -182,10 +177,22 @@ public class ModuleAssetExporter {
             }
         }
 
-        String assetExportFileName = setupAssetExportFile( jcrModule.getUuid() );
-
-        boolean assetExportSuccess = exportModuleAssets( jcrModule, assetExportFileName );
-        if ( !assetExportSuccess ) logger.error( "An error occurred during asset export for module {} (UUID={})!", jcrModule.getName(), jcrModule.getUuid() );
+        // The module header is always exported again, its assets only if a previous run did not complete them
+        String checkpointStep = "export.module." + jcrModule.getUuid();
+        String assetExportFileName = checkpoint.get( checkpointStep );
+        if ( assetExportFileName != null ) {
+            logger.info( "      Assets already exported to file {}.", assetExportFileName );
+        } else {
+            fileManager.deleteAssetExportFile( jcrModule.getUuid() );
+            assetExportFileName = setupAssetExportFile( jcrModule.getUuid() );
+
+            boolean assetExportSuccess = exportModuleAssets( jcrModule, assetExportFileName );
+            if ( assetExportSuccess ) {
+                checkpoint.record( checkpointStep, assetExportFileName );
+            } else {
+                logger.error( "An error occurred during asset export for module {} (UUID={})!", jcrModule.getName(), jcrModule.getUuid() );
+            }
+        }
 
         return new org.drools.workbench.jcr2vfsmigration.xml.model.Module( moduleType,
                 jcrModule.getUuid(),
@@ -200,16 +207,17 @@ public class ModuleAssetExporter {
                 assetExportFileName );
     }
 
+    // Assets are written to the file as each page is processed, so that only one asset version is held in memory
     private boolean exportModuleAssets( Module jcrModule, String assetFileName ) {
-        Collection<XmlAsset> assets = new ArrayList<XmlAsset>( 10 );
-
-        StringBuilder xml = new StringBuilder();
-        PrintWriter pw;
+        XmlAssetsWriter assetsWriter;
         try {
-            pw = fileManager.createAssetExportFileWriter( assetFileName );
+            assetsWriter = new XmlAssetsWriter( fileManager.createAssetExportFileWriter( assetFileName ) );
         } catch ( FileNotFoundException e ) {
             logger.error("Can't find file for {}!", assetFileName, e);
             return false;
+        } catch ( IOException e ) {
+            logger.error("Can't write file for {}!", assetFileName, e);
+            return false;
         }
 
         boolean hasMorePages = true;
@@ -240,15 +248,16 @@ public class ModuleAssetExporter {
                         //control, its just the current content on jcr node) is equal to the latest version that had been checked in.
                         //Eg, when we import mortgage example, we just dump the mortgage package to a jcr node, no version check in.
                         XmlAsset xmlAsset = export( ExportContext.create( jcrModule, assetItemJCR, assetFileName ) );
-                        xmlAsset.setAssetHistory( exportAssetHistory( ExportContext.create( jcrModule, row.getUuid(), assetFileName ) ) );
-                        assets.add( xmlAsset );
+                        assetsWriter.write( xmlAsset, exportAssetHistory( ExportContext.create( jcrModule, row.getUuid(), assetFileName ) ) );
                     }
                 }
             } catch (SerializationException e) {
                 logger.error("SerializationException exporting asset {} from module {}!", assetName, jcrModule.getName(), e);
+                closeQuietly( assetsWriter );
                 return false;
             } catch (Exception e) {
                 logger.error("Exception exporting asset {} from module {}!", assetName, jcrModule.getName(), e);
+                closeQuietly( assetsWriter );
                 return false;
             }
 
@@ -258,12 +267,23 @@ public class ModuleAssetExporter {
                 startRowIndex += pageSize;
             }
         }
-        xmlAssetsFormat.format( xml, new XmlAssets( assets ) );
-        pw.print( xml.toString() );
-        pw.close();
+        try {
+            assetsWriter.close();
+        } catch ( IOException e ) {
+            logger.error("Can't write file for {}!", assetFileName, e);
+            return false;
+        }
         return true;
     }
 
+    private void closeQuietly( XmlAssetsWriter assetsWriter ) {
+        try {
+            assetsWriter.close();
+        } catch ( IOException e ) {
+            logger.warn("Can't close asset export file!", e);
+        }
+    }
+
     private XmlAsset export( ExportContext exportContext ) {
         String name = exportContext.getJcrAssetItem().getName();
         String format = exportContext.getJcrAssetItem().getFormat();
@@ -327,44 +347,72 @@ public class ModuleAssetExporter {
         }
     }
 
-    private XmlAssets exportAssetHistory( ExportContext historyContext ) throws SerializationException {
-        XmlAssets xmlAssets = new XmlAssets();
-
+    // The history versions are only loaded and exported when the returned iterator reaches them
+    private Iterator<XmlAsset> exportAssetHistory( final ExportContext historyContext ) throws SerializationException {
         //loadItemHistory wont return the current version
-        String currentVersionAssetName="";
+        final TableDataRow[] rows;
         try {
             TableDataResult history = jcrRepositoryAssetService.loadItemHistory( historyContext.getAssetUUID() );
-            TableDataRow[] rows = history.data;
-            Arrays.sort( rows,
-                    new Comparator<TableDataRow>() {
-                        public int compare( TableDataRow r1,
-                                TableDataRow r2 ) {
-                            Integer v2 = Integer.valueOf( r2.values[ 0 ] );
-                            Integer v1 = Integer.valueOf( r1.values[ 0 ] );
-
-                            return v1.compareTo( v2 );
-                        }
-                    } );
-
-            String historicalAssetExportFileName = "h_" + historyContext.getAssetExportFileName();
-            for (TableDataRow row : rows) {
-                AssetItem historicalAssetJCR = rulesRepository.loadAssetByUUID( row.id );
-                currentVersionAssetName = historicalAssetJCR.getName();
-
-                ExportContext historicalAssetExportContext = ExportContext.create( historyContext.getJcrModule(),
-                                                                                        historicalAssetJCR,
-                                                                                        historicalAssetExportFileName );
-                xmlAssets.addAsset( export( historicalAssetExportContext ) );
-
-                logger.info( "    Asset [{}.{}] migrated: version [{}], comment [{}], lastModified [{}]",
-                        historicalAssetJCR.getName(), historicalAssetJCR.getFormat(), historicalAssetJCR.getVersionNumber(),
-                        historicalAssetJCR.getCheckinComment(), historicalAssetJCR.getLastModified().getTime() );
-            }
+            rows = history.data;
         } catch ( RuntimeException e ){
-            logger.error( "Exception migrating assetHistory at version {} from module {}!", currentVersionAssetName,
-                    historyContext.getJcrModule().getName() );
+            logger.error( "Exception migrating assetHistory from module {}!", historyContext.getJcrModule().getName() );
+            return Collections.<XmlAsset>emptyList().iterator();
         }
-        return  xmlAssets;
+        Arrays.sort( rows,
+                new Comparator<TableDataRow>() {
+                    public int compare( TableDataRow r1,
+                            TableDataRow r2 ) {
+                        Integer v2 = Integer.valueOf( r2.values[ 0 ] );
+                        Integer v1 = Integer.valueOf( r1.values[ 0 ] );
+
+                        return v1.compareTo( v2 );
+                    }
+                } );
+
+        final String historicalAssetExportFileName = "h_" + historyContext.getAssetExportFileName();
+        return new Iterator<XmlAsset>() {
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < rows.length;
+            }
+
+            @Override
+            public XmlAsset next() {
+                if ( !hasNext() ) throw new NoSuchElementException();
+
+                TableDataRow row = rows[ index++ ];
+                String currentVersionAssetName = "";
+                try {
+                    AssetItem historicalAssetJCR = rulesRepository.loadAssetByUUID( row.id );
+                    currentVersionAssetName = historicalAssetJCR.getName();
+
+                    ExportContext historicalAssetExportContext = ExportContext.create( historyContext.getJcrModule(),
+                                                                                            historicalAssetJCR,
+                                                                                            historicalAssetExportFileName );
+                    XmlAsset xmlAsset = export( historicalAssetExportContext );
+
+                    logger.info( "    Asset [{}.{}] migrated: version [{}], comment [{}], lastModified [{}]",
+                            historicalAssetJCR.getName(), historicalAssetJCR.getFormat(), historicalAssetJCR.getVersionNumber(),
+                            historicalAssetJCR.getCheckinComment(), historicalAssetJCR.getLastModified().getTime() );
+                    return xmlAsset;
+
+                } catch ( RuntimeException e ){
+                    logger.error( "Exception migrating assetHistory at version {} from module {}!", currentVersionAssetName,
+                            historyContext.getJcrModule().getName() );
+                    // As before, the remaining history of the asset is not exported
+                    index = rows.length;
+                    return new IgnoredAsset();
+                }
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
     }
 
     // Attempt creation of the asset export file firstly with the module's uuid. If this were null or the file could not
@@ -16,6 +16,7 @@
 package org.drools.workbench.jcr2vfsmigration;
 
 import org.drools.workbench.jcr2vfsmigration.common.FileManager;
+import org.drools.workbench.jcr2vfsmigration.common.MigrationCheckpoint;
 import org.drools.workbench.jcr2vfsmigration.config.VfsImportConfig;
 import org.drools.workbench.jcr2vfsmigration.util.MigrationPathManager;
 import org.drools.workbench.jcr2vfsmigration.vfsImport.ModuleAssetImporter;
@@ -36,6 +37,9 @@ public class VfsImporter {
     @Inject
     private FileManager fileManager;
 
+    @Inject
+    private MigrationCheckpoint checkpoint;
+
     @Inject
     protected MigrationPathManager migrationPathManager;
 
@@ -44,7 +48,15 @@ public class VfsImporter {
 
     public boolean parseArgs( String[] args ) {
         boolean ok = vfsImportConfig.parseArgs( args );
-        if ( ok ) fileManager.setExportTempDir( vfsImportConfig.getImportTempDir() );
+        if ( ok ) {
+            fileManager.setExportTempDir( vfsImportConfig.getImportTempDir() );
+            try {
+                checkpoint.open( vfsImportConfig.getImportTempDir(), "import", vfsImportConfig.isContinueImport() );
+            } catch ( IOException e ) {
+                logger.error( "The import checkpoint in ({}) could not be opened!", vfsImportConfig.getImportTempDir(), e );
+                return false;
+            }
+        }
         return ok;
     }
 
@@ -62,7 +74,11 @@ public class VfsImporter {
         //   - Migrate Guvnor package based permissions: admin/package.admin/package.developer/package.readonly
         //     (and don't forget to migrate category based permission, ie, analyst/analyst.readonly)
 
-        moduleAssetImporter.importAll();
+        try {
+            moduleAssetImporter.importAll();
+        } finally {
+            checkpoint.close();
+        }
     }
 
     private String getVfsRepoCanonicalPath(VfsImportConfig config) {
@@ -42,6 +42,8 @@ public class VfsImportConfig {
 
     private String outputRepoName;
 
+    private boolean continueImport;
+
     public File getImportTempDir() {
         return importTempDir;
     }
@@ -54,6 +56,10 @@ public class VfsImportConfig {
         return outputRepoName;
     }
 
+    public boolean isContinueImport() {
+        return continueImport;
+    }
+
     // ************************************************************************
     // Configuration methods
     // ************************************************************************
@@ -65,6 +71,7 @@ public class VfsImportConfig {
         options.addOption( "o", "outputVfsRepository", true, "The Guvnor 6 VFS repository" );
         options.addOption( "r", "repoName", true, "The Guvnor 6 VFS Repository name" );
         options.addOption( "f", "forceOverwriteOutputVfsRepository", false, "Force overwriting the Guvnor 6 VFS repository" );
+        options.addOption( "c", "continueImport", false, "Continue an interrupted import into the existing Guvnor 6 VFS repository" );
 
         CommandLine commandLine;
         HelpFormatter formatter = new HelpFormatter();
@@ -101,7 +108,8 @@ public class VfsImportConfig {
         outputRepoName = commandLine.getOptionValue( "r", DEFAULT_MIGRATION_FILE_SYSTEM );
         outputVfsRepository = new File( commandLine.getOptionValue( "o", "outputVfs" ) );
         boolean forceOverwriteOutputVfsRepository = commandLine.hasOption( "f" );
-        if ( outputVfsRepository.exists() ) {
+        continueImport = commandLine.hasOption( "c" );
+        if ( outputVfsRepository.exists() && !continueImport ) {
             if ( forceOverwriteOutputVfsRepository ) {
                 try {
                     FileUtils.deleteDirectory( outputVfsRepository );
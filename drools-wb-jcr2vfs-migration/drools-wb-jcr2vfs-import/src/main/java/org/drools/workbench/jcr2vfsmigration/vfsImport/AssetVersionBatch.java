@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.vfsImport;
+
+import java.util.function.Supplier;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.drools.workbench.jcr2vfsmigration.util.MigrationPathManager;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAsset;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.base.options.CommentedOption;
+
+/**
+ * Writes the files of one imported asset version in one batch of the migration file system.
+ * <p>
+ * The git file system makes a single commit of everything written in a batch, with the author, comment and date the
+ * batch was started with. So a batch never holds more than one version, or the history the migration exists to
+ * preserve would be lost. Within a version, the move of a renamed asset and the write of its content become one commit
+ * instead of two, and the change events (and the indexing they trigger) are sent once, when the version is written.
+ */
+@ApplicationScoped
+public class AssetVersionBatch {
+
+    @Inject
+    @Named("ioStrategy")
+    private IOService ioService;
+
+    @Inject
+    private MigrationPathManager migrationPathManager;
+
+    public AssetVersionBatch() {
+    }
+
+    AssetVersionBatch( IOService ioService,
+                       MigrationPathManager migrationPathManager ) {
+        this.ioService = ioService;
+        this.migrationPathManager = migrationPathManager;
+    }
+
+    public <T> T write( XmlAsset version,
+                        Supplier<T> writes ) {
+        ioService.startBatch( migrationPathManager.getFileSystem(),
+                              new CommentedOption( version.getLastContributor(),
+                                                   null,
+                                                   version.getCheckinComment(),
+                                                   version.getLastModified() ) );
+        try {
+            return writes.get();
+        } finally {
+            ioService.endBatch();
+        }
+    }
+}
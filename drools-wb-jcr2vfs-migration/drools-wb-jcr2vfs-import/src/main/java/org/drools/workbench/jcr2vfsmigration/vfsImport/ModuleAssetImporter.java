@@ -15,19 +15,19 @@
  */
 package org.drools.workbench.jcr2vfsmigration.vfsImport;
 
-import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.URI;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.drools.workbench.jcr2vfsmigration.common.FileManager;
+import org.drools.workbench.jcr2vfsmigration.common.MigrationCheckpoint;
 import org.drools.workbench.jcr2vfsmigration.util.MigrationPathManager;
 import org.drools.workbench.jcr2vfsmigration.util.PackageImportHelper;
 import org.drools.workbench.jcr2vfsmigration.vfsImport.asset.AttachmentAssetImporter;
@@ -38,17 +38,16 @@ import org.drools.workbench.jcr2vfsmigration.vfsImport.asset.GuidedScoreCardImpo
 import org.drools.workbench.jcr2vfsmigration.vfsImport.asset.PlainTextAssetImporter;
 import org.drools.workbench.jcr2vfsmigration.vfsImport.asset.PlainTextAssetWithPackagePropertyImporter;
 import org.drools.workbench.jcr2vfsmigration.vfsImport.asset.TestScenarioImporter;
-import org.drools.workbench.jcr2vfsmigration.xml.format.ModulesXmlFormat;
-import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetsFormat;
+import org.drools.workbench.jcr2vfsmigration.xml.format.ModulesXmlReader;
+import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetsReader;
 import org.drools.workbench.jcr2vfsmigration.xml.model.Module;
-import org.drools.workbench.jcr2vfsmigration.xml.model.Modules;
+import org.drools.workbench.jcr2vfsmigration.xml.model.ModuleType;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.AttachmentAsset;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.BusinessRuleAsset;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.DataModelAsset;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.GuidedDecisionTableAsset;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.PlainTextAsset;
 import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAsset;
-import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAssets;
 import org.guvnor.common.services.project.model.GAV;
 import org.guvnor.common.services.project.model.MavenRepositoryMetadata;
 import org.guvnor.common.services.project.model.POM;
@@ -60,10 +59,6 @@ import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.io.IOService;
 import org.uberfire.java.nio.base.options.CommentedOption;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 
 @ApplicationScoped
 public class ModuleAssetImporter {
@@ -76,9 +71,15 @@ public class ModuleAssetImporter {
     @Inject
     private FileManager fileManager;
 
+    @Inject
+    private MigrationCheckpoint checkpoint;
+
     @Inject
     private MigrationPathManager migrationPathManager;
 
+    @Inject
+    private AssetVersionBatch assetVersionBatch;
+
     @Inject
     private PackageImportHelper packageImportHelper;
 
@@ -113,32 +114,23 @@ public class ModuleAssetImporter {
     @Inject
     private AttachmentAssetImporter attachmentAssetImporter;
 
-    private ModulesXmlFormat modulesXmlFormat = new ModulesXmlFormat();
-    private XmlAssetsFormat xmlAssetsFormat = new XmlAssetsFormat();
-
     public void importAll() {
         logger.info( "  Module import started" );
-        Document xml;
-        try {
-            File modulesXmlFile = fileManager.getModulesExportFile();
-
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            xml = db.parse( modulesXmlFile );
-            NodeList children = xml.getChildNodes();
-            if ( children.getLength() > 1 ) {
-                throw new Exception( "Wrong modules.xml format" );
-            }
-
-            Modules modules = modulesXmlFormat.parse( children.item( 0 ) );
-
-            // import 'normal' modules
-            for ( Iterator<Module> moduleIterator = modules.getModules().iterator(); moduleIterator.hasNext(); ) {
-                importModule( moduleIterator.next() );
+        try ( ModulesXmlReader modules = new ModulesXmlReader( new FileInputStream( fileManager.getModulesExportFile() ) ) ) {
+            Module globalModule = null;
+
+            // import 'normal' modules as they are read
+            while ( modules.hasNext() ) {
+                Module module = modules.next();
+                if ( ModuleType.GLOBAL.equals( module.getType() ) ) {
+                    globalModule = module;
+                } else {
+                    importModule( module );
+                }
             }
 
             // import 'global' module
-            importModule( modules.getGlobalModule() );
+            importModule( globalModule );
         } catch ( Exception e ) {
             e.printStackTrace();
         }
@@ -147,6 +139,11 @@ public class ModuleAssetImporter {
     }
 
     private void importModule( Module module ) {
+        String moduleStep = "import.module." + module.getUuid();
+        if ( checkpoint.isDone( moduleStep ) ) {
+            logger.info("    Module [{}] (UUID={}) already imported", module.getName(), module.getUuid());
+            return;
+        }
         logger.info("    Importing module [{}] (UUID={})", module.getName(), module.getUuid());
         //Set up project structure:
         String normalizedModuleName = module.getNormalizedPackageName();
@@ -167,12 +164,17 @@ public class ModuleAssetImporter {
         POM pom = new POM( gav );
         pom.setName( normalizedModuleName );
         Path modulePath = migrationPathManager.generateRootPath();
-        try {
-            projectService.newProject( modulePath,
-                                       pom,
-                                       "http://localhost" );
-        } catch ( GAVAlreadyExistsException gae ) {
-            logger.warn( "Project's GAV [{}] already exists at [{}]!", pom.getGav(), toString( gae.getRepositories() ), gae );
+        // The project was already set up if an interrupted run started importing its assets
+        String assetsStep = "import.assets." + module.getUuid();
+        if ( !checkpoint.isDone( assetsStep ) ) {
+            try {
+                projectService.newProject( modulePath,
+                                           pom,
+                                           "http://localhost" );
+            } catch ( GAVAlreadyExistsException gae ) {
+                logger.warn( "Project's GAV [{}] already exists at [{}]!", pom.getGav(), toString( gae.getRepositories() ), gae );
+            }
+            checkpoint.record( assetsStep, "0" );
         }
 
         try {
@@ -186,6 +188,7 @@ public class ModuleAssetImporter {
         // Import globals
         String globals = module.getGlobalsString();
         if ( globals == null || "".equals( globals ) ) {
+            checkpoint.record( moduleStep, "" );
             return;
         }
 
@@ -203,6 +206,7 @@ public class ModuleAssetImporter {
                                               module.getCheckinComment(),
                                               module.getLastModified() )
                        );
+        checkpoint.record( moduleStep, "" );
     }
 
     private String toString( final Set<MavenRepositoryMetadata> repositories ) {
@@ -215,43 +219,49 @@ public class ModuleAssetImporter {
         return sb.toString();
     }
 
-    private void importAssets( Module module ) throws IOException, SAXException, ParserConfigurationException {
-        Document xml;
-        File assetsXmlFile = fileManager.getAssetExportFile(module.getAssetExportFileName());
-
-        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        DocumentBuilder db = dbf.newDocumentBuilder();
-        xml = db.parse(assetsXmlFile);
-        NodeList rootNodeList = xml.getChildNodes();
-        if (rootNodeList.getLength() > 1) {
-            throw new RuntimeException("Wrong asset file XML format!");
-        }
-        Node assetsNode = rootNodeList.item(0);
-
-        XmlAssets xmlAssets = xmlAssetsFormat.parse(assetsNode);
-
-        for (XmlAsset xmlAsset : xmlAssets.getAssets()) {
-            if (xmlAsset == null) {
-                logger.warn("      Skipping null asset during import.");
-                continue;
-            }
-            logger.info("      Importing asset [{}.{}].", xmlAsset.getName(), xmlAsset.getAssetType());
-            try {
-                importAssetHistory(module, xmlAsset);
-                importAsset(module, xmlAsset, null);
-            } catch (Exception e) {
-                // just log error and continue importing the rest of the assets
-                // it is better to at least try to import the rest as there is a high chance that the other assets
-                // will be imported successfully
-                logger.error("Exception while importing asset [{}.{}].", xmlAsset.getName(), xmlAsset.getAssetType(), e);
+    // Assets are read and imported one at a time, so the size of the asset file does not matter.
+    // The number of assets handled is recorded after each one, and those an interrupted run already handled are skipped.
+    private void importAssets( Module module ) throws IOException, XMLStreamException {
+        String assetsStep = "import.assets." + module.getUuid();
+        String imported = checkpoint.get( assetsStep );
+        int assetIndex = 0;
+        int importedAssets = imported != null ? Integer.parseInt( imported ) : 0;
+        if ( importedAssets > 0 ) logger.info("      Continuing after {} assets already imported.", importedAssets);
+
+        try (XmlAssetsReader xmlAssets = new XmlAssetsReader(new FileInputStream(fileManager.getAssetExportFile(module.getAssetExportFileName())))) {
+            while (xmlAssets.hasNext()) {
+                XmlAsset xmlAsset = xmlAssets.next();
+                if (assetIndex++ < importedAssets) continue;
+                if (xmlAsset == null) {
+                    logger.warn("      Skipping null asset during import.");
+                    continue;
+                }
+                logger.info("      Importing asset [{}.{}].", xmlAsset.getName(), xmlAsset.getAssetType());
+                try {
+                    importAssetVersions(module, assetIndex, xmlAssets.history(), xmlAsset);
+                } catch (Exception e) {
+                    // just log error and continue importing the rest of the assets
+                    // it is better to at least try to import the rest as there is a high chance that the other assets
+                    // will be imported successfully
+                    logger.error("Exception while importing asset [{}.{}].", xmlAsset.getName(), xmlAsset.getAssetType(), e);
+                }
+                checkpoint.record(assetsStep, Integer.toString(assetIndex));
             }
         }
     }
 
 
+    // Each version is written in a batch of its own, see AssetVersionBatch
     private Path importAsset( Module module,
                               XmlAsset xmlAsset,
                               Path previousVersionPath ) {
+        return assetVersionBatch.write( xmlAsset,
+                                        () -> importAssetVersion( module, xmlAsset, previousVersionPath ) );
+    }
+
+    private Path importAssetVersion( Module module,
+                                     XmlAsset xmlAsset,
+                                     Path previousVersionPath ) {
         switch ( xmlAsset.getAssetType() ) {
             case DRL_MODEL:
                 return factModelImporter.importAsset( module, (DataModelAsset) xmlAsset, previousVersionPath );
@@ -306,16 +316,36 @@ public class ModuleAssetImporter {
         }
     }
 
-    private void importAssetHistory( Module module,
-                                     XmlAsset xmlAsset ) {
+    // Every version is a commit of its own, so the versions already written are recorded as well: a run interrupted
+    // in the middle of an asset's history continues after the last version written instead of committing it twice.
+    // The value is "assetIndex:versionsWritten:previousVersionUri" of the asset being imported.
+    private void importAssetVersions( Module module,
+                                      int assetIndex,
+                                      Iterator<XmlAsset> history,
+                                      XmlAsset xmlAsset ) {
+        String versionsStep = "import.versions." + module.getUuid();
+        int writtenVersions = 0;
         Path previousVersionPath = null;
-        XmlAssets history = xmlAsset.getAssetHistory();
-        if ( history == null || history.getAssets().size() == 0 ) {
-            return;
+        String written = checkpoint.get( versionsStep );
+        if ( written != null ) {
+            String[] values = written.split( ":", 3 );
+            if ( Integer.parseInt( values[ 0 ] ) == assetIndex ) {
+                writtenVersions = Integer.parseInt( values[ 1 ] );
+                previousVersionPath = values[ 2 ].isEmpty() ? null : paths.convert( ioService.get( URI.create( values[ 2 ] ) ) );
+                logger.info( "      Continuing after {} versions already imported.", writtenVersions );
+            }
         }
-        for ( XmlAsset hAsset : history.getAssets() ) {
-            previousVersionPath = importAsset( module, hAsset, previousVersionPath );
+
+        int version = 0;
+        while ( history.hasNext() ) {
+            XmlAsset historyAsset = history.next();
+            if ( version++ < writtenVersions ) continue;
+            previousVersionPath = importAsset( module, historyAsset, previousVersionPath );
+            checkpoint.record( versionsStep, assetIndex + ":" + version + ":" + ( previousVersionPath != null ? previousVersionPath.toURI() : "" ) );
         }
+        if ( version++ < writtenVersions ) return;
+        importAsset( module, xmlAsset, null );
+        checkpoint.record( versionsStep, assetIndex + ":" + version + ":" );
     }
 
 }
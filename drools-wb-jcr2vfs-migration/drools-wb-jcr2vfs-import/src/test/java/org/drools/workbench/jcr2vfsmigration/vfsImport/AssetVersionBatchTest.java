@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.jcr2vfsmigration.vfsImport;
+
+import java.net.URI;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.workbench.jcr2vfsmigration.util.MigrationPathManager;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.PlainTextAsset;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uberfire.io.IOService;
+import org.uberfire.io.impl.IOServiceDotFileImpl;
+import org.uberfire.java.nio.base.options.CommentedOption;
+import org.uberfire.java.nio.base.version.VersionAttributeView;
+import org.uberfire.java.nio.base.version.VersionRecord;
+import org.uberfire.java.nio.file.FileSystem;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.file.StandardCopyOption;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Writes asset versions the way the asset importers do, on a git file system.
+ */
+public class AssetVersionBatchTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private IOService ioService;
+
+    private FileSystem fileSystem;
+
+    private AssetVersionBatch assetVersionBatch;
+
+    @Before
+    public void setup() throws Exception {
+        ioService = new IOServiceDotFileImpl();
+        fileSystem = ioService.newFileSystem( URI.create( "git://asset-version-batch-test" ),
+                                              new HashMap<String, Object>() {{
+                                                  put( "out-dir", temporaryFolder.getRoot().getAbsolutePath() );
+                                                  put( "init", true );
+                                              }} );
+
+        MigrationPathManager migrationPathManager = mock( MigrationPathManager.class );
+        when( migrationPathManager.getFileSystem() ).thenReturn( fileSystem );
+
+        assetVersionBatch = new AssetVersionBatch( ioService, migrationPathManager );
+    }
+
+    @After
+    public void tearDown() {
+        ioService.dispose();
+    }
+
+    @Test
+    public void testEveryVersionKeepsItsAuthorCommentAndDate() {
+        Path path = fileSystem.getPath( "/src/main/resources/rule.drl" );
+
+        PlainTextAsset first = drl( "alice", "first version", new Date( 1000000000000L ) );
+        PlainTextAsset second = drl( "bob", "second version", new Date( 1100000000000L ) );
+        PlainTextAsset third = drl( "carol", "third version", new Date( 1200000000000L ) );
+
+        write( first, null, path );
+        write( second, path, path );
+        write( third, path, path );
+
+        List<VersionRecord> records = history( path );
+        assertEquals( 3, records.size() );
+        assertVersion( first, records );
+        assertVersion( second, records );
+        assertVersion( third, records );
+    }
+
+    @Test
+    public void testRenameIsOneCommitOfTheVersion() {
+        Path oldPath = fileSystem.getPath( "/src/main/resources/old.drl" );
+        Path newPath = fileSystem.getPath( "/src/main/resources/new.drl" );
+
+        PlainTextAsset first = drl( "alice", "first version", new Date( 1000000000000L ) );
+        PlainTextAsset renamed = drl( "bob", "renamed", new Date( 1100000000000L ) );
+
+        write( first, null, oldPath );
+        write( renamed, oldPath, newPath );
+
+        assertFalse( ioService.exists( oldPath ) );
+        List<VersionRecord> records = history( newPath );
+        assertEquals( 1, records.size() );
+        assertVersion( renamed, records );
+    }
+
+    // Same writes as the asset importers: move a renamed asset, then write the content with the version's details
+    private void write( PlainTextAsset version,
+                        Path previousVersionPath,
+                        Path path ) {
+        assetVersionBatch.write( version, () -> {
+            if ( previousVersionPath != null && !previousVersionPath.equals( path ) ) {
+                ioService.move( previousVersionPath, path, StandardCopyOption.REPLACE_EXISTING );
+            }
+            return ioService.write( path,
+                                    version.getContent(),
+                                    (Map<String, ?>) null,
+                                    new CommentedOption( version.getLastContributor(),
+                                                         null,
+                                                         version.getCheckinComment(),
+                                                         version.getLastModified() ) );
+        } );
+    }
+
+    private List<VersionRecord> history( Path path ) {
+        return Files.getFileAttributeView( path, VersionAttributeView.class )
+                .readAttributes()
+                .history()
+                .records();
+    }
+
+    private void assertVersion( PlainTextAsset version,
+                                List<VersionRecord> records ) {
+        for ( VersionRecord record : records ) {
+            if ( version.getCheckinComment().equals( record.comment() ) ) {
+                assertEquals( version.getLastContributor(), record.author() );
+                // Git keeps the commit time in seconds
+                assertEquals( version.getLastModified().getTime() / 1000, record.date().getTime() / 1000 );
+                return;
+            }
+        }
+        fail( "No commit for version '" + version.getCheckinComment() + "'" );
+    }
+
+    private PlainTextAsset drl( String author,
+                                String comment,
+                                Date date ) {
+        return new PlainTextAsset( "rule", "drl", author, comment, date, "rule \"" + comment + "\" when then end" );
+    }
+}
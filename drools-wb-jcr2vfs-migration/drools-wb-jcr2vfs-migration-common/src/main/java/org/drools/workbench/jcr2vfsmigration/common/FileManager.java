@@ -82,6 +82,14 @@ public class FileManager {
         return getFile( fileName + XML_EXTENSION );
     }
 
+    /**
+     * Removes an asset file left behind by an interrupted export, so that it can be created again.
+     */
+    public boolean deleteAssetExportFile( String fileName ) {
+        File f = new File( tempDir, fileName + XML_EXTENSION );
+        return !f.exists() || f.delete();
+    }
+
     public boolean writeBinaryContent( String fileName, byte[] bytes ) {
         if ( fileName == null ) return false;
         File bFile = new File( binDir, fileName );
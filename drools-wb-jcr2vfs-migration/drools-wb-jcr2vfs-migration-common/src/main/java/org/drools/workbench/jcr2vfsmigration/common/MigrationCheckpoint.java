@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.common;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.slf4j.Logger;
+
+/**
+ * Durable record of the steps an export or import has completed, kept in the temporary directory, so that an
+ * interrupted run can be continued where it stopped instead of starting over.
+ * <p>
+ * Each step is appended to the checkpoint file as a "step&lt;TAB&gt;value" line, and synced to disk before the next
+ * step starts. When a step is recorded several times the last value wins.
+ */
+@ApplicationScoped
+public class MigrationCheckpoint {
+
+    private static final Logger logger = org.slf4j.LoggerFactory.getLogger(MigrationCheckpoint.class);
+
+    private static final String CHECKPOINT_EXTENSION = ".checkpoint";
+    private static final String SEPARATOR = "\t";
+
+    private final Map<String, String> steps = new HashMap<String, String>();
+
+    private FileOutputStream out;
+    private Writer writer;
+
+    public MigrationCheckpoint() {
+    }
+
+    /**
+     * @param tempDir the temporary export or import directory
+     * @param name name of the checkpoint file, e.g. "export"
+     * @param resume whether to continue from the steps recorded by a previous run; if not, they are discarded
+     */
+    public synchronized void open( File tempDir, String name, boolean resume ) throws IOException {
+        close();
+        steps.clear();
+
+        File file = new File( tempDir, name + CHECKPOINT_EXTENSION );
+        if ( resume && file.exists() ) {
+            load( file );
+            logger.info( "Continuing from {} steps recorded in {}.", steps.size(), file.getAbsolutePath() );
+        }
+
+        // The recorded steps are written again, one per line, which also drops a line cut short by the interruption
+        out = new FileOutputStream( file, false );
+        writer = new OutputStreamWriter( out, StandardCharsets.UTF_8 );
+        for ( Map.Entry<String, String> step : steps.entrySet() ) {
+            writer.write( step.getKey() + SEPARATOR + step.getValue() + "\n" );
+        }
+        writer.flush();
+        out.getFD().sync();
+    }
+
+    public synchronized boolean isDone( String step ) {
+        return steps.containsKey( step );
+    }
+
+    public synchronized String get( String step ) {
+        return steps.get( step );
+    }
+
+    public synchronized void record( String step, String value ) {
+        if ( step.contains( SEPARATOR ) || value.contains( "\n" ) ) throw new IllegalArgumentException( "Invalid checkpoint step " + step );
+        steps.put( step, value );
+        if ( writer == null ) return;
+
+        try {
+            writer.write( step + SEPARATOR + value + "\n" );
+            writer.flush();
+            out.getFD().sync();
+        } catch ( IOException e ) {
+            // The migration itself is not affected; only continuing it after an interruption is
+            logger.error( "Error while recording checkpoint step {}!", step, e );
+        }
+    }
+
+    public synchronized void close() {
+        if ( writer == null ) return;
+        try {
+            writer.close();
+        } catch ( IOException e ) {
+            logger.error( "Error while closing checkpoint file!", e );
+        }
+        writer = null;
+        out = null;
+    }
+
+    private void load( File file ) throws IOException {
+        String content = new String( Files.readAllBytes( file.toPath() ), StandardCharsets.UTF_8 );
+        // A last line without its line break was cut short by the interruption, so it is ignored
+        int end = content.lastIndexOf( '\n' );
+        if ( end < 0 ) return;
+        for ( String line : content.substring( 0, end ).split( "\n" ) ) {
+            int separator = line.indexOf( SEPARATOR );
+            if ( separator > 0 ) {
+                steps.put( line.substring( 0, separator ), line.substring( separator + 1 ) );
+            }
+        }
+    }
+}
@@ -45,11 +45,16 @@ public abstract class AbstractXmlAssetFormat implements XmlFormat<XmlAsset> {
 
         if ( AssetType.IGNORED.equals( xmlAsset.getAssetType() ) ) return;
 
+        formatAssetHead( sb, xmlAsset );
+        formatAssetEnd( sb, xmlAsset );
+    }
+
+    // Formats the asset up to its history, so that the history can be streamed after it (see XmlAssetsWriter)
+    void formatAssetHead( StringBuilder sb, XmlAsset xmlAsset ) {
         initialize();
 
         formatAssetStart( sb, xmlAsset );
         sb.append( formatAssetAsString( xmlAsset ) );
-        formatAssetEnd( sb, xmlAsset );
     }
 
     @Override
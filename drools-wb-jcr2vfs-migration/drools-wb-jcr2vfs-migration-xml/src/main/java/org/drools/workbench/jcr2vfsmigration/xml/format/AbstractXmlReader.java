@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.xml.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Pull-parses a list element (e.g. "assets") and returns its child elements one at a time. Only the child element
+ * being returned is turned into a DOM node, so that the existing {@link XmlFormat} parsing can be reused without
+ * holding the whole document in memory.
+ */
+public abstract class AbstractXmlReader<T> implements Iterator<T>, Closeable {
+
+    private static final String REPORT_CDATA = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+    protected final XMLStreamReader reader;
+
+    private final InputStream in;
+    private final String listName;
+    private final String elementName;
+    private final DocumentBuilder documentBuilder;
+
+    private boolean atElement = false;
+    private boolean finished = false;
+
+    protected AbstractXmlReader( InputStream in, String listName, String elementName ) throws XMLStreamException {
+        if ( in == null ) throw new IllegalArgumentException( "No input specified" );
+        this.in = in;
+        this.listName = listName;
+        this.elementName = elementName;
+
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty( XMLInputFactory.IS_COALESCING, false );
+        factory.setProperty( XMLInputFactory.SUPPORT_DTD, false );
+        // The formats expect the content as CData sections, like the DOM parser reports it
+        if ( factory.isPropertySupported( REPORT_CDATA ) ) factory.setProperty( REPORT_CDATA, true );
+        this.reader = factory.createXMLStreamReader( in );
+
+        try {
+            this.documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        } catch ( ParserConfigurationException e ) {
+            throw new IllegalStateException( e );
+        }
+
+        if ( reader.nextTag() != XMLStreamConstants.START_ELEMENT || !listName.equals( reader.getLocalName() ) ) {
+            throw new IllegalArgumentException( "Wrong " + listName + " xml format" );
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if ( atElement ) return true;
+        if ( finished ) return false;
+
+        try {
+            beforeNextElement();
+            if ( reader.nextTag() == XMLStreamConstants.START_ELEMENT ) {
+                if ( !elementName.equals( reader.getLocalName() ) ) throw new IllegalArgumentException( "Wrong " + listName + " xml format: " + reader.getLocalName() );
+                atElement = true;
+            } else {
+                finished = true;
+            }
+        } catch ( XMLStreamException e ) {
+            throw new IllegalStateException( "Wrong " + listName + " xml format", e );
+        }
+        return atElement;
+    }
+
+    @Override
+    public T next() {
+        if ( !hasNext() ) throw new NoSuchElementException();
+        atElement = false;
+
+        try {
+            return readNext();
+        } catch ( XMLStreamException e ) {
+            throw new IllegalStateException( "Wrong " + listName + " xml format", e );
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch ( XMLStreamException e ) {
+            throw new IOException( e );
+        } finally {
+            in.close();
+        }
+    }
+
+    // Called with the reader positioned at the start tag of the next element
+    protected abstract T readNext() throws XMLStreamException;
+
+    // Called before moving to the next element, with the reader where readNext() left it
+    protected void beforeNextElement() throws XMLStreamException {
+    }
+
+    protected Document newDocument() {
+        return documentBuilder.newDocument();
+    }
+
+    // Turns the element at the reader's position into a DOM element, up to its end tag or up to its first child
+    // element named stopAtChild, in which case the reader is left at that child's start tag.
+    protected Element readElement( Document document, Node parent, String stopAtChild ) throws XMLStreamException {
+        Element element = document.createElement( reader.getLocalName() );
+        for ( int i = 0; i < reader.getAttributeCount(); i++ ) {
+            element.setAttribute( reader.getAttributeLocalName( i ), reader.getAttributeValue( i ) );
+        }
+        parent.appendChild( element );
+
+        while ( true ) {
+            switch ( reader.next() ) {
+                case XMLStreamConstants.START_ELEMENT:
+                    if ( reader.getLocalName().equals( stopAtChild ) ) return element;
+                    readElement( document, element, null );
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    element.appendChild( document.createTextNode( reader.getText() ) );
+                    break;
+                case XMLStreamConstants.CDATA:
+                    element.appendChild( document.createCDATASection( reader.getText() ) );
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    return element;
+                default:
+                    break;
+            }
+        }
+    }
+
+    // Skips the element at the reader's position, up to and including its end tag
+    protected void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while ( depth > 0 ) {
+            switch ( reader.next() ) {
+                case XMLStreamConstants.START_ELEMENT: depth++; break;
+                case XMLStreamConstants.END_ELEMENT: depth--; break;
+                default: break;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.xml.format;
+
+import java.io.InputStream;
+import javax.xml.stream.XMLStreamException;
+
+import org.drools.workbench.jcr2vfsmigration.xml.model.Module;
+import org.w3c.dom.Document;
+
+/**
+ * Reads the xml written by {@link ModulesXmlFormat} or {@link ModulesXmlWriter} one module at a time.
+ */
+public class ModulesXmlReader extends AbstractXmlReader<Module> {
+
+    private final ModuleXmlFormat moduleXmlFormat = new ModuleXmlFormat();
+
+    public ModulesXmlReader( InputStream in ) throws XMLStreamException {
+        super( in, ModulesXmlFormat.MODULES, ModuleXmlFormat.MODULE );
+    }
+
+    @Override
+    protected Module readNext() throws XMLStreamException {
+        Document document = newDocument();
+        return moduleXmlFormat.parse( readElement( document, document, null ) );
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.xml.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+import org.drools.workbench.jcr2vfsmigration.xml.model.Module;
+
+import static org.drools.workbench.jcr2vfsmigration.xml.format.XmlFormat.*;
+
+/**
+ * Writes the same xml as {@link ModulesXmlFormat}, one module at a time, as soon as each module has been exported.
+ * Closing the writer ends the modules element and closes the underlying output.
+ */
+public class ModulesXmlWriter implements Closeable {
+
+    private final Writer writer;
+
+    private final ModuleXmlFormat moduleXmlFormat = new ModuleXmlFormat();
+
+    public ModulesXmlWriter( Writer writer ) throws IOException {
+        if ( writer == null ) throw new IllegalArgumentException( "No output specified" );
+        this.writer = writer;
+        writer.write( LT + ModulesXmlFormat.MODULES + GT );
+    }
+
+    public void write( Module module ) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        moduleXmlFormat.format( sb, module );
+        writer.write( sb.toString() );
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.write( LT_SLASH + ModulesXmlFormat.MODULES + GT );
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.xml.format;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAsset;
+import org.w3c.dom.Document;
+
+/**
+ * Reads the xml written by {@link XmlAssetsFormat} or {@link XmlAssetsWriter} one asset at a time.
+ * <p>
+ * The assets are returned without their history. The history of the asset last returned is read, one version at a
+ * time, through {@link #history()}; whatever part of it is not read is skipped when moving to the next asset.
+ */
+public class XmlAssetsReader extends AbstractXmlReader<XmlAsset> {
+
+    private final XmlAssetFormat xmlAssetFormat = new XmlAssetFormat();
+
+    private HistoryIterator history;
+
+    public XmlAssetsReader( InputStream in ) throws XMLStreamException {
+        super( in, XmlAssetsFormat.ASSETS, AbstractXmlAssetFormat.ASSET );
+    }
+
+    public Iterator<XmlAsset> history() {
+        if ( history == null ) throw new IllegalStateException( "No asset has been read" );
+        return history;
+    }
+
+    @Override
+    protected XmlAsset readNext() throws XMLStreamException {
+        Document document = newDocument();
+        XmlAsset xmlAsset = xmlAssetFormat.parse( readElement( document, document, AbstractXmlAssetFormat.ASSET_HISTORY ) );
+        history = new HistoryIterator( reader.isStartElement() );
+        return xmlAsset;
+    }
+
+    @Override
+    protected void beforeNextElement() throws XMLStreamException {
+        if ( history != null ) {
+            history.skip();
+        }
+    }
+
+    // Reads the content of the history element, up to the end tag of the asset
+    private class HistoryIterator implements Iterator<XmlAsset> {
+
+        private boolean started = false;
+        private boolean atAsset = false;
+        private boolean finished;
+
+        private HistoryIterator( boolean atHistory ) {
+            this.finished = !atHistory;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if ( atAsset ) return true;
+            if ( finished ) return false;
+
+            try {
+                if ( !started ) {
+                    started = true;
+                    if ( reader.nextTag() == XMLStreamConstants.END_ELEMENT ) {
+                        // Empty history element
+                        endAsset();
+                        return false;
+                    }
+                }
+                if ( reader.nextTag() == XMLStreamConstants.START_ELEMENT ) {
+                    atAsset = true;
+                } else {
+                    // End of the assets element, then of the history element
+                    reader.nextTag();
+                    endAsset();
+                }
+            } catch ( XMLStreamException e ) {
+                throw new IllegalStateException( "Wrong asset history xml format", e );
+            }
+            return atAsset;
+        }
+
+        @Override
+        public XmlAsset next() {
+            if ( !hasNext() ) throw new NoSuchElementException();
+            atAsset = false;
+
+            try {
+                Document document = newDocument();
+                return xmlAssetFormat.parse( readElement( document, document, null ) );
+            } catch ( XMLStreamException e ) {
+                throw new IllegalStateException( "Wrong asset history xml format", e );
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void skip() throws XMLStreamException {
+            while ( hasNext() ) {
+                skipElement();
+                atAsset = false;
+            }
+        }
+
+        private void endAsset() throws XMLStreamException {
+            reader.nextTag();
+            finished = true;
+        }
+    }
+}
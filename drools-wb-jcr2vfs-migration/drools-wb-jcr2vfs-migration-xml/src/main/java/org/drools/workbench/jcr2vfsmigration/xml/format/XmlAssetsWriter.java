@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.xml.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.AssetType;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAsset;
+
+import static org.drools.workbench.jcr2vfsmigration.xml.format.XmlFormat.*;
+
+/**
+ * Writes the same xml as {@link XmlAssetsFormat}, one asset at a time, so that only the asset being written needs to
+ * be held in memory. Closing the writer ends the assets element and closes the underlying output.
+ */
+public class XmlAssetsWriter implements Closeable {
+
+    private final Writer writer;
+
+    private final XmlAssetFormat xmlAssetFormat = new XmlAssetFormat();
+
+    public XmlAssetsWriter( Writer writer ) throws IOException {
+        if ( writer == null ) throw new IllegalArgumentException( "No output specified" );
+        this.writer = writer;
+        writer.write( LT + XmlAssetsFormat.ASSETS + GT );
+    }
+
+    public void write( XmlAsset xmlAsset ) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        xmlAssetFormat.format( sb, xmlAsset );
+        writer.write( sb.toString() );
+    }
+
+    // The history is written while it is iterated, so a historical version can be dropped as soon as it is written.
+    public void write( XmlAsset xmlAsset, Iterator<XmlAsset> history ) throws IOException {
+        if ( xmlAsset == null || history == null ) throw new IllegalArgumentException( "No asset or history specified" );
+
+        if ( AssetType.IGNORED.equals( xmlAsset.getAssetType() ) ) return;
+
+        StringBuilder sb = new StringBuilder();
+        xmlAssetFormat.formatAssetHead( sb, xmlAsset );
+        sb.append( LT ).append( AbstractXmlAssetFormat.ASSET_HISTORY ).append( GT );
+        writer.write( sb.toString() );
+
+        XmlAssetsWriter historyWriter = new XmlAssetsWriter( writer );
+        while ( history.hasNext() ) {
+            historyWriter.write( history.next() );
+        }
+        historyWriter.end();
+
+        writer.write( LT_SLASH + AbstractXmlAssetFormat.ASSET_HISTORY + GT + LT_SLASH + AbstractXmlAssetFormat.ASSET + GT );
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            end();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void end() throws IOException {
+        writer.write( LT_SLASH + XmlAssetsFormat.ASSETS + GT );
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+
+import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetsReader;
+import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetsWriter;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.PlainTextAsset;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAsset;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class XmlAssetsReaderTest {
+
+    @Test
+    public void testReadAssetsOneAtATime() throws Exception {
+        StringWriter xml = new StringWriter();
+        XmlAssetsWriter writer = new XmlAssetsWriter( xml );
+        writer.write( drl( "rule1", "current ]]> with nested cdata end" ),
+                      Arrays.<XmlAsset>asList( drl( "rule1", "version 1" ), drl( "rule1", "version 2" ) ).iterator() );
+        writer.write( drl( "rule2", "skipped history" ),
+                      Arrays.<XmlAsset>asList( drl( "rule2", "version 1" ) ).iterator() );
+        writer.write( drl( "rule3", "no history" ), new ArrayList<XmlAsset>().iterator() );
+        writer.close();
+
+        XmlAssetsReader reader = new XmlAssetsReader( new ByteArrayInputStream( xml.toString().getBytes( "UTF-8" ) ) );
+
+        assertTrue( reader.hasNext() );
+        PlainTextAsset rule1 = (PlainTextAsset) reader.next();
+        assertEquals( "rule1", rule1.getName() );
+        assertEquals( "current ]]> with nested cdata end", rule1.getContent() );
+        assertEquals( "comment", rule1.getCheckinComment() );
+        Iterator<XmlAsset> history = reader.history();
+        assertEquals( "version 1", ( (PlainTextAsset) history.next() ).getContent() );
+        assertEquals( "version 2", ( (PlainTextAsset) history.next() ).getContent() );
+        assertFalse( history.hasNext() );
+
+        // The history of rule2 is not read, so it is skipped
+        assertTrue( reader.hasNext() );
+        assertEquals( "rule2", reader.next().getName() );
+
+        assertTrue( reader.hasNext() );
+        assertEquals( "rule3", reader.next().getName() );
+        assertFalse( reader.history().hasNext() );
+
+        assertFalse( reader.hasNext() );
+        reader.close();
+    }
+
+    private XmlAsset drl( String name, String content ) {
+        return new PlainTextAsset( name, "drl", "admin", "comment", new Date( 0 ), content );
+    }
+}
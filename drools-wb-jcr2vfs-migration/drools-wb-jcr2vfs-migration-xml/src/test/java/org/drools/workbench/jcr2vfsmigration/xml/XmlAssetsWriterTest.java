@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.jcr2vfsmigration.xml;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetsFormat;
+import org.drools.workbench.jcr2vfsmigration.xml.format.XmlAssetsWriter;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.IgnoredAsset;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.PlainTextAsset;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAsset;
+import org.drools.workbench.jcr2vfsmigration.xml.model.asset.XmlAssets;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class XmlAssetsWriterTest {
+
+    @Test
+    public void testSameXmlAsAssetsFormat() throws Exception {
+        List<XmlAsset> history = Arrays.<XmlAsset>asList( drl( "rule1", "version 1" ),
+                                                          new IgnoredAsset(),
+                                                          drl( "rule1", "version 2 ]]> with nested cdata end" ) );
+
+        XmlAsset withHistory = drl( "rule1", "current" );
+        XmlAsset withoutHistory = drl( "rule2", "no history" );
+
+        StringWriter streamed = new StringWriter();
+        XmlAssetsWriter writer = new XmlAssetsWriter( streamed );
+        writer.write( withHistory, history.iterator() );
+        writer.write( withoutHistory, new ArrayList<XmlAsset>().iterator() );
+        writer.write( new IgnoredAsset(), history.iterator() );
+        writer.close();
+
+        withHistory.setAssetHistory( new XmlAssets( history ) );
+        withoutHistory.setAssetHistory( new XmlAssets() );
+        Collection<XmlAsset> assets = Arrays.asList( withHistory, withoutHistory, new IgnoredAsset() );
+        StringBuilder formatted = new StringBuilder();
+        new XmlAssetsFormat().format( formatted, new XmlAssets( assets ) );
+
+        assertEquals( formatted.toString(), streamed.toString() );
+    }
+
+    private XmlAsset drl( String name, String content ) {
+        return new PlainTextAsset( name, "drl", "admin", "comment", new Date( 0 ), content );
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.drools.decisiontable.InputType;
+import org.drools.decisiontable.SpreadsheetCompiler;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.file.StandardOpenOption;
+
+/**
+ * DRL generated from XLS and XLSX Decision Tables, by a hash of the content of the spreadsheet.
+ * <br>
+ * <br>
+ * A spreadsheet is only compiled again when its content changes. The least recently used DRL is
+ * dropped once the cached DRL exceeds {@link #MAX_CHARACTERS} characters in total.
+ */
+@ApplicationScoped
+public class DecisionTableXLSDrlCache {
+
+    static final long MAX_CHARACTERS = 16 * 1024 * 1024;
+
+    private IOService ioService;
+
+    private final Map<String, String> drlByContentHash = new LinkedHashMap<String, String>( 16,
+                                                                                            0.75f,
+                                                                                            true );
+    private long characters = 0;
+
+    public DecisionTableXLSDrlCache() {
+        //Zero-parameter constructor for CDI proxy
+    }
+
+    @Inject
+    public DecisionTableXLSDrlCache( final @Named("ioStrategy") IOService ioService ) {
+        this.ioService = ioService;
+    }
+
+    /**
+     * @param path
+     *         XLS or XLSX Decision Table.
+     * @return DRL of the spreadsheet, as compiled by the {@link SpreadsheetCompiler}.
+     */
+    public String getDrl( final Path path ) throws IOException {
+        final String contentHash = hash( path );
+
+        synchronized ( drlByContentHash ) {
+            final String drl = drlByContentHash.get( contentHash );
+            if ( drl != null ) {
+                return drl;
+            }
+        }
+
+        final String drl = compile( path );
+
+        synchronized ( drlByContentHash ) {
+            final String previous = drlByContentHash.put( contentHash,
+                                                          drl );
+            if ( previous != null ) {
+                characters -= previous.length();
+            }
+            characters += drl.length();
+            evict();
+        }
+
+        return drl;
+    }
+
+    private void evict() {
+        final Iterator<String> eldest = drlByContentHash.values().iterator();
+        //The DRL just added is kept, even when it is larger than the cache
+        while ( characters > MAX_CHARACTERS && drlByContentHash.size() > 1 ) {
+            characters -= eldest.next().length();
+            eldest.remove();
+        }
+    }
+
+    private String compile( final Path path ) throws IOException {
+        try ( InputStream inputStream = ioService.newInputStream( path,
+                                                                  StandardOpenOption.READ ) ) {
+            return new SpreadsheetCompiler().compile( inputStream,
+                                                      InputType.XLS );
+        }
+    }
+
+    private String hash( final Path path ) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance( "SHA-256" );
+        } catch ( NoSuchAlgorithmException e ) {
+            throw new IllegalStateException( e );
+        }
+
+        final byte[] buffer = new byte[ 8192 ];
+        try ( InputStream inputStream = new DigestInputStream( ioService.newInputStream( path,
+                                                                                         StandardOpenOption.READ ),
+                                                               digest ) ) {
+            while ( inputStream.read( buffer ) != -1 ) {
+                //Read to the end to digest the whole content
+            }
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for ( byte b : digest.digest() ) {
+            sb.append( String.format( "%02x",
+                                      b ) );
+        }
+        return sb.toString();
+    }
+
+}
@@ -16,12 +16,14 @@
 
 package org.drools.workbench.screens.dtablexls.backend.server;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collections;
 import java.util.List;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
@@ -29,11 +31,20 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.apache.commons.io.IOUtils;
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
-import org.drools.decisiontable.InputType;
-import org.drools.decisiontable.SpreadsheetCompiler;
+import org.apache.poi.POIXMLDocument;
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.poifs.filesystem.NPOIFSFileSystem;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.drools.decisiontable.parser.DefaultRuleSheetListener;
+import org.drools.template.parser.DataListener;
 import org.drools.template.parser.DecisionTableParseException;
 import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionResult;
 import org.drools.workbench.screens.dtablexls.service.DecisionTableXLSContent;
@@ -82,6 +93,7 @@ public class DecisionTableXLSServiceImpl
     private GenericValidator genericValidator;
     private CommentedOptionFactory commentedOptionFactory;
     private AuthenticationService authenticationService;
+    private DecisionTableXLSDrlCache drlCache;
 
     public DecisionTableXLSServiceImpl() {
     }
@@ -95,7 +107,8 @@ public class DecisionTableXLSServiceImpl
                                         final DecisionTableXLSConversionService conversionService,
                                         final GenericValidator genericValidator,
                                         final CommentedOptionFactory commentedOptionFactory,
-                                        final AuthenticationService authenticationService ) {
+                                        final AuthenticationService authenticationService,
+                                        final DecisionTableXLSDrlCache drlCache ) {
         this.ioService = ioService;
         this.copyService = copyService;
         this.deleteService = deleteService;
@@ -105,6 +118,7 @@ public class DecisionTableXLSServiceImpl
         this.genericValidator = genericValidator;
         this.commentedOptionFactory = commentedOptionFactory;
         this.authenticationService = authenticationService;
+        this.drlCache = drlCache;
     }
 
     @Override
@@ -238,50 +252,54 @@ public class DecisionTableXLSServiceImpl
         }
     }
 
+    /**
+     * Checks the file is a XLS or XLSX workbook with a RuleSet or RuleTable keyword on the first sheet, the
+     * sheet the decision table compiler reads. The file is streamed, the workbook is never loaded as a whole.
+     */
     void validate( final File tempFile ) {
-        Workbook workbook = null;
-        try {
-            workbook = WorkbookFactory.create( tempFile );
-        } catch ( InvalidFormatException e ) {
-            throw new DecisionTableParseException( "DecisionTableParseException: An error occurred opening the workbook. It is possible that the encoding of the document did not match the encoding of the reader.",
-                                                   e );
+        final RuleKeywordListener keywordListener = new RuleKeywordListener();
+        try ( InputStream inputStream = new BufferedInputStream( new FileInputStream( tempFile ) ) ) {
+            if ( POIFSFileSystem.hasPOIFSHeader( inputStream ) ) {
+                validateXLS( tempFile,
+                             keywordListener );
+            } else if ( POIXMLDocument.hasOOXMLHeader( inputStream ) ) {
+                new StreamingExcelParser( Collections.singletonList( keywordListener ) ).parseFile( tempFile );
+            } else {
+                throw new DecisionTableParseException( "DecisionTableParseException: Failed to open Excel stream, " + "please check that the content is xls97 format." );
+            }
+        } catch ( DecisionTableParseException e ) {
+            throw e;
         } catch ( IOException e ) {
             throw new DecisionTableParseException( "DecisionTableParseException: Failed to open Excel stream, " + "please check that the content is xls97 format.",
                                                    e );
         } catch ( Throwable e ) {
             throw new DecisionTableParseException( "DecisionTableParseException: " + e.getMessage(),
                                                    e );
-        } finally {
-            if ( workbook != null ) {
-                try {
-                    workbook.close();
-                } catch ( IOException e ) {
-                    throw ExceptionUtilities.handleException( e );
-                }
-            }
+        }
+
+        if ( !keywordListener.hasKeyword ) {
+            throw new DecisionTableParseException( "DecisionTableParseException: The first sheet of the workbook does not contain a " +
+                                                           DefaultRuleSheetListener.RULESET_TAG + " or " + DefaultRuleSheetListener.RULE_TABLE_TAG + " keyword." );
+        }
+    }
+
+    private void validateXLS( final File tempFile,
+                              final RuleKeywordListener keywordListener ) throws IOException, HSSFUserException {
+        try ( NPOIFSFileSystem fs = new NPOIFSFileSystem( tempFile,
+                                                          true ) ) {
+            final HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords( new FirstSheetRecordListener( keywordListener ) );
+            new HSSFEventFactory().abortableProcessWorkbookEvents( request,
+                                                                   fs.getRoot() );
         }
     }
 
     @Override
     public String getSource( final Path path ) {
-        InputStream inputStream = null;
         try {
-            final SpreadsheetCompiler compiler = new SpreadsheetCompiler();
-            inputStream = ioService.newInputStream( Paths.convert( path ),
-                                                    StandardOpenOption.READ );
-            final String drl = compiler.compile( inputStream,
-                                                 InputType.XLS );
-            return drl;
+            return drlCache.getDrl( Paths.convert( path ) );
         } catch ( Exception e ) {
             throw new SourceGenerationFailedException( e.getMessage() );
-        } finally {
-            if ( inputStream != null ) {
-                try {
-                    inputStream.close();
-                } catch ( IOException ioe ) {
-                    throw ExceptionUtilities.handleException( ioe );
-                }
-            }
         }
     }
 
@@ -363,4 +381,85 @@ public class DecisionTableXLSServiceImpl
                                                          authenticationService.getUser() ) );
     }
 
+    private static class RuleKeywordListener implements DataListener {
+
+        private boolean hasKeyword = false;
+
+        @Override
+        public void startSheet( final String name ) {
+        }
+
+        @Override
+        public void finishSheet() {
+        }
+
+        @Override
+        public void newRow( final int rowNumber,
+                            final int columns ) {
+        }
+
+        @Override
+        public void newCell( final int row,
+                             final int column,
+                             final String value,
+                             final int mergedColStart ) {
+            if ( value == null ) {
+                return;
+            }
+            // The compiler matches the keywords whatever their case, e.g. RULETABLE or ruleset
+            final String trimmed = value.trim().toLowerCase();
+            if ( trimmed.startsWith( DefaultRuleSheetListener.RULESET_TAG.toLowerCase() ) || trimmed.startsWith( DefaultRuleSheetListener.RULE_TABLE_TAG.toLowerCase() ) ) {
+                hasKeyword = true;
+            }
+        }
+    }
+
+    /**
+     * Reads the text cells of the first sheet of a XLS workbook, record by record.
+     * Stops at the first RuleSet or RuleTable keyword, or at the end of the first sheet.
+     */
+    private static class FirstSheetRecordListener extends AbortableHSSFListener {
+
+        private final RuleKeywordListener keywordListener;
+        private SSTRecord sharedStrings;
+        private int sheets = 0;
+
+        private FirstSheetRecordListener( final RuleKeywordListener keywordListener ) {
+            this.keywordListener = keywordListener;
+        }
+
+        @Override
+        public short abortableProcessRecord( final Record record ) {
+            switch ( record.getSid() ) {
+                case BOFRecord.sid:
+                    if ( ( (BOFRecord) record ).getType() == BOFRecord.TYPE_WORKSHEET ) {
+                        sheets++;
+                    }
+                    break;
+                case SSTRecord.sid:
+                    sharedStrings = (SSTRecord) record;
+                    break;
+                case LabelSSTRecord.sid:
+                    if ( sheets == 1 && sharedStrings != null ) {
+                        final LabelSSTRecord label = (LabelSSTRecord) record;
+                        keywordListener.newCell( label.getRow(),
+                                                 label.getColumn(),
+                                                 sharedStrings.getString( label.getSSTIndex() ).getString(),
+                                                 DataListener.NON_MERGED );
+                    }
+                    break;
+                case LabelRecord.sid:
+                    if ( sheets == 1 ) {
+                        final LabelRecord label = (LabelRecord) record;
+                        keywordListener.newCell( label.getRow(),
+                                                 label.getColumn(),
+                                                 label.getValue(),
+                                                 DataListener.NON_MERGED );
+                    }
+                    break;
+            }
+            return ( keywordListener.hasKeyword || sheets > 1 ) ? (short) 1 : (short) 0;
+        }
+    }
+
 }
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.drools.template.parser.DataListener;
+import org.drools.template.parser.DecisionTableParseException;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Parses the first sheet of a XLSX file for {@link DataListener}s, like
+ * {@link org.drools.decisiontable.parser.xls.ExcelParser} does, without loading the workbook.
+ * <br>
+ * <br>
+ * The sheet XML is read twice with SAX: once for the merged regions, that are stored after the cells,
+ * and once for the cells. Only one row is held at a time. Formulas are not evaluated, their cached results are used,
+ * except for the top left cell of a merged region that gives its formula like ExcelParser does.
+ */
+public class StreamingExcelParser {
+
+    private final List<? extends DataListener> listeners;
+
+    private final DataFormatter formatter = new DataFormatter( Locale.ENGLISH );
+
+    public StreamingExcelParser( final List<? extends DataListener> listeners ) {
+        this.listeners = listeners;
+    }
+
+    public void parseFile( final File file ) {
+        try ( OPCPackage pkg = OPCPackage.open( file,
+                                                PackageAccess.READ ) ) {
+            final XSSFReader reader = new XSSFReader( pkg );
+            final ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable( pkg );
+            final StylesTable styles = reader.getStylesTable();
+
+            final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if ( !sheets.hasNext() ) {
+                throw new DecisionTableParseException( "DecisionTableParseException: The workbook does not have any sheets." );
+            }
+
+            final MergedRegionsHandler mergedRegionsHandler = new MergedRegionsHandler();
+            try ( InputStream sheet = sheets.next() ) {
+                parse( sheet,
+                       mergedRegionsHandler );
+            }
+
+            for ( DataListener listener : listeners ) {
+                listener.startSheet( sheets.getSheetName() );
+            }
+            try ( InputStream sheet = sheets.getSheetPart().getInputStream() ) {
+                parse( sheet,
+                       new CellsHandler( strings,
+                                         styles,
+                                         mergedRegionsHandler.mergedRegions ) );
+            }
+            for ( DataListener listener : listeners ) {
+                listener.finishSheet();
+            }
+
+        } catch ( DecisionTableParseException e ) {
+            throw e;
+        } catch ( IOException e ) {
+            throw new DecisionTableParseException( "DecisionTableParseException: Failed to open Excel stream, " + "please check that the content is xlsx format.",
+                                                   e );
+        } catch ( Exception e ) {
+            throw new DecisionTableParseException( "DecisionTableParseException: " + e.getMessage(),
+                                                   e );
+        }
+    }
+
+    private void parse( final InputStream sheet,
+                        final ContentHandler handler ) throws Exception {
+        final XMLReader xmlReader = SAXHelper.newXMLReader();
+        xmlReader.setContentHandler( handler );
+        xmlReader.parse( new InputSource( sheet ) );
+    }
+
+    private static class MergedRegionsHandler extends DefaultHandler {
+
+        private final List<CellRangeAddress> mergedRegions = new ArrayList<CellRangeAddress>();
+
+        @Override
+        public void startElement( final String uri,
+                                  final String localName,
+                                  final String qName,
+                                  final Attributes attributes ) {
+            if ( "mergeCell".equals( localName ) ) {
+                mergedRegions.add( CellRangeAddress.valueOf( attributes.getValue( "ref" ) ) );
+            }
+        }
+    }
+
+    private class CellsHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable strings;
+        private final StylesTable styles;
+        private final List<CellRangeAddress> mergedRegions;
+        private final Map<CellRangeAddress, String> mergedValues = new HashMap<CellRangeAddress, String>();
+
+        private final List<CellData> rowCells = new ArrayList<CellData>();
+        private int nextRow = 0;
+        private int row = -1;
+        private int column = -1;
+
+        private String type;
+        private String style;
+        private boolean formula;
+        private boolean hasValue;
+        private boolean collecting;
+        private boolean collectingFormula;
+        private final StringBuilder value = new StringBuilder();
+        private final StringBuilder formulaText = new StringBuilder();
+
+        private CellsHandler( final ReadOnlySharedStringsTable strings,
+                              final StylesTable styles,
+                              final List<CellRangeAddress> mergedRegions ) {
+            this.strings = strings;
+            this.styles = styles;
+            this.mergedRegions = mergedRegions;
+        }
+
+        @Override
+        public void startElement( final String uri,
+                                  final String localName,
+                                  final String qName,
+                                  final Attributes attributes ) {
+            if ( "row".equals( localName ) ) {
+                final String r = attributes.getValue( "r" );
+                row = r == null ? nextRow : Integer.parseInt( r ) - 1;
+                column = -1;
+                rowCells.clear();
+            } else if ( "c".equals( localName ) ) {
+                final String r = attributes.getValue( "r" );
+                column = r == null ? column + 1 : new CellReference( r ).getCol();
+                type = attributes.getValue( "t" );
+                style = attributes.getValue( "s" );
+                formula = false;
+                hasValue = false;
+                value.setLength( 0 );
+                formulaText.setLength( 0 );
+            } else if ( "f".equals( localName ) ) {
+                formula = true;
+                collectingFormula = true;
+            } else if ( "v".equals( localName ) || "t".equals( localName ) ) {
+                collecting = true;
+            }
+        }
+
+        @Override
+        public void endElement( final String uri,
+                                final String localName,
+                                final String qName ) {
+            if ( "v".equals( localName ) || "t".equals( localName ) ) {
+                collecting = false;
+                hasValue = true;
+            } else if ( "f".equals( localName ) ) {
+                collectingFormula = false;
+            } else if ( "c".equals( localName ) ) {
+                rowCells.add( makeCell() );
+            } else if ( "row".equals( localName ) ) {
+                finishRow();
+            }
+        }
+
+        @Override
+        public void characters( final char[] ch,
+                                final int start,
+                                final int length ) {
+            if ( collecting ) {
+                value.append( ch,
+                              start,
+                              length );
+            } else if ( collectingFormula ) {
+                formulaText.append( ch,
+                                    start,
+                                    length );
+            }
+        }
+
+        private CellData makeCell() {
+            final CellRangeAddress mergedRegion = getMergedRegion( row,
+                                                                   column );
+            if ( mergedRegion == null ) {
+                return new CellData( column,
+                                     getValue( false ),
+                                     DataListener.NON_MERGED );
+            }
+
+            //The top left cell holds the value of the whole merged region and comes before the other cells
+            if ( mergedRegion.getFirstRow() == row && mergedRegion.getFirstColumn() == column ) {
+                mergedValues.put( mergedRegion,
+                                  getMergedValue() );
+            }
+            final String mergedValue = mergedValues.get( mergedRegion );
+            return new CellData( column,
+                                 mergedValue == null ? "" : mergedValue,
+                                 mergedRegion.getFirstColumn() );
+        }
+
+        //ExcelParser formats the top left cell without a formula evaluator, that gives the formula rather than its result.
+        //Shared formulas only have their text in the first cell, the others keep their cached result
+        private String getMergedValue() {
+            if ( formula && formulaText.length() > 0 ) {
+                return formulaText.toString();
+            }
+            return getValue( true );
+        }
+
+        private String getValue( final boolean formatted ) {
+            if ( !hasValue ) {
+                return "";
+            }
+            final String raw = value.toString();
+            if ( "s".equals( type ) ) {
+                return strings.getEntryAt( Integer.parseInt( raw ) );
+            } else if ( "inlineStr".equals( type ) || "str".equals( type ) || "e".equals( type ) ) {
+                return raw;
+            } else if ( "b".equals( type ) ) {
+                final boolean b = "1".equals( raw ) || "true".equalsIgnoreCase( raw );
+                if ( formula && !formatted ) {
+                    return Boolean.toString( b );
+                }
+                return b ? "TRUE" : "FALSE";
+            }
+
+            //Numeric cell, converted the way ExcelParser converts it
+            final double num = Double.parseDouble( raw );
+            if ( !formatted && ( formula || num - Math.round( num ) != 0 ) ) {
+                return String.valueOf( num );
+            }
+            return format( num );
+        }
+
+        private String format( final double num ) {
+            int formatIndex = 0;
+            String formatString = null;
+            if ( style != null && styles != null ) {
+                final XSSFCellStyle cellStyle = styles.getStyleAt( Integer.parseInt( style ) );
+                formatIndex = cellStyle.getDataFormat();
+                formatString = cellStyle.getDataFormatString();
+            }
+            if ( formatString == null ) {
+                formatString = BuiltinFormats.getBuiltinFormat( formatIndex );
+            }
+            return formatter.formatRawCellContents( num,
+                                                    formatIndex,
+                                                    formatString );
+        }
+
+        private CellRangeAddress getMergedRegion( final int row,
+                                                  final int column ) {
+            for ( CellRangeAddress mergedRegion : mergedRegions ) {
+                if ( mergedRegion.isInRange( row,
+                                             column ) ) {
+                    return mergedRegion;
+                }
+            }
+            return null;
+        }
+
+        private void finishRow() {
+            //ExcelParser signals every row up to the last one, including the rows without cells
+            for ( ; nextRow < row; nextRow++ ) {
+                for ( DataListener listener : listeners ) {
+                    listener.newRow( nextRow,
+                                     0 );
+                }
+            }
+
+            //A row without cells has no last cell, POI gives -1 for it
+            final int columns = rowCells.isEmpty() ? -1 : rowCells.get( rowCells.size() - 1 ).column + 1;
+            for ( DataListener listener : listeners ) {
+                listener.newRow( row,
+                                 columns );
+            }
+            for ( CellData cell : rowCells ) {
+                for ( DataListener listener : listeners ) {
+                    listener.newCell( row,
+                                      cell.column,
+                                      cell.value,
+                                      cell.mergedColStart );
+                }
+            }
+
+            rowCells.clear();
+            nextRow = row + 1;
+        }
+    }
+
+    private static class CellData {
+
+        private final int column;
+        private final String value;
+        private final int mergedColStart;
+
+        private CellData( final int column,
+                          final String value,
+                          final int mergedColStart ) {
+            this.column = column;
+            this.value = value;
+            this.mergedColStart = mergedColStart;
+        }
+    }
+
+}
@@ -15,13 +15,19 @@
  */
 package org.drools.workbench.screens.dtablexls.backend.server.conversion;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -35,6 +41,7 @@ import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
 import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionMessageType;
 import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionResult;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.dtablexls.backend.server.StreamingExcelParser;
 import org.drools.workbench.screens.drltext.service.DRLTextEditorService;
 import org.drools.workbench.screens.drltext.type.DRLResourceTypeDefinition;
 import org.drools.workbench.screens.dtablexls.service.DecisionTableXLSConversionService;
@@ -100,6 +107,8 @@ public class DecisionTableXLSToDecisionTableGuidedConverter implements DecisionT
 
     private Map<String, AnnotationDefinition> annotationDefinitions;
 
+    private ExecutorService executorService;
+
     public DecisionTableXLSToDecisionTableGuidedConverter() {
         //Zero-parameter constructor for CDI proxy
     }
@@ -141,6 +150,22 @@ public class DecisionTableXLSToDecisionTableGuidedConverter implements DecisionT
     public void setup() {
         initialiseTypeConversionMetaData();
         initialiseApplicationPreferences();
+        executorService = Executors.newFixedThreadPool( Runtime.getRuntime().availableProcessors() );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if ( executorService != null ) {
+            executorService.shutdownNow();
+        }
+    }
+
+    //Decision Tables are populated on the calling thread until the pool is set up
+    private Executor getExecutor() {
+        if ( executorService == null ) {
+            return Runnable::run;
+        }
+        return executorService;
     }
 
     private void initialiseTypeConversionMetaData() {
@@ -173,31 +198,41 @@ public class DecisionTableXLSToDecisionTableGuidedConverter implements DecisionT
         //Root path for new resources is the same folder as the XLS file
         final Path context = Paths.convert( Paths.convert( path ).getParent() );
 
-        //Add Ancillary resources
-        createNewImports( context,
-                          listener.getImports(),
-                          result );
-        createNewFunctions( context,
-                            listener.getImports(),
-                            listener.getFunctions(),
-                            result );
-        createNewQueries( context,
-                          listener.getImports(),
-                          listener.getQueries(),
-                          result );
-        makeNewJavaTypes( context,
-                          listener.getTypeDeclarations(),
-                          result );
-        createNewGlobals( context,
-                          listener.getImports(),
-                          listener.getGlobals(),
-                          result );
-
-        //Add Web Guided Decision Tables
-        createNewDecisionTables( context,
-                                 listener.getImports(),
-                                 listener.getGuidedDecisionTables(),
-                                 result );
+        //Wait for the Guided Decision Tables before writing anything
+        final List<GuidedDecisionTable52> dtables = listener.getGuidedDecisionTables();
+
+        //All new resources are written in one batch, so the conversion is a single commit
+        try {
+            ioService.startBatch( Paths.convert( context ).getFileSystem() );
+
+            //Add Ancillary resources
+            createNewImports( context,
+                              listener.getImports(),
+                              result );
+            createNewFunctions( context,
+                                listener.getImports(),
+                                listener.getFunctions(),
+                                result );
+            createNewQueries( context,
+                              listener.getImports(),
+                              listener.getQueries(),
+                              result );
+            makeNewJavaTypes( context,
+                              listener.getTypeDeclarations(),
+                              result );
+            createNewGlobals( context,
+                              listener.getImports(),
+                              listener.getGlobals(),
+                              result );
+
+            //Add Web Guided Decision Tables
+            createNewDecisionTables( context,
+                                     listener.getImports(),
+                                     dtables,
+                                     result );
+        } finally {
+            ioService.endBatch();
+        }
 
         return result;
     }
@@ -208,9 +243,17 @@ public class DecisionTableXLSToDecisionTableGuidedConverter implements DecisionT
 
         final List<DataListener> listeners = new ArrayList<DataListener>();
         final GuidedDecisionTableGeneratorListener listener = new GuidedDecisionTableGeneratorListener( result,
-                                                                                                        dmo );
+                                                                                                        dmo,
+                                                                                                        getExecutor() );
         listeners.add( listener );
 
+        if ( xlsxDTableType.accept( path ) ) {
+            parseXLSX( path,
+                       listeners,
+                       result );
+            return listener;
+        }
+
         final ExcelParser parser = new ExcelParser( listeners );
         final InputStream stream = ioService.newInputStream( Paths.convert( path ) );
 
@@ -227,6 +270,34 @@ public class DecisionTableXLSToDecisionTableGuidedConverter implements DecisionT
         return listener;
     }
 
+    //XLSX files are streamed from a temporary copy, as the zip entries need random access
+    private void parseXLSX( final Path path,
+                            final List<DataListener> listeners,
+                            final ConversionResult result ) {
+        File tempFile = null;
+        try {
+            tempFile = File.createTempFile( "convertxlsx",
+                                            null );
+            try ( InputStream stream = ioService.newInputStream( Paths.convert( path ) ) ) {
+                java.nio.file.Files.copy( stream,
+                                          tempFile.toPath(),
+                                          StandardCopyOption.REPLACE_EXISTING );
+            }
+            new StreamingExcelParser( listeners ).parseFile( tempFile );
+        } catch ( IOException ioe ) {
+            result.addMessage( ioe.getMessage(),
+                               ConversionMessageType.ERROR );
+        } catch ( RuntimeException re ) {
+            //Malformed sheet XML and POI failures are wrapped in a DecisionTableParseException by the parser
+            result.addMessage( re.getMessage(),
+                               ConversionMessageType.ERROR );
+        } finally {
+            if ( tempFile != null && !tempFile.delete() ) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+
     private void createNewFunctions( final Path context,
                                      final List<Import> imports,
                                      final List<String> functions,
@@ -15,10 +15,15 @@
  */
 package org.drools.workbench.screens.dtablexls.backend.server.conversion;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.drools.decisiontable.parser.ActionType;
 import org.drools.decisiontable.parser.ActionType.Code;
@@ -32,6 +37,7 @@ import org.drools.template.model.Global;
 import org.drools.template.model.Import;
 import org.drools.template.model.Package;
 import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
+import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionMessage;
 import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionMessageType;
 import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionResult;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
@@ -74,9 +80,6 @@ public class GuidedDecisionTableGeneratorListener
     //Description column must always be at position 1
     private static final int DESCRIPTION_COLUMN_INDEX = 1;
 
-    private static GuidedDecisionTableSourceBuilder ROW_NUMBER_BUILDER = new RowNumberBuilder();
-    private static GuidedDecisionTableSourceBuilder DEFAULT_DESCRIPTION_BUILDER = new DefaultDescriptionBuilder();
-
     //State machine variables for this parser
     private boolean _isInRuleTable = false;
     private int _ruleRow;
@@ -92,6 +95,12 @@ public class GuidedDecisionTableGeneratorListener
     private Map<Integer, ActionType> _actions;
     private final List<GuidedDecisionTable52> _dtables = new ArrayList<GuidedDecisionTable52>();
     private List<GuidedDecisionTableSourceBuilder> _sourceBuilders;
+    private GuidedDecisionTableSourceBuilder _rowNumberBuilder;
+    private GuidedDecisionTableSourceBuilder _defaultDescriptionBuilder;
+
+    //Decision Tables are populated on the Executor; their messages are added to the results in the order of the tables
+    private final Executor _executor;
+    private final Deque<CompletableFuture<ConversionResult>> _populations = new ArrayDeque<CompletableFuture<ConversionResult>>();
 
     //RuleSet wide configuration
     private final PropertiesSheetListener _propertiesListener = new PropertiesSheetListener();
@@ -106,8 +115,17 @@ public class GuidedDecisionTableGeneratorListener
 
     public GuidedDecisionTableGeneratorListener( final ConversionResult conversionResult,
                                                  final PackageDataModelOracle _dmo ) {
+        this( conversionResult,
+              _dmo,
+              Runnable::run );
+    }
+
+    public GuidedDecisionTableGeneratorListener( final ConversionResult conversionResult,
+                                                 final PackageDataModelOracle _dmo,
+                                                 final Executor executor ) {
         this._conversionResult = conversionResult;
         this._dmo = _dmo;
+        this._executor = executor;
     }
 
     public CaseInsensitiveMap getProperties() {
@@ -138,7 +156,13 @@ public class GuidedDecisionTableGeneratorListener
         return getProperties().getProperty( DefaultRuleSheetListener.DECLARES_TAG );
     }
 
+    /**
+     * Waits for the Decision Tables that are still being populated.
+     */
     public List<GuidedDecisionTable52> getGuidedDecisionTables() {
+        while ( !_populations.isEmpty() ) {
+            addPopulationMessages( _populations.poll() );
+        }
         return _dtables;
     }
 
@@ -208,12 +232,13 @@ public class GuidedDecisionTableGeneratorListener
         this._dtable.setTableName( RuleSheetParserUtil.getRuleName( value ) );
         this._dtable.setPackageName( _dmo.getPackageName() );
         this._sourceBuilders = new ArrayList<GuidedDecisionTableSourceBuilder>();
-        ROW_NUMBER_BUILDER.clearValues();
-        DEFAULT_DESCRIPTION_BUILDER.clearValues();
+        //Each Decision Table has its own builders, as the tables can be populated at the same time
+        this._rowNumberBuilder = new RowNumberBuilder();
+        this._defaultDescriptionBuilder = new DefaultDescriptionBuilder();
         this._sourceBuilders.add( ROW_NUMBER_COLUMN_INDEX,
-                                  ROW_NUMBER_BUILDER );
+                                  _rowNumberBuilder );
         this._sourceBuilders.add( DESCRIPTION_COLUMN_INDEX,
-                                  DEFAULT_DESCRIPTION_BUILDER );
+                                  _defaultDescriptionBuilder );
 
         postInitRuleTable( row,
                            column,
@@ -231,13 +256,40 @@ public class GuidedDecisionTableGeneratorListener
     }
 
     private void populateDecisionTable() {
+        //Each population has its own messages, ConversionResult is not thread safe
+        final ConversionResult populationResult = new ConversionResult();
         final GuidedDecisionTablePopulater populator = new GuidedDecisionTablePopulater( _dtable,
                                                                                          _sourceBuilders,
-                                                                                         _conversionResult,
+                                                                                         populationResult,
                                                                                          _dmo,
                                                                                          _ruleRow,
                                                                                          _ruleStartColumn);
-        populator.populate();
+        _populations.add( CompletableFuture.supplyAsync( () -> {
+                                                             populator.populate();
+                                                             return populationResult;
+                                                         },
+                                                         _executor ) );
+
+        //Keep the order of the messages when the tables are populated on the calling thread
+        while ( !_populations.isEmpty() && _populations.peek().isDone() ) {
+            addPopulationMessages( _populations.poll() );
+        }
+    }
+
+    private void addPopulationMessages( final CompletableFuture<ConversionResult> population ) {
+        final ConversionResult populationResult;
+        try {
+            populationResult = population.join();
+        } catch ( CompletionException e ) {
+            if ( e.getCause() instanceof RuntimeException ) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        for ( ConversionMessage message : populationResult.getMessages() ) {
+            _conversionResult.addMessage( message.getMessage(),
+                                          message.getMessageType() );
+        }
     }
 
     /**
@@ -305,7 +357,7 @@ public class GuidedDecisionTableGeneratorListener
             if( row - this._ruleStartRow > LABEL_ROW &&
                     (column + 1) == this._ruleStartColumn &&
                     row - this._ruleRow < 2 ) {
-                DEFAULT_DESCRIPTION_BUILDER.addCellValue( row,
+                _defaultDescriptionBuilder.addCellValue( row,
                         1,
                         trimVal );
             }
@@ -350,7 +402,7 @@ public class GuidedDecisionTableGeneratorListener
             default:
                 if ( this._isNewDataRow ) {
                     this._isNewDataRow = false;
-                    ROW_NUMBER_BUILDER.addCellValue( row,
+                    _rowNumberBuilder.addCellValue( row,
                                                      0,
                                                      "" );
                 }
@@ -391,7 +443,7 @@ public class GuidedDecisionTableGeneratorListener
 
             case DESCRIPTION:
                 //Remove default Description Column builder and add that provided
-                this._sourceBuilders.remove( DEFAULT_DESCRIPTION_BUILDER );
+                this._sourceBuilders.remove( _defaultDescriptionBuilder );
                 sb = new GuidedDecisionTableDescriptionBuilder( row - 1,
                                                                 column,
                                                                 this._conversionResult );
@@ -15,21 +15,17 @@
  */
 package org.drools.workbench.screens.dtablexls.backend.server.indexing;
 
-import java.io.IOException;
-import java.io.InputStream;
-
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
-import org.drools.compiler.compiler.DecisionTableFactory;
 import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
+import org.drools.workbench.screens.dtablexls.backend.server.DecisionTableXLSDrlCache;
 import org.drools.workbench.screens.dtablexls.type.DecisionTableXLSResourceTypeDefinition;
 import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.drools.AbstractDrlFileIndexer;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.java.nio.file.Path;
-import org.uberfire.java.nio.file.StandardOpenOption;
 
 @ApplicationScoped
 public class DecisionTableXLSFileIndexer extends AbstractDrlFileIndexer {
@@ -40,6 +36,9 @@ public class DecisionTableXLSFileIndexer extends AbstractDrlFileIndexer {
     @Inject
     protected DecisionTableXLSResourceTypeDefinition type;
 
+    @Inject
+    protected DecisionTableXLSDrlCache drlCache;
+
     @Override
     public boolean supportsPath( final Path path ) {
         return type.accept( Paths.convert( path ) );
@@ -47,23 +46,10 @@ public class DecisionTableXLSFileIndexer extends AbstractDrlFileIndexer {
 
     @Override
     public DefaultIndexBuilder fillIndexBuilder( final Path path ) throws Exception {
-        InputStream inputStream = null;
-        try {
-            inputStream = ioService.newInputStream( path,
-                                                    StandardOpenOption.READ );
-            final String drl = DecisionTableFactory.loadFromInputStream( inputStream,
-                                                                         null );
+        //Unchanged spreadsheets are not compiled again on a reindex
+        final String drl = drlCache.getDrl( path );
 
-            return fillDrlIndexBuilder(path, drl);
-        } finally {
-            if ( inputStream != null ) {
-                try {
-                    inputStream.close();
-                } catch ( IOException e ) {
-                    // no-op
-                }
-            }
-        }
+        return fillDrlIndexBuilder(path, drl);
     }
 
     @Override
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.OpenOption;
+import org.uberfire.java.nio.file.Path;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DecisionTableXLSDrlCacheTest {
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private Path path;
+
+    private DecisionTableXLSDrlCache cache;
+
+    @Before
+    public void setup() {
+        cache = new DecisionTableXLSDrlCache( ioService );
+
+        when( ioService.newInputStream( eq( path ),
+                                        any( OpenOption.class ) ) ).thenAnswer( ( invocation ) -> this.getClass().getResourceAsStream( "dummy.xls" ) );
+    }
+
+    @Test
+    public void testUnchangedSpreadsheetIsCompiledOnce() throws Exception {
+        final String drl = cache.getDrl( path );
+
+        assertNotNull( drl );
+        assertTrue( drl.contains( "rule" ) );
+
+        //Read once to hash and once to compile
+        verify( ioService,
+                times( 2 ) ).newInputStream( eq( path ),
+                                             any( OpenOption.class ) );
+
+        assertSame( drl,
+                    cache.getDrl( path ) );
+
+        //Only read to hash
+        verify( ioService,
+                times( 3 ) ).newInputStream( eq( path ),
+                                             any( OpenOption.class ) );
+    }
+
+}
@@ -92,6 +92,9 @@ public class DecisionTableXLSServiceImplTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private DecisionTableXLSDrlCache drlCache;
+
     @Mock
     private User user;
 
@@ -242,6 +245,46 @@ public class DecisionTableXLSServiceImplTest {
         service.validate( tempFile );
     }
 
+    @Test
+    public void testValidateXLSXFileWithValidContent() throws URISyntaxException {
+        this.service = getServiceWithValidationOverride( null );
+
+        File tempFile = new File( this.getClass().getResource( "conversion/GUVNOR-2696.xlsx" ).toURI() );
+        service.validate( tempFile );
+    }
+
+    @Test
+    public void testValidateXLSFileWithLowerCaseKeywords() throws URISyntaxException {
+        this.service = getServiceWithValidationOverride( null );
+
+        File tempFile = new File( this.getClass().getResource( "LowerCaseKeywords.xls" ).toURI() );
+        service.validate( tempFile );
+    }
+
+    @Test(expected = DecisionTableParseException.class)
+    public void testValidateXLSFileWithoutKeywords() throws URISyntaxException {
+        this.service = getServiceWithValidationOverride( null );
+
+        File tempFile = new File( this.getClass().getResource( "NoKeywords.xls" ).toURI() );
+        service.validate( tempFile );
+    }
+
+    @Test
+    public void testValidateXLSXFileWithLowerCaseKeywords() throws URISyntaxException {
+        this.service = getServiceWithValidationOverride( null );
+
+        File tempFile = new File( this.getClass().getResource( "LowerCaseKeywords.xlsx" ).toURI() );
+        service.validate( tempFile );
+    }
+
+    @Test(expected = DecisionTableParseException.class)
+    public void testValidateXLSXFileWithoutKeywords() throws URISyntaxException {
+        this.service = getServiceWithValidationOverride( null );
+
+        File tempFile = new File( this.getClass().getResource( "NoKeywords.xlsx" ).toURI() );
+        service.validate( tempFile );
+    }
+
     private DecisionTableXLSServiceImpl getServiceWithValidationOverride( Consumer<File> validationOverride ) {
         return new DecisionTableXLSServiceImpl( ioService,
                                                 copyService,
@@ -251,7 +294,8 @@ public class DecisionTableXLSServiceImplTest {
                                                 conversionService,
                                                 genericValidator,
                                                 commentedOptionFactory,
-                                                authenticationService ) {
+                                                authenticationService,
+                                                drlCache ) {
             @Override
             void validate( final File tempFile ) {
                 if ( validationOverride != null ) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.drools.decisiontable.parser.xls.ExcelParser;
+import org.drools.template.parser.DataListener;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * The events of the {@link StreamingExcelParser} must be the ones {@link ExcelParser} sends for the same file.
+ */
+public class StreamingExcelParserTest {
+
+    @Test
+    public void testSameEventsAsExcelParser() throws Exception {
+        assertSameEvents( "conversion/GUVNOR-2696.xlsx" );
+    }
+
+    /**
+     * ParserFormats.xlsx holds merged regions across columns and rows, General, "0.00" and date formatted numbers,
+     * whole and decimal numbers, formulas with a number and a string result, booleans and inline strings.
+     */
+    @Test
+    public void testSameEventsAsExcelParserForFormats() throws Exception {
+        final List<String> events = assertSameEvents( "ParserFormats.xlsx" );
+
+        assertTrue( events.contains( "newCell(0,1,RuleTable Formats,0)" ) );
+        assertTrue( events.contains( "newCell(1,2,3.00,-1)" ) );
+        assertTrue( events.contains( "newCell(2,0,7.5,-1)" ) );
+        assertTrue( events.contains( "newCell(2,1,ab,-1)" ) );
+        assertTrue( events.contains( "newCell(4,0,12.00,0)" ) );
+        assertTrue( events.contains( "newRow(5,0)" ) );
+    }
+
+    /**
+     * ParserFormulas.xlsx holds a merged region whose top left cell is a formula, a row without cells,
+     * a formula with a boolean result and a boolean.
+     */
+    @Test
+    public void testSameEventsAsExcelParserForFormulas() throws Exception {
+        final List<String> events = assertSameEvents( "ParserFormulas.xlsx" );
+
+        assertTrue( events.contains( "newCell(0,1,1+1,0)" ) );
+        assertTrue( events.contains( "newRow(1,-1)" ) );
+        assertTrue( events.contains( "newCell(2,0,true,-1)" ) );
+        assertTrue( events.contains( "newCell(2,1,FALSE,-1)" ) );
+    }
+
+    @Test
+    public void testSameEventsAsExcelParserWithoutKeywords() throws Exception {
+        assertSameEvents( "NoKeywords.xlsx" );
+    }
+
+    @Test
+    public void testSameEventsAsExcelParserForLowerCaseKeywords() throws Exception {
+        assertSameEvents( "LowerCaseKeywords.xlsx" );
+    }
+
+    private List<String> assertSameEvents( final String fileName ) throws Exception {
+        final RecordingListener expected = new RecordingListener();
+        try ( InputStream inputStream = this.getClass().getResourceAsStream( fileName ) ) {
+            new ExcelParser( Collections.singletonList( expected ) ).parseFile( inputStream );
+        }
+
+        final RecordingListener actual = new RecordingListener();
+        new StreamingExcelParser( Collections.singletonList( actual ) ).parseFile( new File( this.getClass().getResource( fileName ).toURI() ) );
+
+        assertFalse( expected.events.isEmpty() );
+        assertEquals( expected.events,
+                      actual.events );
+
+        return actual.events;
+    }
+
+    private static class RecordingListener implements DataListener {
+
+        private final List<String> events = new ArrayList<String>();
+
+        @Override
+        public void startSheet( final String name ) {
+        }
+
+        @Override
+        public void finishSheet() {
+        }
+
+        @Override
+        public void newRow( final int rowNumber,
+                            final int columns ) {
+            events.add( "newRow(" + rowNumber + "," + columns + ")" );
+        }
+
+        @Override
+        public void newCell( final int row,
+                             final int column,
+                             final String value,
+                             final int mergedColStart ) {
+            events.add( "newCell(" + row + "," + column + "," + value + "," + mergedColStart + ")" );
+        }
+    }
+}
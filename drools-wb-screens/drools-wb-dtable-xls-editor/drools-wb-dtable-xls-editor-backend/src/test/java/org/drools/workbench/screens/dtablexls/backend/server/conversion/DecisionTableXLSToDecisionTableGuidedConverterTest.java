@@ -16,12 +16,14 @@
 
 package org.drools.workbench.screens.dtablexls.backend.server.conversion;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.drools.workbench.models.datamodel.oracle.ModelField;
 import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
+import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionMessageType;
 import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionResult;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.drltext.service.DRLTextEditorService;
@@ -249,4 +251,38 @@ public class DecisionTableXLSToDecisionTableGuidedConverterTest {
                                      any( String.class ) );
     }
 
+    @Test
+    public void checkConversionOfXLSXFilesIsStreamed() {
+        final InputStream is = this.getClass().getResourceAsStream( "GUVNOR-2696.xlsx" );
+        when( ioService.newInputStream( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( is );
+        when( path.toURI() ).thenReturn( "default://project0/src/main/resources/p0/source.xlsx" );
+        when( path.getFileName() ).thenReturn( "source.xlsx" );
+        final ConversionResult result = converter.convert( path );
+        assertNotNull( result );
+
+        verify( guidedDecisionTableService,
+                times( 1 ) ).create( any( Path.class ),
+                                     any( String.class ),
+                                     any( GuidedDecisionTable52.class ),
+                                     any( String.class ) );
+    }
+
+    @Test
+    public void checkMalformedXLSXFileIsAConversionError() {
+        final InputStream is = new ByteArrayInputStream( "not a spreadsheet".getBytes() );
+        when( ioService.newInputStream( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( is );
+        when( path.toURI() ).thenReturn( "default://project0/src/main/resources/p0/source.xlsx" );
+        when( path.getFileName() ).thenReturn( "source.xlsx" );
+        final ConversionResult result = converter.convert( path );
+
+        assertEquals( ConversionMessageType.ERROR,
+                      result.getMessages().get( 0 ).getMessageType() );
+
+        verify( guidedDecisionTableService,
+                never() ).create( any( Path.class ),
+                                  any( String.class ),
+                                  any( GuidedDecisionTable52.class ),
+                                  any( String.class ) );
+    }
+
 }
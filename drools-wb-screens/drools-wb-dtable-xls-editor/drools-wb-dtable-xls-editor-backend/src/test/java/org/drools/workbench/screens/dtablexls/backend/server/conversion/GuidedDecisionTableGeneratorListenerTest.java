@@ -24,6 +24,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.drools.decisiontable.parser.xls.ExcelParser;
 import org.drools.template.model.Global;
@@ -1004,6 +1006,49 @@ public class GuidedDecisionTableGeneratorListenerTest {
         }
     }
 
+    @Test
+    public void testMultipleRuleTablesPopulatedInParallel() {
+        final ExecutorService executorService = Executors.newFixedThreadPool( 2 );
+        try {
+            final ConversionResult result = new ConversionResult();
+            final List<DataListener> listeners = new ArrayList<DataListener>();
+            final GuidedDecisionTableGeneratorListener listener = new GuidedDecisionTableGeneratorListener( result,
+                                                                                                            dmo,
+                                                                                                            executorService );
+            listeners.add( listener );
+
+            //Convert
+            final ExcelParser parser = new ExcelParser( listeners );
+            final InputStream is = this.getClass().getResourceAsStream( "MultipleRuleTables.xls" );
+
+            try {
+                parser.parseFile( is );
+            } finally {
+                try {
+                    is.close();
+                } catch ( IOException ioe ) {
+                    fail( ioe.getMessage() );
+                }
+            }
+
+            //Check basics, in the order of the Rule Tables
+            List<GuidedDecisionTable52> dtables = listener.getGuidedDecisionTables();
+
+            assertEquals( 0,
+                          result.getMessages().size() );
+            assertEquals( 2,
+                          dtables.size() );
+            assertEquals( "Table1",
+                          dtables.get( 0 ).getTableName() );
+            assertEquals( 5,
+                          dtables.get( 0 ).getExpandedColumns().size() );
+            assertEquals( "Table2",
+                          dtables.get( 1 ).getTableName() );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void testMultipleRuleTables() {
         final ConversionResult result = new ConversionResult();
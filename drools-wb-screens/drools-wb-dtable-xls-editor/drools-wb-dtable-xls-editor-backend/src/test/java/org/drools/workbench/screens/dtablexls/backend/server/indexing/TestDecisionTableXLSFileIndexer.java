@@ -23,6 +23,7 @@ import org.drools.workbench.models.datamodel.oracle.DataType;
 import org.drools.workbench.models.datamodel.oracle.FieldAccessorsAndMutators;
 import org.drools.workbench.models.datamodel.oracle.ModelField;
 import org.drools.workbench.models.datamodel.oracle.ProjectDataModelOracle;
+import org.drools.workbench.screens.dtablexls.backend.server.DecisionTableXLSDrlCache;
 import org.drools.workbench.screens.dtablexls.type.DecisionTableXLSResourceTypeDefinition;
 import org.kie.workbench.common.services.refactoring.backend.server.TestIndexer;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
@@ -38,6 +39,7 @@ public class TestDecisionTableXLSFileIndexer extends DecisionTableXLSFileIndexer
     @Override
     public void setIOService( final IOService ioService ) {
         this.ioService = ioService;
+        this.drlCache = new DecisionTableXLSDrlCache( ioService );
     }
 
     @Override
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.service;
+
+import java.util.List;
+
+import org.drools.workbench.services.verifier.api.client.reporting.Issues;
+import org.jboss.errai.bus.server.annotations.Remote;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Verifies Guided Decision Tables on the server, without opening them in the editor.
+ */
+@Remote
+public interface GuidedDecisionTableVerificationService {
+
+    /**
+     * Verifies every Guided Decision Table of the project.
+     * @param path Any path in the project.
+     * @return Issues of each table. The web worker UUID of the Issues is the URI of the table.
+     */
+    List<Issues> verifyProject( final Path path );
+
+}
@@ -18,7 +18,6 @@ package org.drools.workbench.screens.guided.dtable.backend.server;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import javax.enterprise.context.ApplicationScoped;
@@ -26,12 +25,9 @@ import javax.enterprise.event.Event;
 import javax.inject.Inject;
 import javax.inject.Named;
 
-import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorGraphContent;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorGraphModel;
-import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
 import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableGraphEditorService;
-import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableLinkManager;
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableResourceTypeDefinition;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
@@ -45,7 +41,6 @@ import org.kie.workbench.common.services.shared.project.KieProjectService;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.backend.vfs.PathFactory;
-import org.uberfire.commons.data.Pair;
 import org.uberfire.ext.editor.commons.backend.version.VersionRecordService;
 import org.uberfire.ext.editor.commons.service.CopyService;
 import org.uberfire.ext.editor.commons.service.DeleteService;
@@ -69,8 +64,7 @@ public class GuidedDecisionTableGraphEditorServiceImpl
     private RenameService renameService;
     private KieProjectService projectService;
     private VersionRecordService versionRecordService;
-    private GuidedDecisionTableEditorService dtableService;
-    private GuidedDecisionTableLinkManager dtableLinkManager;
+    private GuidedDecisionTableLinkIndex dtableLinkIndex;
     private Event<ResourceOpenedEvent> resourceOpenedEvent;
     private CommentedOptionFactory commentedOptionFactory;
     private GuidedDTableResourceTypeDefinition resourceType;
@@ -87,8 +81,7 @@ public class GuidedDecisionTableGraphEditorServiceImpl
                                                       final RenameService renameService,
                                                       final KieProjectService projectService,
                                                       final VersionRecordService versionRecordService,
-                                                      final GuidedDecisionTableEditorService dtableService,
-                                                      final GuidedDecisionTableLinkManager dtableLinkManager,
+                                                      final GuidedDecisionTableLinkIndex dtableLinkIndex,
                                                       final Event<ResourceOpenedEvent> resourceOpenedEvent,
                                                       final CommentedOptionFactory commentedOptionFactory,
                                                       final GuidedDTableResourceTypeDefinition resourceType,
@@ -99,8 +92,7 @@ public class GuidedDecisionTableGraphEditorServiceImpl
         this.renameService = renameService;
         this.projectService = projectService;
         this.versionRecordService = versionRecordService;
-        this.dtableService = dtableService;
-        this.dtableLinkManager = dtableLinkManager;
+        this.dtableLinkIndex = dtableLinkIndex;
         this.resourceOpenedEvent = resourceOpenedEvent;
         this.commentedOptionFactory = commentedOptionFactory;
         this.resourceType = resourceType;
@@ -293,24 +285,7 @@ public class GuidedDecisionTableGraphEditorServiceImpl
     }
 
     private Set<Path> getLinkedDecisionTablesInPackage( final Path context ) {
-        final Set<Path> linkedDecisionTablePaths = new HashSet<>();
-        final List<Path> allDecisionTablePathsInPackage = listDecisionTablesInPackage( context );
-        final List<Pair<Path, GuidedDecisionTable52>> allDecisionTablesInPackage = new ArrayList<>();
-        allDecisionTablePathsInPackage.forEach( ( path ) -> allDecisionTablesInPackage.add( new Pair<>( path,
-                                                                                                        dtableService.load( path ) ) ) );
-        allDecisionTablesInPackage.forEach( ( source ) -> {
-            final List<Pair<Path, GuidedDecisionTable52>> otherDecisionTablesInPackage = new ArrayList<>();
-            otherDecisionTablesInPackage.addAll( allDecisionTablesInPackage );
-            otherDecisionTablesInPackage.remove( source );
-            otherDecisionTablesInPackage.forEach( ( target ) -> dtableLinkManager.link( source.getK2(),
-                                                                                        target.getK2(),
-                                                                                        ( s, t ) -> {
-                                                                                            linkedDecisionTablePaths.add( source.getK1() );
-                                                                                            linkedDecisionTablePaths.add( target.getK1() );
-                                                                                        } ) );
-        } );
-
-        return linkedDecisionTablePaths;
+        return dtableLinkIndex.getLinkedDecisionTables( listDecisionTablesInPackage( context ) );
     }
 
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.drools.workbench.models.guided.dtable.backend.GuidedDTXMLPersistence;
+import org.drools.workbench.models.guided.dtable.shared.model.ActionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.ActionInsertFactCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.ActionSetFieldCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.BRLActionColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.BRLActionVariableColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.BRLConditionColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.BRLConditionVariableColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.BRLRuleModel;
+import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.CompositeColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Index of the fact fields each Guided Decision Table sets in its actions and tests in its conditions.
+ * Tables are linked when one sets a fact field that another tests, the same rule the
+ * {@link org.drools.workbench.screens.guided.dtable.shared.DefaultGuidedDecisionTableLinkManager} applies to a pair of tables.
+ * <br>
+ * <br>
+ * The fields of a table are kept until the table is added, updated, deleted, renamed or copied over,
+ * so a table is only read and unmarshalled again after it has changed.
+ */
+@ApplicationScoped
+public class GuidedDecisionTableLinkIndex {
+
+    private IOService ioService;
+
+    //Fact fields by the URI of the Decision Table. Entries are dropped when the Decision Table changes.
+    private final ConcurrentMap<String, FactFields> factFieldsByUri = new ConcurrentHashMap<String, FactFields>();
+
+    public GuidedDecisionTableLinkIndex() {
+        //Zero parameter constructor for CDI
+    }
+
+    @Inject
+    public GuidedDecisionTableLinkIndex( final @Named("ioStrategy") IOService ioService ) {
+        this.ioService = ioService;
+    }
+
+    /**
+     * @param paths
+     *         Decision Tables to link with each other.
+     * @return Decision Tables that are linked to at least one of the other Decision Tables.
+     */
+    public Set<Path> getLinkedDecisionTables( final Collection<Path> paths ) {
+        final Map<FactField, Set<Path>> producers = new HashMap<>();
+        final Map<FactField, Set<Path>> consumers = new HashMap<>();
+
+        for ( Path path : paths ) {
+            final FactFields factFields = getFactFields( path );
+            for ( FactField factField : factFields.produced ) {
+                producers.computeIfAbsent( factField,
+                                           ( k ) -> new HashSet<>() ).add( path );
+            }
+            for ( FactField factField : factFields.consumed ) {
+                consumers.computeIfAbsent( factField,
+                                           ( k ) -> new HashSet<>() ).add( path );
+            }
+        }
+
+        final Set<Path> linkedPaths = new HashSet<>();
+        for ( Map.Entry<FactField, Set<Path>> e : consumers.entrySet() ) {
+            final Set<Path> consumingPaths = e.getValue();
+            final Set<Path> producingPaths = producers.get( e.getKey() );
+            if ( producingPaths == null ) {
+                continue;
+            }
+            //A Decision Table is never linked to itself
+            for ( Path path : consumingPaths ) {
+                if ( producingPaths.size() > 1 || !producingPaths.contains( path ) ) {
+                    linkedPaths.add( path );
+                }
+            }
+            for ( Path path : producingPaths ) {
+                if ( consumingPaths.size() > 1 || !consumingPaths.contains( path ) ) {
+                    linkedPaths.add( path );
+                }
+            }
+        }
+
+        return linkedPaths;
+    }
+
+    private FactFields getFactFields( final Path path ) {
+        //Loading holds the entry's lock, so an invalidation arriving mid-load waits and then drops what was loaded
+        return factFieldsByUri.computeIfAbsent( path.toURI(),
+                                                ( uri ) -> new FactFields( GuidedDTXMLPersistence.getInstance().unmarshal( ioService.readAllString( Paths.convert( path ) ) ) ) );
+    }
+
+    public void onResourceAdded( @Observes final ResourceAddedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceUpdated( @Observes final ResourceUpdatedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceDeleted( @Observes final ResourceDeletedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceRenamed( @Observes final ResourceRenamedEvent event ) {
+        invalidate( event.getPath() );
+        invalidate( event.getDestinationPath() );
+    }
+
+    public void onResourceCopied( @Observes final ResourceCopiedEvent event ) {
+        invalidate( event.getDestinationPath() );
+    }
+
+    public void onResourceBatchChanges( @Observes final ResourceBatchChangesEvent event ) {
+        for ( Path path : event.getBatch().keySet() ) {
+            invalidate( path );
+        }
+    }
+
+    private void invalidate( final Path path ) {
+        if ( path == null ) {
+            return;
+        }
+        factFieldsByUri.remove( path.toURI() );
+    }
+
+    private static class FactFields {
+
+        private final Set<FactField> produced = new HashSet<>();
+        private final Set<FactField> consumed = new HashSet<>();
+
+        private FactFields( final GuidedDecisionTable52 model ) {
+            final BRLRuleModel helper = new BRLRuleModel( model );
+
+            for ( CompositeColumn<? extends BaseColumn> conditions : model.getConditions() ) {
+                if ( conditions instanceof Pattern52 ) {
+                    final Pattern52 pattern = (Pattern52) conditions;
+                    for ( ConditionCol52 condition : pattern.getChildColumns() ) {
+                        add( consumed,
+                             pattern.getFactType(),
+                             condition.getFactField() );
+                    }
+                } else if ( conditions instanceof BRLConditionColumn ) {
+                    final BRLConditionColumn fragment = (BRLConditionColumn) conditions;
+                    for ( BRLConditionVariableColumn var : fragment.getChildColumns() ) {
+                        add( consumed,
+                             var.getFactType(),
+                             var.getFactField() );
+                    }
+                }
+            }
+
+            for ( ActionCol52 ac : model.getActionCols() ) {
+                if ( ac instanceof ActionInsertFactCol52 ) {
+                    final ActionInsertFactCol52 aif = (ActionInsertFactCol52) ac;
+                    add( produced,
+                         aif.getFactType(),
+                         aif.getFactField() );
+                } else if ( ac instanceof ActionSetFieldCol52 ) {
+                    final ActionSetFieldCol52 asf = (ActionSetFieldCol52) ac;
+                    add( produced,
+                         helper.getLHSBindingType( asf.getBoundName() ),
+                         asf.getFactField() );
+                } else if ( ac instanceof BRLActionColumn ) {
+                    final BRLActionColumn fragment = (BRLActionColumn) ac;
+                    for ( BRLActionVariableColumn var : fragment.getChildColumns() ) {
+                        add( produced,
+                             var.getFactType(),
+                             var.getFactField() );
+                    }
+                }
+            }
+        }
+
+        private static void add( final Set<FactField> factFields,
+                                 final String factType,
+                                 final String fieldName ) {
+            if ( factType == null || fieldName == null ) {
+                return;
+            }
+            factFields.add( new FactField( factType,
+                                           fieldName ) );
+        }
+    }
+
+    private static class FactField {
+
+        private final String factType;
+        private final String fieldName;
+
+        private FactField( final String factType,
+                           final String fieldName ) {
+            this.factType = factType;
+            this.fieldName = fieldName;
+        }
+
+        @Override
+        public boolean equals( final Object o ) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( !( o instanceof FactField ) ) {
+                return false;
+            }
+            final FactField that = (FactField) o;
+            return factType.equals( that.factType ) && fieldName.equals( that.fieldName );
+        }
+
+        @Override
+        public int hashCode() {
+            int result = factType.hashCode();
+            result = 31 * result + fieldName.hashCode();
+            return result;
+        }
+    }
+
+}
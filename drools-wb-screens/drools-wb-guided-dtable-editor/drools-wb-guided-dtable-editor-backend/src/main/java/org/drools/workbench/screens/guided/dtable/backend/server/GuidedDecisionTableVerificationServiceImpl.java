@@ -0,0 +1,342 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.drools.workbench.models.datamodel.imports.Import;
+import org.drools.workbench.models.datamodel.oracle.ModelField;
+import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableVerificationService;
+import org.drools.workbench.screens.guided.dtable.type.GuidedDTableResourceTypeDefinition;
+import org.drools.workbench.services.verifier.api.client.Status;
+import org.drools.workbench.services.verifier.api.client.configuration.DateTimeFormatProvider;
+import org.drools.workbench.services.verifier.api.client.configuration.RunnerType;
+import org.drools.workbench.services.verifier.api.client.reporting.Issue;
+import org.drools.workbench.services.verifier.api.client.reporting.Issues;
+import org.drools.workbench.services.verifier.core.main.Analyzer;
+import org.drools.workbench.services.verifier.core.main.Reporter;
+import org.drools.workbench.services.verifier.plugin.backend.ParallelCheckRunner;
+import org.drools.workbench.services.verifier.plugin.backend.ThreadConfinedRelationCache;
+import org.drools.workbench.services.verifier.plugin.client.api.FactTypes;
+import org.drools.workbench.services.verifier.plugin.client.api.Initialize;
+import org.drools.workbench.services.verifier.plugin.client.builders.BuildException;
+import org.drools.workbench.services.verifier.plugin.client.builders.ModelMetaDataEnhancer;
+import org.drools.workbench.services.verifier.webworker.client.AnalyzerBuilder;
+import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
+import org.guvnor.common.services.backend.file.LinkedDotFileFilter;
+import org.guvnor.common.services.backend.file.LinkedFilter;
+import org.guvnor.common.services.backend.file.LinkedMetaInfFolderFilter;
+import org.guvnor.common.services.project.model.Project;
+import org.jboss.errai.bus.server.annotations.Service;
+import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.commons.validation.PortablePreconditions;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.DirectoryStream;
+import org.uberfire.java.nio.file.Files;
+
+/**
+ * Verifies the Guided Decision Tables of a project with the same analysis the editor runs in the web worker.
+ * The tables are loaded and analyzed one at a time, so only one table is held in memory. The checks of a table
+ * run in parallel on a fork join pool shared by the requests.
+ */
+@Service
+@ApplicationScoped
+public class GuidedDecisionTableVerificationServiceImpl
+        implements GuidedDecisionTableVerificationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger( GuidedDecisionTableVerificationServiceImpl.class );
+
+    private static final String DEFAULT_DATE_FORMAT = "dd-MMM-yyyy";
+
+    private IOService ioService;
+    private KieProjectService projectService;
+    private GuidedDecisionTableEditorService dtableService;
+    private DataModelService dataModelService;
+    private GuidedDTableResourceTypeDefinition dtableType;
+    private ForkJoinPool checksPool;
+
+    public GuidedDecisionTableVerificationServiceImpl() {
+        //Zero parameter constructor for CDI
+    }
+
+    @Inject
+    public GuidedDecisionTableVerificationServiceImpl( final @Named("ioStrategy") IOService ioService,
+                                                       final KieProjectService projectService,
+                                                       final GuidedDecisionTableEditorService dtableService,
+                                                       final DataModelService dataModelService,
+                                                       final GuidedDTableResourceTypeDefinition dtableType ) {
+        this.ioService = ioService;
+        this.projectService = projectService;
+        this.dtableService = dtableService;
+        this.dataModelService = dataModelService;
+        this.dtableType = dtableType;
+    }
+
+    @PostConstruct
+    public void init() {
+        checksPool = new ForkJoinPool( Runtime.getRuntime()
+                                               .availableProcessors() );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        checksPool.shutdownNow();
+    }
+
+    @Override
+    public List<Issues> verifyProject( final Path path ) {
+        try {
+            final Project project = projectService.resolveProject( path );
+            if ( project == null ) {
+                throw new IllegalArgumentException( "Path " + path.toURI() + " is not in a project." );
+            }
+
+            final List<Path> tablePaths = findTables( project.getRootPath() );
+
+            final List<Issues> result = new ArrayList<>();
+            verify( () -> new Iterator<Initialize>() {
+
+                        private final Iterator<Path> paths = tablePaths.iterator();
+
+                        @Override
+                        public boolean hasNext() {
+                            return paths.hasNext();
+                        }
+
+                        @Override
+                        public Initialize next() {
+                            return makeInitialize( paths.next() );
+                        }
+                    },
+                    result::add );
+            return result;
+
+        } catch ( Exception e ) {
+            throw ExceptionUtilities.handleException( e );
+        }
+    }
+
+    /**
+     * Verifies the tables in turn. A table is only taken from the iterable once the previous one is done,
+     * so the tables can be loaded lazily. The issues of each table are given to the callback as soon as the table is done.
+     * <br>
+     * <br>
+     * A table that can not be loaded or analyzed does not stop the others, the failure is thrown once the rest are done.
+     * If the calling thread is interrupted the analysis in progress is cancelled and the verification fails,
+     * rather than returning the issues of only some of the tables.
+     */
+    public void verify( final Iterable<Initialize> tables,
+                        final Consumer<Issues> onIssues ) {
+        PortablePreconditions.checkNotNull( "tables",
+                                            tables );
+        PortablePreconditions.checkNotNull( "onIssues",
+                                            onIssues );
+
+        IllegalStateException failure = null;
+
+        final Iterator<Initialize> iterator = tables.iterator();
+        while ( iterator.hasNext() ) {
+            failIfInterrupted();
+
+            final Issues issues;
+            try {
+                issues = analyze( iterator.next() );
+            } catch ( final Exception e ) {
+                LOGGER.error( "Decision table verification failed",
+                              e );
+                if ( failure == null ) {
+                    failure = new IllegalStateException( "Decision table verification failed",
+                                                         e );
+                } else {
+                    failure.addSuppressed( e );
+                }
+                continue;
+            }
+
+            // The check runner cancels the analysis when interrupted, its issues are not complete
+            failIfInterrupted();
+            onIssues.accept( issues );
+        }
+
+        if ( failure != null ) {
+            throw failure;
+        }
+    }
+
+    private void failIfInterrupted() {
+        if ( Thread.currentThread()
+                .isInterrupted() ) {
+            throw new IllegalStateException( "Decision table verification was interrupted",
+                                             new InterruptedException() );
+        }
+    }
+
+    List<Path> findTables( final Path projectRoot ) {
+        final List<Path> tables = new ArrayList<>();
+        final Deque<org.uberfire.java.nio.file.Path> folders = new ArrayDeque<>();
+        final LinkedFilter filter = new LinkedDotFileFilter();
+        filter.setNextFilter( new LinkedMetaInfFolderFilter() );
+
+        folders.add( Paths.convert( projectRoot ) );
+
+        while ( !folders.isEmpty() ) {
+            try ( DirectoryStream<org.uberfire.java.nio.file.Path> directoryStream = ioService.newDirectoryStream( folders.poll() ) ) {
+                for ( final org.uberfire.java.nio.file.Path p : directoryStream ) {
+                    if ( !filter.accept( p ) ) {
+                        continue;
+                    }
+                    if ( Files.isDirectory( p ) ) {
+                        folders.add( p );
+                    } else if ( Files.isRegularFile( p ) ) {
+                        final Path table = Paths.convert( p );
+                        if ( dtableType.accept( table ) ) {
+                            tables.add( table );
+                        }
+                    }
+                }
+            }
+        }
+
+        return tables;
+    }
+
+    Initialize makeInitialize( final Path tablePath ) {
+        final GuidedDecisionTable52 model = dtableService.load( tablePath );
+        final PackageDataModelOracle oracle = dataModelService.getDataModel( tablePath );
+
+        return new Initialize( tablePath.toURI(),
+                               model,
+                               new ModelMetaDataEnhancer( model ).getHeaderMetaData(),
+                               makeFactTypes( model,
+                                              oracle ),
+                               DEFAULT_DATE_FORMAT );
+    }
+
+    /**
+     * Fact types the table can see by their short name, like the editor's data model oracle filters them:
+     * those of the table's package and those it imports.
+     */
+    FactTypes makeFactTypes( final GuidedDecisionTable52 model,
+                             final PackageDataModelOracle oracle ) {
+        final Set<String> imports = new HashSet<>();
+        for ( final Import item : model.getImports()
+                .getImports() ) {
+            imports.add( item.getType() );
+        }
+
+        final FactTypes factTypes = new FactTypes();
+
+        for ( final Map.Entry<String, ModelField[]> entry : oracle.getProjectModelFields()
+                .entrySet() ) {
+            final String fullyQualifiedClassName = entry.getKey();
+            final int lastDot = fullyQualifiedClassName.lastIndexOf( '.' );
+            final String packageName = lastDot < 0 ? "" : fullyQualifiedClassName.substring( 0,
+                                                                                              lastDot );
+
+            if ( !( imports.contains( fullyQualifiedClassName ) || packageName.equals( model.getPackageName() ) ) ) {
+                continue;
+            }
+
+            final Set<FactTypes.Field> fields = new HashSet<>();
+            for ( final ModelField modelField : entry.getValue() ) {
+                fields.add( new FactTypes.Field( modelField.getName(),
+                                                 modelField.getType() ) );
+            }
+
+            factTypes.add( new FactTypes.FactType( fullyQualifiedClassName.substring( lastDot + 1 ),
+                                                   fields ) );
+        }
+
+        return factTypes;
+    }
+
+    Issues analyze( final Initialize table ) throws
+                                             BuildException {
+        final LatestReport report = new LatestReport();
+
+        final Analyzer analyzer = new AnalyzerBuilder()
+                .with( table )
+                .with( RunnerType.JAVA )
+                .with( new ParallelCheckRunner( checksPool ) )
+                .with( new ThreadConfinedRelationCache() )
+                .with( new JavaDateTimeFormatProvider( table.getDateFormat() ) )
+                .with( report )
+                .buildAnalyzer();
+
+        analyzer.resetChecks();
+        analyzer.analyze();
+
+        return new Issues( table.getUuid(),
+                           report.issues );
+    }
+
+    private static class LatestReport
+            implements Reporter {
+
+        private Set<Issue> issues = new HashSet<>();
+
+        @Override
+        public void sendReport( final Set<Issue> issues ) {
+            this.issues = issues;
+        }
+
+        @Override
+        public void sendStatus( final Status status ) {
+            // Nobody is waiting for the progress of a single table
+        }
+    }
+
+    private static class JavaDateTimeFormatProvider
+            implements DateTimeFormatProvider {
+
+        private final String dateFormat;
+
+        private JavaDateTimeFormatProvider( final String dateFormat ) {
+            this.dateFormat = dateFormat == null ? DEFAULT_DATE_FORMAT : dateFormat;
+        }
+
+        @Override
+        public String format( final Date dateValue ) {
+            // SimpleDateFormat is not thread safe, the analyzers run on different threads
+            return new SimpleDateFormat( dateFormat ).format( dateValue );
+        }
+    }
+}
@@ -26,8 +26,6 @@ import javax.enterprise.event.Event;
 
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorGraphContent;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorGraphModel;
-import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
-import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableLinkManager;
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableGraphResourceTypeDefinition;
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableResourceTypeDefinition;
 import org.drools.workbench.screens.workitems.service.WorkItemsEditorService;
@@ -87,10 +85,7 @@ public class GuidedDecisionTableGraphEditorServiceImplTest {
     private VersionRecordService versionRecordService;
 
     @Mock
-    private GuidedDecisionTableEditorService dtableService;
-
-    @Mock
-    private GuidedDecisionTableLinkManager dtableLinkManager;
+    private GuidedDecisionTableLinkIndex dtableLinkIndex;
 
     @Mock
     private Event<ResourceOpenedEvent> resourceOpenedEvent = new EventSourceMock<>();
@@ -125,8 +120,7 @@ public class GuidedDecisionTableGraphEditorServiceImplTest {
                                                                  renameService,
                                                                  projectService,
                                                                  versionRecordService,
-                                                                 dtableService,
-                                                                 dtableLinkManager,
+                                                                 dtableLinkIndex,
                                                                  resourceOpenedEvent,
                                                                  commentedOptionFactory,
                                                                  dtResourceType,
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.drools.workbench.models.guided.dtable.backend.GuidedDTXMLPersistence;
+import org.drools.workbench.models.guided.dtable.shared.model.ActionInsertFactCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.ActionSetFieldCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
+import org.drools.workbench.screens.guided.dtable.shared.DefaultGuidedDecisionTableLinkManager;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.io.IOService;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GuidedDecisionTableLinkIndexTest {
+
+    @Mock
+    private IOService ioService;
+
+    private GuidedDecisionTableLinkIndex index;
+
+    private final Map<String, GuidedDecisionTable52> models = new HashMap<>();
+
+    @Before
+    public void setup() {
+        index = new GuidedDecisionTableLinkIndex( ioService );
+
+        models.clear();
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenAnswer( ( invocation ) -> {
+            final org.uberfire.java.nio.file.Path path = (org.uberfire.java.nio.file.Path) invocation.getArguments()[ 0 ];
+            return GuidedDTXMLPersistence.getInstance().marshal( models.get( path.getFileName().toString() ) );
+        } );
+    }
+
+    @Test
+    public void testLinkedDecisionTables() {
+        final Path producer = makeDecisionTable( "producer.gdst",
+                                                 insertsFact( "Applicant",
+                                                              "age" ) );
+        final Path consumer = makeDecisionTable( "consumer.gdst",
+                                                 testsFact( "Applicant",
+                                                            "age" ) );
+        final Path unrelated = makeDecisionTable( "unrelated.gdst",
+                                                  testsFact( "Applicant",
+                                                             "name" ) );
+
+        final Set<Path> linked = index.getLinkedDecisionTables( Arrays.asList( producer,
+                                                                               consumer,
+                                                                               unrelated ) );
+
+        assertEquals( 2,
+                      linked.size() );
+        assertTrue( linked.contains( producer ) );
+        assertTrue( linked.contains( consumer ) );
+    }
+
+    @Test
+    public void testDecisionTableIsNotLinkedToItself() {
+        final GuidedDecisionTable52 model = testsFact( "Applicant",
+                                                       "age" );
+        model.getActionCols().add( setsField( "$f",
+                                              "age" ) );
+        final Path path = makeDecisionTable( "self.gdst",
+                                             model );
+
+        assertTrue( index.getLinkedDecisionTables( Arrays.asList( path ) ).isEmpty() );
+
+        final Path other = makeDecisionTable( "other.gdst",
+                                              testsFact( "Applicant",
+                                                         "age" ) );
+
+        final Set<Path> linked = index.getLinkedDecisionTables( Arrays.asList( path,
+                                                                               other ) );
+        assertEquals( 2,
+                      linked.size() );
+    }
+
+    @Test
+    public void testChangedDecisionTableIsIndexedAgain() {
+        final Path producer = makeDecisionTable( "producer.gdst",
+                                                 insertsFact( "Applicant",
+                                                              "age" ) );
+        final Path consumer = makeDecisionTable( "consumer.gdst",
+                                                 testsFact( "Applicant",
+                                                            "age" ) );
+
+        assertEquals( 2,
+                      index.getLinkedDecisionTables( Arrays.asList( producer,
+                                                                    consumer ) ).size() );
+
+        models.put( "consumer.gdst",
+                    testsFact( "Applicant",
+                               "name" ) );
+        index.onResourceUpdated( updated( consumer ) );
+
+        assertTrue( index.getLinkedDecisionTables( Arrays.asList( producer,
+                                                                  consumer ) ).isEmpty() );
+    }
+
+    @Test
+    public void testUnchangedDecisionTablesAreReadOnce() {
+        final Path producer = makeDecisionTable( "producer.gdst",
+                                                 insertsFact( "Applicant",
+                                                              "age" ) );
+        final Path consumer = makeDecisionTable( "consumer.gdst",
+                                                 testsFact( "Applicant",
+                                                            "age" ) );
+
+        index.getLinkedDecisionTables( Arrays.asList( producer,
+                                                      consumer ) );
+        index.getLinkedDecisionTables( Arrays.asList( producer,
+                                                      consumer ) );
+
+        verify( ioService,
+                times( 2 ) ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+
+        index.onResourceUpdated( updated( producer ) );
+        index.getLinkedDecisionTables( Arrays.asList( producer,
+                                                      consumer ) );
+
+        verify( ioService,
+                times( 3 ) ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+    }
+
+    @Test
+    public void testDeletedRenamedAndBatchChangedDecisionTablesAreIndexedAgain() {
+        final Path producer = makeDecisionTable( "producer.gdst",
+                                                 insertsFact( "Applicant",
+                                                              "age" ) );
+        final Path consumer = makeDecisionTable( "consumer.gdst",
+                                                 testsFact( "Applicant",
+                                                            "age" ) );
+        final List<Path> paths = Arrays.asList( producer,
+                                                consumer );
+
+        assertEquals( 2,
+                      index.getLinkedDecisionTables( paths ).size() );
+
+        models.put( "consumer.gdst",
+                    testsFact( "Applicant",
+                               "name" ) );
+        final ResourceDeletedEvent deleted = mock( ResourceDeletedEvent.class );
+        when( deleted.getPath() ).thenReturn( consumer );
+        index.onResourceDeleted( deleted );
+
+        assertTrue( index.getLinkedDecisionTables( paths ).isEmpty() );
+
+        models.put( "consumer.gdst",
+                    testsFact( "Applicant",
+                               "age" ) );
+        final ResourceRenamedEvent renamed = mock( ResourceRenamedEvent.class );
+        when( renamed.getPath() ).thenReturn( producer );
+        when( renamed.getDestinationPath() ).thenReturn( consumer );
+        index.onResourceRenamed( renamed );
+
+        assertEquals( 2,
+                      index.getLinkedDecisionTables( paths ).size() );
+
+        models.put( "producer.gdst",
+                    testsFact( "Applicant",
+                               "age" ) );
+        final ResourceBatchChangesEvent batch = mock( ResourceBatchChangesEvent.class );
+        doReturn( Collections.singletonMap( producer,
+                                            Collections.<ResourceChange>emptyList() ) ).when( batch ).getBatch();
+        index.onResourceBatchChanges( batch );
+
+        assertTrue( index.getLinkedDecisionTables( paths ).isEmpty() );
+    }
+
+    @Test
+    public void testDecisionTableChangedWhileLoadingIsLoadedAgain() throws Exception {
+        final Path producer = makeDecisionTable( "producer.gdst",
+                                                 insertsFact( "Applicant",
+                                                              "age" ) );
+        final ResourceUpdatedEvent producerUpdated = updated( producer );
+        final Thread[] invalidation = new Thread[ 1 ];
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenAnswer( ( invocation ) -> {
+            if ( invalidation[ 0 ] == null ) {
+                //The Decision Table changes after this load read it, but before the load is cached
+                invalidation[ 0 ] = new Thread( () -> index.onResourceUpdated( producerUpdated ) );
+                invalidation[ 0 ].start();
+                invalidation[ 0 ].join( 200 );
+            }
+            return GuidedDTXMLPersistence.getInstance().marshal( models.get( "producer.gdst" ) );
+        } );
+
+        index.getLinkedDecisionTables( Collections.singletonList( producer ) );
+        invalidation[ 0 ].join();
+        index.getLinkedDecisionTables( Collections.singletonList( producer ) );
+
+        verify( ioService,
+                times( 2 ) ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+    }
+
+    @Test
+    public void testSameLinksAsLinkManager() {
+        final List<Path> paths = new ArrayList<>();
+        final String[] fields = {"age", "name", "score"};
+        for ( int i = 0; i < 9; i++ ) {
+            final GuidedDecisionTable52 model = testsFact( "Applicant",
+                                                           fields[ i % 3 ] );
+            if ( i % 2 == 0 ) {
+                model.getActionCols().add( setsField( "$f",
+                                                      fields[ ( i + 1 ) % 3 ] ) );
+            }
+            if ( i % 4 == 0 ) {
+                model.getActionCols().add( insertAction( "Applicant",
+                                                         fields[ i % 3 ] ) );
+            }
+            paths.add( makeDecisionTable( "dtable" + i + ".gdst",
+                                          model ) );
+        }
+
+        final Set<Path> expected = new HashSet<>();
+        final DefaultGuidedDecisionTableLinkManager manager = new DefaultGuidedDecisionTableLinkManager();
+        for ( Path source : paths ) {
+            for ( Path target : paths ) {
+                if ( source != target ) {
+                    manager.link( models.get( source.getFileName() ),
+                                  models.get( target.getFileName() ),
+                                  ( s, t ) -> {
+                                      expected.add( source );
+                                      expected.add( target );
+                                  } );
+                }
+            }
+        }
+
+        assertEquals( expected,
+                      index.getLinkedDecisionTables( paths ) );
+    }
+
+    private ResourceUpdatedEvent updated( final Path path ) {
+        final ResourceUpdatedEvent event = mock( ResourceUpdatedEvent.class );
+        when( event.getPath() ).thenReturn( path );
+        return event;
+    }
+
+    private Path makeDecisionTable( final String fileName,
+                                    final GuidedDecisionTable52 model ) {
+        models.put( fileName,
+                    model );
+        return PathFactory.newPath( fileName,
+                                    "default://project/src/main/resources/" + fileName );
+    }
+
+    private GuidedDecisionTable52 testsFact( final String factType,
+                                             final String fieldName ) {
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+        final Pattern52 pattern = new Pattern52();
+        pattern.setBoundName( "$f" );
+        pattern.setFactType( factType );
+        final ConditionCol52 condition = new ConditionCol52();
+        condition.setFactField( fieldName );
+        pattern.getChildColumns().add( condition );
+        model.getConditions().add( pattern );
+        return model;
+    }
+
+    private GuidedDecisionTable52 insertsFact( final String factType,
+                                               final String fieldName ) {
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+        model.getActionCols().add( insertAction( factType,
+                                                 fieldName ) );
+        return model;
+    }
+
+    private ActionInsertFactCol52 insertAction( final String factType,
+                                                final String fieldName ) {
+        final ActionInsertFactCol52 action = new ActionInsertFactCol52();
+        action.setBoundName( "$i" );
+        action.setFactType( factType );
+        action.setFactField( fieldName );
+        return action;
+    }
+
+    private ActionSetFieldCol52 setsField( final String boundName,
+                                           final String fieldName ) {
+        final ActionSetFieldCol52 action = new ActionSetFieldCol52();
+        action.setBoundName( boundName );
+        action.setFactField( fieldName );
+        return action;
+    }
+
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.workbench.models.datamodel.imports.Import;
+import org.drools.workbench.models.datamodel.oracle.DataType;
+import org.drools.workbench.models.datamodel.oracle.ModelField;
+import org.drools.workbench.models.datamodel.oracle.PackageDataModelOracle;
+import org.drools.workbench.models.datamodel.rule.BaseSingleFieldConstraint;
+import org.drools.workbench.models.guided.dtable.backend.util.DataUtilities;
+import org.drools.workbench.models.guided.dtable.shared.model.ActionSetFieldCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
+import org.drools.workbench.screens.guided.dtable.type.GuidedDTableResourceTypeDefinition;
+import org.drools.workbench.services.verifier.api.client.reporting.CheckType;
+import org.drools.workbench.services.verifier.api.client.reporting.Issue;
+import org.drools.workbench.services.verifier.api.client.reporting.Issues;
+import org.drools.workbench.services.verifier.plugin.client.api.FactTypes;
+import org.drools.workbench.services.verifier.plugin.client.api.Initialize;
+import org.drools.workbench.services.verifier.plugin.client.builders.ModelMetaDataEnhancer;
+import org.guvnor.common.services.project.model.Project;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GuidedDecisionTableVerificationServiceImplTest {
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private KieProjectService projectService;
+
+    @Mock
+    private GuidedDecisionTableEditorService dtableService;
+
+    @Mock
+    private DataModelService dataModelService;
+
+    @Mock
+    private PackageDataModelOracle oracle;
+
+    private GuidedDecisionTableVerificationServiceImpl service;
+
+    @Before
+    public void setup() {
+        service = spy( new GuidedDecisionTableVerificationServiceImpl( ioService,
+                                                                       projectService,
+                                                                       dtableService,
+                                                                       dataModelService,
+                                                                       new GuidedDTableResourceTypeDefinition() ) );
+        service.init();
+    }
+
+    @After
+    public void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    public void testVerify() {
+        final List<Initialize> tables = new ArrayList<>();
+        tables.add( table( "redundant",
+                           new Object[][]{
+                                   {1, "", 1, true},
+                                   {2, "", 1, true}
+                           } ) );
+        tables.add( table( "clean",
+                           new Object[][]{
+                                   {1, "", 1, true},
+                                   {2, "", 2, true}
+                           } ) );
+        tables.add( table( "conflicting",
+                           new Object[][]{
+                                   {1, "", 1, true},
+                                   {2, "", 1, false}
+                           } ) );
+
+        final Map<String, Issues> result = new HashMap<>();
+        service.verify( tables,
+                        issues -> result.put( issues.getWebWorkerUUID(),
+                                              issues ) );
+
+        assertEquals( 3,
+                      result.size() );
+        assertTrue( contains( result.get( "redundant" ),
+                              CheckType.REDUNDANT_ROWS ) );
+        assertFalse( contains( result.get( "clean" ),
+                               CheckType.REDUNDANT_ROWS ) );
+        assertFalse( contains( result.get( "clean" ),
+                               CheckType.CONFLICTING_ROWS ) );
+        assertTrue( contains( result.get( "conflicting" ),
+                              CheckType.CONFLICTING_ROWS ) );
+    }
+
+    @Test
+    public void testTablesAreLoadedOneAtATime() {
+        final List<Initialize> tables = new ArrayList<>();
+        tables.add( table( "first",
+                           new Object[][]{
+                                   {1, "", 1, true}
+                           } ) );
+        tables.add( table( "second",
+                           new Object[][]{
+                                   {1, "", 1, true}
+                           } ) );
+
+        final List<String> events = new ArrayList<>();
+
+        service.verify( () -> new Iterator<Initialize>() {
+
+                            private final Iterator<Initialize> iterator = tables.iterator();
+
+                            @Override
+                            public boolean hasNext() {
+                                return iterator.hasNext();
+                            }
+
+                            @Override
+                            public Initialize next() {
+                                final Initialize table = iterator.next();
+                                events.add( "load " + table.getUuid() );
+                                return table;
+                            }
+                        },
+                        issues -> events.add( "issues " + issues.getWebWorkerUUID() ) );
+
+        assertEquals( Arrays.asList( "load first",
+                                     "issues first",
+                                     "load second",
+                                     "issues second" ),
+                      events );
+    }
+
+    @Test
+    public void testFailingTableDoesNotStopTheOthers() {
+        final List<Initialize> tables = new ArrayList<>();
+        tables.add( new Initialize( "broken",
+                                    null,
+                                    null,
+                                    factTypes(),
+                                    "dd-MMM-yyyy" ) );
+        tables.add( table( "redundant",
+                           new Object[][]{
+                                   {1, "", 1, true},
+                                   {2, "", 1, true}
+                           } ) );
+
+        final List<Issues> streamed = new ArrayList<>();
+
+        try {
+            service.verify( tables,
+                            streamed::add );
+            fail( "Broken table should fail the verification" );
+        } catch ( IllegalStateException e ) {
+            // Expected
+        }
+
+        assertEquals( 1,
+                      streamed.size() );
+        assertEquals( "redundant",
+                      streamed.get( 0 ).getWebWorkerUUID() );
+    }
+
+    @Test
+    public void testInterruptedVerificationFails() {
+        final List<Issues> streamed = new ArrayList<>();
+
+        Thread.currentThread().interrupt();
+        try {
+            service.verify( Collections.singletonList( table( "clean",
+                                                              new Object[][]{
+                                                                      {1, "", 1, true}
+                                                              } ) ),
+                            streamed::add );
+            fail( "Interrupted verification should not return partial results" );
+        } catch ( IllegalStateException e ) {
+            assertTrue( e.getCause() instanceof InterruptedException );
+        } finally {
+            assertTrue( Thread.interrupted() );
+        }
+
+        assertTrue( streamed.isEmpty() );
+    }
+
+    @Test
+    public void testVerifyProject() {
+        final Path path = mock( Path.class );
+        final Path rootPath = mock( Path.class );
+        final Path tablePath = mock( Path.class );
+        final Project project = mock( Project.class );
+        final Initialize table = table( "default://project/src/main/resources/org/test/dtable.gdst",
+                                        new Object[][]{
+                                                {1, "", 1, true},
+                                                {2, "", 1, true}
+                                        } );
+
+        when( projectService.resolveProject( path ) ).thenReturn( project );
+        when( project.getRootPath() ).thenReturn( rootPath );
+        doReturn( Collections.singletonList( tablePath ) ).when( service ).findTables( rootPath );
+        doReturn( table ).when( service ).makeInitialize( tablePath );
+
+        final List<Issues> result = service.verifyProject( path );
+
+        assertEquals( 1,
+                      result.size() );
+        assertEquals( "default://project/src/main/resources/org/test/dtable.gdst",
+                      result.get( 0 ).getWebWorkerUUID() );
+        assertTrue( contains( result.get( 0 ),
+                              CheckType.REDUNDANT_ROWS ) );
+    }
+
+    @Test
+    public void testMakeFactTypesKeepsTypesVisibleToTheTable() {
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+        model.setPackageName( "org.test" );
+        model.getImports().addImport( new Import( "org.other.Imported" ) );
+
+        final Map<String, ModelField[]> modelFields = new HashMap<>();
+        modelFields.put( "org.test.Person",
+                         new ModelField[]{modelField( "age",
+                                                      DataType.TYPE_NUMERIC_INTEGER )} );
+        modelFields.put( "org.other.Imported",
+                         new ModelField[]{modelField( "name",
+                                                      DataType.TYPE_STRING )} );
+        modelFields.put( "org.other.NotImported",
+                         new ModelField[]{modelField( "name",
+                                                      DataType.TYPE_STRING )} );
+        when( oracle.getProjectModelFields() ).thenReturn( modelFields );
+
+        final FactTypes factTypes = service.makeFactTypes( model,
+                                                           oracle );
+
+        assertEquals( 2,
+                      factTypes.getFactTypes().size() );
+        assertEquals( DataType.TYPE_NUMERIC_INTEGER,
+                      factTypes.getFieldType( "Person",
+                                              "age" ) );
+        assertEquals( DataType.TYPE_STRING,
+                      factTypes.getFieldType( "Imported",
+                                              "name" ) );
+        assertNull( factTypes.getFactType( "NotImported" ) );
+    }
+
+    private Initialize table( final String uuid,
+                              final Object[][] data ) {
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+
+        final Pattern52 pattern = new Pattern52();
+        pattern.setBoundName( "a" );
+        pattern.setFactType( "Person" );
+
+        final ConditionCol52 condition = new ConditionCol52();
+        condition.setConstraintValueType( BaseSingleFieldConstraint.TYPE_LITERAL );
+        condition.setFieldType( DataType.TYPE_NUMERIC_INTEGER );
+        condition.setFactField( "age" );
+        condition.setHeader( "Applicant age" );
+        condition.setOperator( "==" );
+        pattern.getChildColumns().add( condition );
+        model.getConditions().add( pattern );
+
+        final ActionSetFieldCol52 action = new ActionSetFieldCol52();
+        action.setBoundName( "a" );
+        action.setFactField( "approved" );
+        action.setType( DataType.TYPE_BOOLEAN );
+        model.getActionCols().add( action );
+
+        model.setData( DataUtilities.makeDataLists( data ) );
+
+        return new Initialize( uuid,
+                               model,
+                               new ModelMetaDataEnhancer( model ).getHeaderMetaData(),
+                               factTypes(),
+                               "dd-MMM-yyyy" );
+    }
+
+    private FactTypes factTypes() {
+        final FactTypes factTypes = new FactTypes();
+        factTypes.add( new FactTypes.FactType( "Person",
+                                               new HashSet<FactTypes.Field>() {{
+                                                   add( new FactTypes.Field( "age",
+                                                                             DataType.TYPE_NUMERIC_INTEGER ) );
+                                                   add( new FactTypes.Field( "approved",
+                                                                             DataType.TYPE_BOOLEAN ) );
+                                               }} ) );
+        return factTypes;
+    }
+
+    private ModelField modelField( final String name,
+                                   final String type ) {
+        final ModelField modelField = mock( ModelField.class );
+        when( modelField.getName() ).thenReturn( name );
+        when( modelField.getType() ).thenReturn( type );
+        return modelField;
+    }
+
+    private boolean contains( final Issues issues,
+                              final CheckType checkType ) {
+        for ( final Issue issue : issues.getSet() ) {
+            if ( checkType.equals( issue.getCheckType() ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
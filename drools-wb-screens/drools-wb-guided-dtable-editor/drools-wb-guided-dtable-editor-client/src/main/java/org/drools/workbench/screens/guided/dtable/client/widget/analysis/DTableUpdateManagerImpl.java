@@ -15,17 +15,19 @@
  */
 package org.drools.workbench.screens.guided.dtable.client.widget.analysis;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.services.verifier.plugin.client.Coordinate;
 import org.drools.workbench.services.verifier.plugin.client.DTableUpdateManager;
+import org.drools.workbench.services.verifier.plugin.client.api.CellValue;
 import org.drools.workbench.services.verifier.plugin.client.api.DeleteColumns;
-import org.drools.workbench.services.verifier.plugin.client.api.MakeRule;
+import org.drools.workbench.services.verifier.plugin.client.api.InsertRule;
 import org.drools.workbench.services.verifier.plugin.client.api.NewColumn;
 import org.drools.workbench.services.verifier.plugin.client.api.RemoveRule;
-import org.drools.workbench.services.verifier.plugin.client.api.Update;
+import org.drools.workbench.services.verifier.plugin.client.api.UpdateCells;
 import org.drools.workbench.services.verifier.plugin.client.builders.ModelMetaDataEnhancer;
 
 
@@ -46,8 +48,16 @@ public class DTableUpdateManagerImpl
     @Override
     public void update( final GuidedDecisionTable52 model,
                         final List<Coordinate> coordinates ) {
-        webWorker.send( new Update( model,
-                                    coordinates ) );
+        final List<CellValue> cellValues = new ArrayList<>();
+
+        for ( final Coordinate coordinate : coordinates ) {
+            cellValues.add( new CellValue( coordinate,
+                                           model.getData()
+                                                   .get( coordinate.getRow() )
+                                                   .get( coordinate.getCol() ) ) );
+        }
+
+        webWorker.send( new UpdateCells( cellValues ) );
     }
 
     @Override
@@ -74,10 +84,15 @@ public class DTableUpdateManagerImpl
     @Override
     public void makeRule( final GuidedDecisionTable52 model,
                           int index ) {
-        webWorker.send( new MakeRule( model,
-                                      new ModelMetaDataEnhancer( model ).getHeaderMetaData(),
-                                      fieldTypeProducer.getFactTypes(),
-                                      index ) );
+        webWorker.send( new InsertRule( index,
+                                        model.getData()
+                                                .get( index ) ) );
+    }
+
+    @Override
+    public void resync( final GuidedDecisionTable52 model ) {
+        webWorker.resync( new ModelMetaDataEnhancer( model ).getHeaderMetaData(),
+                          fieldTypeProducer.getFactTypes() );
     }
 
 }
@@ -130,6 +130,10 @@ public class DecisionTableAnalyzer {
         eventManager.clear();
     }
 
+    public void resync() {
+        updateManager.resync( model );
+    }
+
     public void deleteRow( final int index ) {
         eventManager.rowDeleted = index;
     }
@@ -24,10 +24,14 @@ import com.google.gwt.webworker.client.Worker;
 import org.drools.workbench.services.verifier.api.client.Reporter;
 import org.drools.workbench.services.verifier.api.client.Status;
 import org.drools.workbench.services.verifier.api.client.reporting.Issues;
+import org.drools.workbench.services.verifier.plugin.client.api.FactTypes;
+import org.drools.workbench.services.verifier.plugin.client.api.HeaderMetaData;
 import org.drools.workbench.services.verifier.plugin.client.api.Initialize;
+import org.drools.workbench.services.verifier.plugin.client.api.RequestResync;
 import org.drools.workbench.services.verifier.plugin.client.api.RequestStatus;
 import org.drools.workbench.services.verifier.plugin.client.api.WebWorkerException;
 import org.drools.workbench.services.verifier.plugin.client.api.WebWorkerLogMessage;
+import org.drools.workbench.services.verifier.plugin.client.builders.ModelMetaDataEnhancer;
 import org.jboss.errai.enterprise.client.jaxrs.MarshallingWrapper;
 import org.uberfire.commons.validation.PortablePreconditions;
 
@@ -39,7 +43,7 @@ public class VerifierWebWorkerConnectionImpl
     private Worker worker = null;
 
     private final Reporter reporter;
-    private final Initialize initialize;
+    private Initialize initialize;
 
     public VerifierWebWorkerConnectionImpl( final Initialize initialize,
                                             final Reporter reporter ) {
@@ -76,6 +80,23 @@ public class VerifierWebWorkerConnectionImpl
         }
     }
 
+    /**
+     * Initializes the web worker again with the current model, so its copy of the model and its index are rebuilt.
+     */
+    public void resync( final HeaderMetaData headerMetaData,
+                        final FactTypes factTypes ) {
+        initialize = new Initialize( initialize.getUuid(),
+                                     initialize.getModel(),
+                                     headerMetaData,
+                                     factTypes,
+                                     initialize.getDateFormat() );
+
+        // A worker that is not running yet gets the new initialize when it is activated
+        if ( worker != null ) {
+            send( initialize );
+        }
+    }
+
     @Override
     public void terminate() {
         worker.terminate();
@@ -102,6 +123,10 @@ public class VerifierWebWorkerConnectionImpl
                 LOGGER.info( "Web Worker log message: " + ( (WebWorkerLogMessage) o ).getMessage() );
             } else if ( o instanceof WebWorkerException ) {
                 LOGGER.severe( "Web Worker failed: " + ( (WebWorkerException) o ).getMessage() );
+            } else if ( o instanceof RequestResync ) {
+                // The fact types do not change with the rows and cells whose updates can fail
+                resync( new ModelMetaDataEnhancer( initialize.getModel() ).getHeaderMetaData(),
+                        initialize.getFactTypes() );
             } else if ( o instanceof Status ) {
                 reporter.sendStatus( (Status) o );
             } else if ( o instanceof Issues ) {
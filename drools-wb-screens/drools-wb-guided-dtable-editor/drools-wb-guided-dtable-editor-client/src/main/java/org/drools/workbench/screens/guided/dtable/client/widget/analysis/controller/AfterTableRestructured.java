@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis.controller;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+
+/**
+ * An event to notify rows or columns were moved, or a column was updated
+ */
+public class AfterTableRestructured
+        extends GwtEvent<AfterTableRestructured.Handler> {
+
+    public static interface Handler
+            extends
+            EventHandler {
+
+        void onAfterTableRestructured( final AfterTableRestructured event );
+    }
+
+    public static final Type<Handler> TYPE = new Type<Handler>();
+
+    @Override
+    public Type<Handler> getAssociatedType() {
+        return TYPE;
+    }
+
+    @Override
+    protected void dispatch( final AfterTableRestructured.Handler handler ) {
+        handler.onAfterTableRestructured( this );
+    }
+
+}
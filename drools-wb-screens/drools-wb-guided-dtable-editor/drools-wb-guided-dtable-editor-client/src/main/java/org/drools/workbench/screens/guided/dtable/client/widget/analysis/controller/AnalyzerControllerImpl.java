@@ -36,7 +36,8 @@ public class AnalyzerControllerImpl
                    UpdateColumnDataEvent.Handler,
                    AppendRowEvent.Handler,
                    InsertRowEvent.Handler,
-                   AfterColumnInserted.Handler {
+                   AfterColumnInserted.Handler,
+                   AfterTableRestructured.Handler {
 
     private static final Logger LOGGER = Logger.getLogger( "DTable Analyzer" );
 
@@ -67,6 +68,8 @@ public class AnalyzerControllerImpl
                              this );
         eventBus.addHandler( AfterColumnInserted.TYPE,
                              this );
+        eventBus.addHandler( AfterTableRestructured.TYPE,
+                             this );
 
     }
 
@@ -100,6 +103,11 @@ public class AnalyzerControllerImpl
         decisionTableAnalyzer.insertColumn( event.getColumn() );
     }
 
+    @Override
+    public void onAfterTableRestructured( final AfterTableRestructured event ) {
+        decisionTableAnalyzer.resync();
+    }
+
     @Override
     public void onAppendRow( final AppendRowEvent event ) {
         decisionTableAnalyzer.appendRow();
@@ -51,6 +51,7 @@ import org.kie.workbench.common.widgets.decoratedgrid.client.widget.CellValue;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.controller.AfterColumnDeleted;
 import org.drools.workbench.screens.guided.dtable.client.widget.analysis.controller.AfterColumnInserted;
+import org.drools.workbench.screens.guided.dtable.client.widget.analysis.controller.AfterTableRestructured;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.events.AppendRowEvent;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.events.DeleteRowEvent;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.events.InsertRowEvent;
@@ -255,8 +256,10 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                                                                                       editedColumn );
         for ( Synchronizer synchronizer : synchronizers ) {
             if ( synchronizer.handlesUpdate( originalMetaData ) ) {
-                return synchronizer.update( originalMetaData,
-                                            editedMetaData );
+                final List<BaseColumnFieldDiff> diffs = synchronizer.update( originalMetaData,
+                                                                             editedMetaData );
+                fireAfterTableRestructuredEvent();
+                return diffs;
             }
         }
         return Collections.emptyList();
@@ -279,6 +282,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 if ( isSalienceUseRowNumberUpdated || isSalienceUseReverseOrderUpdated ) {
                     updateSystemControlledColumnValues();
                 }
+                fireAfterTableRestructuredEvent();
                 return diffs;
             }
         }
@@ -361,6 +365,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         for ( Synchronizer synchronizer : handlers ) {
             synchronizer.moveColumnsTo( metaData );
         }
+        fireAfterTableRestructuredEvent();
     }
 
     @Override
@@ -395,6 +400,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         }
 
         handler.moveColumnsTo( metaData );
+        fireAfterTableRestructuredEvent();
     }
 
     @Override
@@ -430,7 +436,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         for ( Synchronizer synchronizer : handlers ) {
             synchronizer.moveRowsTo( metaData );
         }
-
+        fireAfterTableRestructuredEvent();
     }
 
     @Override
@@ -529,6 +535,10 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                                                     1 ) );
     }
 
+    protected void fireAfterTableRestructuredEvent() {
+        eventBus.fireEvent( new AfterTableRestructured() );
+    }
+
     protected void fireAppendRowEvent() {
         eventBus.fireEvent( new AppendRowEvent() );
     }
@@ -72,6 +72,8 @@ public class AnalyzerControllerImplTest {
                                        controller );
         verify( eventBus ).addHandler( AfterColumnInserted.TYPE,
                                        controller );
+        verify( eventBus ).addHandler( AfterTableRestructured.TYPE,
+                                       controller );
 
     }
 
@@ -102,6 +104,12 @@ public class AnalyzerControllerImplTest {
                                           2 );
     }
 
+    @Test
+    public void tableRestructured() throws Exception {
+        controller.onAfterTableRestructured( new AfterTableRestructured() );
+        verify( analyzer ).resync();
+    }
+
     @Test
     public void appendRow() throws Exception {
         controller.onAppendRow( new AppendRowEvent() );
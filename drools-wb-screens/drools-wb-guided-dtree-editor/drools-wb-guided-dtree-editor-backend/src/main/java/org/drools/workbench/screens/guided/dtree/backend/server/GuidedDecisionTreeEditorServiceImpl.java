@@ -129,11 +129,16 @@ public class GuidedDecisionTreeEditorServiceImpl
 
     @Override
     public GuidedDecisionTree load( final Path path ) {
+        return load( path,
+                     dataModelService.getDataModel( path ) );
+    }
+
+    private GuidedDecisionTree load( final Path path,
+                                     final PackageDataModelOracle oracle ) {
         try {
             final String drl = ioService.readAllString( Paths.convert( path ) );
             final String baseFileName = FileNameUtil.removeExtension( path,
                                                                       resourceType );
-            final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
             final GuidedDecisionTree model = GuidedDecisionTreeDRLPersistence.getInstance().unmarshal( drl,
                                                                                                        baseFileName,
                                                                                                        oracle );
@@ -153,8 +158,10 @@ public class GuidedDecisionTreeEditorServiceImpl
     @Override
     protected GuidedDecisionTreeEditorContent constructContent( Path path,
                                                                 Overview overview ) {
-        final GuidedDecisionTree model = load( path );
+        //Resolve the oracle once and use it to both unmarshal the model and build the payload
         final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
+        final GuidedDecisionTree model = load( path,
+                                               oracle );
         final PackageDataModelOracleBaselinePayload dataModel = new PackageDataModelOracleBaselinePayload();
 
         //Get FQCN's used by model
@@ -138,10 +138,15 @@ public class GuidedRuleEditorServiceImpl
 
     @Override
     public RuleModel load( final Path path ) {
+        return load( path,
+                     dataModelService.getDataModel( path ) );
+    }
+
+    private RuleModel load( final Path path,
+                            final PackageDataModelOracle oracle ) {
         try {
             final String drl = ioService.readAllString( Paths.convert( path ) );
             final List<String> globals = utilities.loadGlobalsForPackage( path );
-            final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
 
             RuleModel ruleModel = null;
             if ( dslrResourceType.accept( path ) ) {
@@ -171,8 +176,10 @@ public class GuidedRuleEditorServiceImpl
     @Override
     protected GuidedEditorContent constructContent( Path path,
                                                     Overview overview ) {
-        final RuleModel model = load( path );
+        //Resolve the oracle once and use it to both unmarshal the model and build the payload
         final PackageDataModelOracle oracle = dataModelService.getDataModel( path );
+        final RuleModel model = load( path,
+                                      oracle );
         final PackageDataModelOracleBaselinePayload dataModel = new PackageDataModelOracleBaselinePayload();
 
         //Get FQCN's used by model
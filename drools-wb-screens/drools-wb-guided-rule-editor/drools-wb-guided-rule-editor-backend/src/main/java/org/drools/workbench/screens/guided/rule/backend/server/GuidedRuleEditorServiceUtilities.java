@@ -17,9 +17,13 @@ package org.drools.workbench.screens.guided.rule.backend.server;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.inject.Named;
 
@@ -32,10 +36,18 @@ import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.io.IOService;
 import org.uberfire.java.nio.base.options.CommentedOption;
+import org.uberfire.java.nio.file.DirectoryStream;
 import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
 
 /**
- * Common methods shared between GuidedRuleEditorServiceImpl and GuidedRuleEditorRenameHelper
+ * Common methods shared between GuidedRuleEditorServiceImpl and GuidedRuleEditorRenameHelper.
+ * DSL and Globals definitions are cached per Package until one of the Package's DSL or Globals files changes.
  */
 @ApplicationScoped
 public class GuidedRuleEditorServiceUtilities {
@@ -60,21 +72,19 @@ public class GuidedRuleEditorServiceUtilities {
     @Inject
     private KieProjectService projectService;
 
+    //Definitions by the URI of the Package folder. Entries are dropped when a DSL or Globals file in the folder changes.
+    private final ConcurrentMap<String, List<String>> dslsByPackage = new ConcurrentHashMap<String, List<String>>();
+    private final ConcurrentMap<String, List<String>> globalsByPackage = new ConcurrentHashMap<String, List<String>>();
+
     /**
      * Load DSL definitions held in the Package relating to the provide Path
      * @param path
      * @return
      */
     public String[] loadDslsForPackage( final Path path ) {
-        final List<String> dsls = new ArrayList<String>();
-        final Path packagePath = projectService.resolvePackage( path ).getPackageMainResourcesPath();
-        final org.uberfire.java.nio.file.Path nioPackagePath = Paths.convert( packagePath );
-        final Collection<org.uberfire.java.nio.file.Path> dslPaths = fileDiscoveryService.discoverFiles( nioPackagePath,
-                                                                                                         FILTER_DSLS );
-        for ( final org.uberfire.java.nio.file.Path dslPath : dslPaths ) {
-            final String dslDefinition = ioService.readAllString( dslPath );
-            dsls.add( dslDefinition );
-        }
+        final List<String> dsls = loadForPackage( path,
+                                                  FILTER_DSLS,
+                                                  dslsByPackage );
         final String[] result = new String[ dsls.size() ];
         return dsls.toArray( result );
     }
@@ -85,15 +95,72 @@ public class GuidedRuleEditorServiceUtilities {
      * @return
      */
     public List<String> loadGlobalsForPackage( final Path path ) {
-        final List<String> globals = new ArrayList<String>();
+        return new ArrayList<String>( loadForPackage( path,
+                                                      FILTER_GLOBALS,
+                                                      globalsByPackage ) );
+    }
+
+    private List<String> loadForPackage( final Path path,
+                                         final DirectoryStream.Filter<org.uberfire.java.nio.file.Path> filter,
+                                         final ConcurrentMap<String, List<String>> cache ) {
         final Path packagePath = projectService.resolvePackage( path ).getPackageMainResourcesPath();
-        final org.uberfire.java.nio.file.Path nioPackagePath = Paths.convert( packagePath );
-        final Collection<org.uberfire.java.nio.file.Path> globalPaths = fileDiscoveryService.discoverFiles( nioPackagePath,
-                                                                                                            FILTER_GLOBALS );
-        for ( final org.uberfire.java.nio.file.Path globalPath : globalPaths ) {
-            final String globalDefinition = ioService.readAllString( globalPath );
-            globals.add( globalDefinition );
+
+        //Loading holds the entry's lock, so an invalidation arriving mid-load waits and then drops what was loaded
+        return cache.computeIfAbsent( packagePath.toURI(),
+                                      ( packageUri ) -> {
+                                          final List<String> definitions = new ArrayList<String>();
+                                          final org.uberfire.java.nio.file.Path nioPackagePath = Paths.convert( packagePath );
+                                          final Collection<org.uberfire.java.nio.file.Path> definitionPaths = fileDiscoveryService.discoverFiles( nioPackagePath,
+                                                                                                                                                  filter );
+                                          for ( final org.uberfire.java.nio.file.Path definitionPath : definitionPaths ) {
+                                              definitions.add( ioService.readAllString( definitionPath ) );
+                                          }
+                                          return Collections.unmodifiableList( definitions );
+                                      } );
+    }
+
+    public void onResourceAdded( @Observes final ResourceAddedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceUpdated( @Observes final ResourceUpdatedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceDeleted( @Observes final ResourceDeletedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceRenamed( @Observes final ResourceRenamedEvent event ) {
+        invalidate( event.getPath() );
+        invalidate( event.getDestinationPath() );
+    }
+
+    public void onResourceCopied( @Observes final ResourceCopiedEvent event ) {
+        invalidate( event.getDestinationPath() );
+    }
+
+    public void onResourceBatchChanges( @Observes final ResourceBatchChangesEvent event ) {
+        for ( Path path : event.getBatch().keySet() ) {
+            invalidate( path );
+        }
+    }
+
+    private void invalidate( final Path path ) {
+        if ( path == null ) {
+            return;
+        }
+        final org.uberfire.java.nio.file.Path nioPath = Paths.convert( path );
+        final org.uberfire.java.nio.file.Path nioPackagePath = nioPath.getParent();
+        if ( nioPackagePath == null ) {
+            return;
+        }
+        final String packageUri = Paths.convert( nioPackagePath ).toURI();
+        if ( FILTER_DSLS.accept( nioPath ) ) {
+            dslsByPackage.remove( packageUri );
+        }
+        if ( FILTER_GLOBALS.accept( nioPath ) ) {
+            globalsByPackage.remove( packageUri );
         }
-        return globals;
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.rule.backend.server;
+
+import java.util.Collections;
+
+import org.guvnor.common.services.backend.file.FileDiscoveryService;
+import org.guvnor.common.services.project.model.Package;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.DirectoryStream;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GuidedRuleEditorServiceUtilitiesTest {
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private FileDiscoveryService fileDiscoveryService;
+
+    @Mock
+    private KieProjectService projectService;
+
+    @Mock
+    private Package pkg;
+
+    @InjectMocks
+    private GuidedRuleEditorServiceUtilities utilities;
+
+    private final Path packagePath = PathFactory.newPath( "p0",
+                                                          "file:///project/src/main/resources/p0" );
+    private final Path rulePath = PathFactory.newPath( "rule.rdslr",
+                                                       "file:///project/src/main/resources/p0/rule.rdslr" );
+    private final Path dslPath = PathFactory.newPath( "definitions.dsl",
+                                                      "file:///project/src/main/resources/p0/definitions.dsl" );
+
+    @Before
+    public void setup() {
+        when( projectService.resolvePackage( any( Path.class ) ) ).thenReturn( pkg );
+        when( pkg.getPackageMainResourcesPath() ).thenReturn( packagePath );
+        when( fileDiscoveryService.discoverFiles( any( org.uberfire.java.nio.file.Path.class ),
+                                                  any( DirectoryStream.Filter.class ) ) ).thenReturn( Collections.singletonList( Paths.convert( dslPath ) ) );
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( "[when]a=b" );
+    }
+
+    @Test
+    public void testDslsAreLoadedOncePerPackage() {
+        assertArrayEquals( new String[]{"[when]a=b"},
+                           utilities.loadDslsForPackage( rulePath ) );
+        assertArrayEquals( new String[]{"[when]a=b"},
+                           utilities.loadDslsForPackage( rulePath ) );
+
+        verify( ioService,
+                times( 1 ) ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+    }
+
+    @Test
+    public void testDslsAreLoadedAgainWhenADslChanges() {
+        utilities.loadDslsForPackage( rulePath );
+
+        utilities.onResourceUpdated( updated( rulePath ) );
+        utilities.loadDslsForPackage( rulePath );
+
+        verify( ioService,
+                times( 1 ) ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+
+        utilities.onResourceUpdated( updated( dslPath ) );
+        utilities.loadDslsForPackage( rulePath );
+
+        verify( ioService,
+                times( 2 ) ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+    }
+
+    @Test
+    public void testDslChangedWhileLoadingIsLoadedAgain() throws Exception {
+        final ResourceUpdatedEvent dslUpdated = updated( dslPath );
+        final Thread[] invalidation = new Thread[ 1 ];
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenAnswer( ( invocation ) -> {
+            if ( invalidation[ 0 ] == null ) {
+                //The DSL changes after this load read it, but before the load is cached
+                invalidation[ 0 ] = new Thread( () -> utilities.onResourceUpdated( dslUpdated ) );
+                invalidation[ 0 ].start();
+                invalidation[ 0 ].join( 200 );
+            }
+            return "[when]a=b";
+        } );
+
+        utilities.loadDslsForPackage( rulePath );
+        invalidation[ 0 ].join();
+        utilities.loadDslsForPackage( rulePath );
+
+        verify( ioService,
+                times( 2 ) ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+    }
+
+    private ResourceUpdatedEvent updated( final Path path ) {
+        final ResourceUpdatedEvent event = mock( ResourceUpdatedEvent.class );
+        when( event.getPath() ).thenReturn( path );
+        return event;
+    }
+
+}
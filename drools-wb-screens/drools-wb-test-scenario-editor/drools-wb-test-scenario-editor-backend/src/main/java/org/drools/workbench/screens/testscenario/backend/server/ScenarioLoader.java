@@ -16,8 +16,10 @@
 
 package org.drools.workbench.screens.testscenario.backend.server;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import javax.inject.Inject;
 import javax.inject.Named;
 
@@ -42,45 +44,69 @@ public class ScenarioLoader {
     @Inject
     private ScenarioTestEditorService scenarioTestEditorService;
 
-    public List<Scenario> loadScenarios(Path testResourcePath) {
-        List<Scenario> scenarios = new ArrayList<Scenario>();
+    /**
+     * Scenarios of the folder and of its sub folders. A scenario is only loaded when the iterator gets to it,
+     * and the folders are listed one at a time as the iterator goes.
+     * @param testResourcePath Folder, or a file in the folder, to load the scenarios from.
+     */
+    public Iterable<Scenario> loadScenarios(final Path testResourcePath) {
+        return () -> new ScenarioIterator(testResourcePath);
+    }
+
+    private class ScenarioIterator
+            implements Iterator<Scenario> {
+
+        private final Deque<org.uberfire.java.nio.file.Path> folders = new ArrayDeque<org.uberfire.java.nio.file.Path>();
+        private final Deque<org.uberfire.java.nio.file.Path> scenarioPaths = new ArrayDeque<org.uberfire.java.nio.file.Path>();
+
+        private final LinkedFilter filter = new LinkedDotFileFilter();
+        private final FileExtensionFilter fileExtensionFilter = new FileExtensionFilter(".scenario");
+
+        private ScenarioIterator(final Path path) {
+            filter.setNextFilter(new LinkedMetaInfFolderFilter());
+
+            // Check Path exists
+            org.uberfire.java.nio.file.Path pPath = Paths.convert(path);
+            if (!Files.exists(pPath)) {
+                return;
+            }
 
-        for (Path path : loadScenarioPaths(testResourcePath)) {
-            scenarios.add(scenarioTestEditorService.load(path));
+            // Ensure Path represents a Folder
+            if (!Files.isDirectory(pPath)) {
+                pPath = pPath.getParent();
+            }
+            folders.add(pPath);
         }
-        return scenarios;
-    }
 
-    private List<Path> loadScenarioPaths(final Path path) {
-        // Check Path exists
-        final List<Path> items = new ArrayList<Path>();
-        if (!Files.exists(Paths.convert(path))) {
-            return items;
+        @Override
+        public boolean hasNext() {
+            while (scenarioPaths.isEmpty() && !folders.isEmpty()) {
+                list(folders.poll());
+            }
+            return !scenarioPaths.isEmpty();
         }
 
-        // Ensure Path represents a Folder
-        org.uberfire.java.nio.file.Path pPath = Paths.convert(path);
-        if (!Files.isDirectory(pPath)) {
-            pPath = pPath.getParent();
+        @Override
+        public Scenario next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return scenarioTestEditorService.load(Paths.convert(scenarioPaths.poll()));
         }
 
-        LinkedFilter filter = new LinkedDotFileFilter();
-        LinkedFilter metaInfFolderFilter = new LinkedMetaInfFolderFilter();
-        filter.setNextFilter(metaInfFolderFilter);
-        FileExtensionFilter fileExtensionFilter = new FileExtensionFilter(".scenario");
-
-        // Get list of immediate children
-        final DirectoryStream<org.uberfire.java.nio.file.Path> directoryStream = ioService.newDirectoryStream(pPath);
-        for (final org.uberfire.java.nio.file.Path p : directoryStream) {
-            if (filter.accept(p) && fileExtensionFilter.accept(p)) {
-                if (Files.isRegularFile(p)) {
-                    items.add(Paths.convert(p));
-                } else if (Files.isDirectory(p)) {
-                    items.add(Paths.convert(p));
+        private void list(final org.uberfire.java.nio.file.Path folder) {
+            try (DirectoryStream<org.uberfire.java.nio.file.Path> directoryStream = ioService.newDirectoryStream(folder)) {
+                for (final org.uberfire.java.nio.file.Path p : directoryStream) {
+                    if (!filter.accept(p)) {
+                        continue;
+                    }
+                    if (Files.isDirectory(p)) {
+                        folders.add(p);
+                    } else if (Files.isRegularFile(p) && fileExtensionFilter.accept(p)) {
+                        scenarioPaths.add(p);
+                    }
                 }
             }
         }
-
-        return items;
     }
 }
@@ -17,8 +17,17 @@ package org.drools.workbench.screens.testscenario.backend.server;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
@@ -55,12 +64,23 @@ import static org.drools.workbench.screens.testscenario.backend.server.ScenarioU
 public class ScenarioRunnerService
         implements TestService {
 
+    /**
+     * System property with the number of threads runAllTests uses. Scenarios run one after another when it is not set.
+     */
+    public static final String TEST_SCENARIO_PARALLEL_THREADS = "org.kie.test-scenario.parallel-threads";
+
+    /**
+     * Number of scenarios runAllTests loads and hands over to one ScenarioRunner4JUnit.
+     */
+    static final int BATCH_SIZE = 50;
+
     protected KieProjectService        projectService;
     private   ScenarioLoader           scenarioLoader;
     private   SessionService           sessionService;
     private   Event<TestResultMessage> defaultTestResultMessageEvent;
     private   ConfigurationService     configurationService;
     protected User                     identity;
+    private   ExecutorService          executorService;
 
     public ScenarioRunnerService() {
     }
@@ -112,25 +132,174 @@ public class ScenarioRunnerService
     @Override
     public void runAllTests(Path path, Event<TestResultMessage> customTestResultEvent) {
         try {
-            List<Scenario> scenarios = scenarioLoader.loadScenarios(path);
+            Iterator<Scenario> scenarios = scenarioLoader.loadScenarios(path).iterator();
+            KieProject project = projectService.resolveProject(path);
 
-            ScenarioRunner4JUnit scenarioRunner = new ScenarioRunner4JUnit(
-                    scenarios,
-                    getKSessions(path, scenarios),
-                    getMaxRuleFirings());
+            BatchResult result;
+            int numberOfThreads = getNumberOfThreads();
+            if (numberOfThreads > 1) {
+                result = runInParallel(project, scenarios, numberOfThreads);
+            } else {
+                result = runInSequence(project, scenarios);
+            }
 
-            run(scenarioRunner, customTestResultEvent);
+            customTestResultEvent.fire(
+                    new TestResultMessage(
+                            identity.getIdentifier(),
+                            result.runCount,
+                            result.runTime,
+                            result.failures));
 
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
     }
 
+    /**
+     * Scenarios are loaded and run in batches, so only the batches being run are in memory.
+     * All batches share the ksessions, like the scenarios of a single run do.
+     */
+    private BatchResult runInSequence(final KieProject project,
+                                      final Iterator<Scenario> scenarios) throws InitializationError {
+
+        final int maxRuleFirings = getMaxRuleFirings();
+        final Map<String, KieSession> ksessions = new HashMap<String, KieSession>();
+        final BatchResult total = new BatchResult();
+
+        List<Scenario> batch;
+        while (!(batch = nextBatch(scenarios)).isEmpty()) {
+            total.add(runBatch(project, batch, ksessions, maxRuleFirings));
+        }
+
+        return total;
+    }
+
+    /**
+     * Batches run at the same time on the executor, at most one per thread. Each running batch has ksessions
+     * that no other running batch uses. The scenarios are loaded on the calling thread.
+     */
+    private BatchResult runInParallel(final KieProject project,
+                                      final Iterator<Scenario> scenarios,
+                                      final int numberOfThreads) throws Exception {
+
+        final int maxRuleFirings = getMaxRuleFirings();
+        final long startTime = System.currentTimeMillis();
+
+        final Semaphore freeThreads = new Semaphore(numberOfThreads);
+        final Queue<Map<String, KieSession>> freeKSessions = new ConcurrentLinkedQueue<Map<String, KieSession>>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            freeKSessions.add(new HashMap<String, KieSession>());
+        }
+
+        final List<Future<BatchResult>> futures = new ArrayList<Future<BatchResult>>();
+        final BatchResult total = new BatchResult();
+        try {
+            List<Scenario> batch;
+            while (!(batch = nextBatch(scenarios)).isEmpty()) {
+                final List<Scenario> scenarioBatch = batch;
+                freeThreads.acquire();
+                futures.add(getExecutorService(numberOfThreads).submit(() -> {
+                    final Map<String, KieSession> ksessions = freeKSessions.poll();
+                    try {
+                        return runBatch(project, scenarioBatch, ksessions, maxRuleFirings);
+                    } finally {
+                        freeKSessions.add(ksessions);
+                        freeThreads.release();
+                    }
+                }));
+            }
+
+            for (Future<BatchResult> future : futures) {
+                total.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            cancel(futures);
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+
+        total.runTime = System.currentTimeMillis() - startTime;
+        return total;
+    }
+
+    private List<Scenario> nextBatch(final Iterator<Scenario> scenarios) {
+        final List<Scenario> batch = new ArrayList<Scenario>();
+        while (batch.size() < BATCH_SIZE && scenarios.hasNext()) {
+            batch.add(scenarios.next());
+        }
+        return batch;
+    }
+
+    private BatchResult runBatch(final KieProject project,
+                                 final List<Scenario> batch,
+                                 final Map<String, KieSession> ksessions,
+                                 final int maxRuleFirings) throws InitializationError {
+
+        addKSessions(project, batch, ksessions);
+
+        final BatchResult batchResult = new BatchResult();
+        final Result result = run(new ScenarioRunner4JUnit(batch,
+                                                           ksessions,
+                                                           maxRuleFirings),
+                                  batchResult.failures);
+        batchResult.runCount = result.getRunCount();
+        batchResult.runTime = result.getRunTime();
+        return batchResult;
+    }
+
+    private void cancel(final List<Future<BatchResult>> futures) {
+        for (Future<BatchResult> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private synchronized ExecutorService getExecutorService(final int numberOfThreads) {
+        if (executorService == null) {
+            executorService = Executors.newFixedThreadPool(numberOfThreads);
+        }
+        return executorService;
+    }
+
+    @PreDestroy
+    public synchronized void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private int getNumberOfThreads() {
+        final String property = System.getProperty(TEST_SCENARIO_PARALLEL_THREADS);
+        if (property == null) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(property.trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
     private void run(final ScenarioRunner4JUnit scenarioRunner,
                      Event<TestResultMessage> testResultMessageEvent) {
 
         final List<org.guvnor.common.services.shared.test.Failure> failures = new ArrayList<org.guvnor.common.services.shared.test.Failure>();
 
+        Result result = run(scenarioRunner, failures);
+
+        testResultMessageEvent.fire(
+                new TestResultMessage(
+                        identity.getIdentifier(),
+                        result.getRunCount(),
+                        result.getRunTime(),
+                        failures));
+    }
+
+    private Result run(final ScenarioRunner4JUnit scenarioRunner,
+                       final List<org.guvnor.common.services.shared.test.Failure> failures) {
+
         JUnitCore jUnitCore = new JUnitCore();
 
         jUnitCore.addListener(new RunListener() {
@@ -144,12 +313,7 @@ public class ScenarioRunnerService
 
         failures.addAll(failuresToFailures(result.getFailures()));
 
-        testResultMessageEvent.fire(
-                new TestResultMessage(
-                        identity.getIdentifier(),
-                        result.getRunCount(),
-                        result.getRunTime(),
-                        failures));
+        return result;
     }
 
     private int getMaxRuleFirings() {
@@ -166,13 +330,14 @@ public class ScenarioRunnerService
         return 0;
     }
 
-    private Map<String, KieSession> getKSessions(Path path, List<Scenario> scenarios) {
-        Map<String, KieSession> ksessions = new HashMap<String, KieSession>();
+    private void addKSessions(KieProject project, List<Scenario> scenarios, Map<String, KieSession> ksessions) {
         for (Scenario scenario : scenarios) {
             String ksessionName = getKSessionName(scenario.getKSessions());
-            ksessions.put(ksessionName, loadKSession(projectService.resolveProject(path), ksessionName));
+            // Scenarios with the same ksession name share one ksession, create it only once
+            if (!ksessions.containsKey(ksessionName)) {
+                ksessions.put(ksessionName, loadKSession(project, ksessionName));
+            }
         }
-        return ksessions;
     }
 
     private KieSession loadKSession(KieProject project, String ksessionName) {
@@ -192,4 +357,17 @@ public class ScenarioRunnerService
 
     }
 
+    private static class BatchResult {
+
+        private final List<org.guvnor.common.services.shared.test.Failure> failures = new ArrayList<org.guvnor.common.services.shared.test.Failure>();
+        private int runCount;
+        private long runTime;
+
+        private void add(final BatchResult other) {
+            failures.addAll(other.failures);
+            runCount += other.runCount;
+            runTime += other.runTime;
+        }
+    }
+
 }
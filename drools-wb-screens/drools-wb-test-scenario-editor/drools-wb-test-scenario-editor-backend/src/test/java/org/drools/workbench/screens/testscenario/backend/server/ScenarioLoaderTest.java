@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.drools.workbench.models.testscenarios.shared.Scenario;
+import org.drools.workbench.screens.testscenario.service.ScenarioTestEditorService;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Files;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ScenarioLoaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private ScenarioTestEditorService scenarioTestEditorService;
+
+    @InjectMocks
+    private ScenarioLoader scenarioLoader;
+
+    private File root;
+
+    @Before
+    public void setUp() throws Exception {
+        root = temporaryFolder.getRoot();
+
+        when(ioService.newDirectoryStream(any(org.uberfire.java.nio.file.Path.class))).thenAnswer(invocation -> Files.newDirectoryStream((org.uberfire.java.nio.file.Path) invocation.getArguments()[0]));
+        when(scenarioTestEditorService.load(any(Path.class))).thenAnswer(invocation -> makeScenario(((Path) invocation.getArguments()[0]).getFileName()));
+    }
+
+    @Test
+    public void testLoadsScenariosOfSubFolders() throws Exception {
+        createFile("a.scenario");
+        createFile("sub/b.scenario");
+        createFile("sub/deeper/c.scenario");
+        createFile("sub/notes.txt");
+
+        assertEquals(names("a.scenario",
+                           "b.scenario",
+                           "c.scenario"),
+                     load(path(root)));
+    }
+
+    @Test
+    public void testSkipsDotFilesAndMetaInf() throws Exception {
+        createFile("a.scenario");
+        createFile(".hidden.scenario");
+        createFile(".dotfolder/b.scenario");
+        createFile("META-INF/c.scenario");
+
+        assertEquals(names("a.scenario"),
+                     load(path(root)));
+    }
+
+    @Test
+    public void testFilePathLoadsItsFolder() throws Exception {
+        final File scenario = createFile("a.scenario");
+        createFile("b.scenario");
+
+        assertEquals(names("a.scenario",
+                           "b.scenario"),
+                     load(path(scenario)));
+    }
+
+    @Test
+    public void testMissingFolderHasNoScenarios() throws Exception {
+        assertFalse(scenarioLoader.loadScenarios(path(new File(root,
+                                                               "missing")))
+                            .iterator()
+                            .hasNext());
+    }
+
+    @Test
+    public void testScenariosAreLoadedOneAtATime() throws Exception {
+        createFile("a.scenario");
+        createFile("sub/b.scenario");
+
+        final Iterator<Scenario> iterator = scenarioLoader.loadScenarios(path(root)).iterator();
+
+        verify(scenarioTestEditorService,
+               never()).load(any(Path.class));
+
+        assertTrue(iterator.hasNext());
+        iterator.next();
+
+        verify(scenarioTestEditorService,
+               times(1)).load(any(Path.class));
+
+        assertTrue(iterator.hasNext());
+        iterator.next();
+
+        verify(scenarioTestEditorService,
+               times(2)).load(any(Path.class));
+        assertFalse(iterator.hasNext());
+    }
+
+    private File createFile(final String relativePath) throws Exception {
+        final File file = new File(root,
+                                   relativePath);
+        file.getParentFile().mkdirs();
+        assertTrue(file.createNewFile());
+        return file;
+    }
+
+    private Path path(final File file) {
+        return PathFactory.newPath(file.getName(),
+                                   "file://" + file.getAbsolutePath());
+    }
+
+    private Set<String> load(final Path path) {
+        final Set<String> result = new HashSet<String>();
+        for (final Scenario scenario : scenarioLoader.loadScenarios(path)) {
+            result.add(scenario.getName());
+        }
+        return result;
+    }
+
+    private Set<String> names(final String... names) {
+        final Set<String> result = new HashSet<String>();
+        for (final String name : names) {
+            result.add(name);
+        }
+        return result;
+    }
+
+    private Scenario makeScenario(final String name) {
+        final Scenario scenario = new Scenario();
+        scenario.setName(name);
+        return scenario;
+    }
+}
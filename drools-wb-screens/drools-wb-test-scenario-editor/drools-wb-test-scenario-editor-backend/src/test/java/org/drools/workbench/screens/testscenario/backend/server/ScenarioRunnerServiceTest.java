@@ -54,12 +54,14 @@ public class ScenarioRunnerServiceTest {
     @Mock
     ScenarioLoader scenarioLoader;
 
+    private KieProjectService projectService;
+
     private TestResultMessageEventMock defaultTestResultMessageEvent;
 
     @Before
     public void setUp() throws Exception {
         ConfigurationService configurationService = mock(ConfigurationService.class);
-        KieProjectService projectService = mock(KieProjectService.class);
+        projectService = mock(KieProjectService.class);
         User identity = mock(User.class);
 
         defaultTestResultMessageEvent = spy(new TestResultMessageEventMock());
@@ -107,6 +109,58 @@ public class ScenarioRunnerServiceTest {
         assertEquals("testUser", argumentCaptor.getValue().getIdentifier());
     }
 
+    @Test
+    public void testScenariosShareKSession() throws Exception {
+
+        Path path = mock(Path.class);
+
+        ArrayList<Scenario> scenarios = new ArrayList<Scenario>();
+        scenarios.add(makeScenario("test1.scenario"));
+        scenarios.add(makeScenario("test2.scenario"));
+        scenarios.add(makeScenario("test3.scenario"));
+        when(scenarioLoader.loadScenarios(path)).thenReturn(scenarios);
+
+        service.runAllTests(path);
+
+        verify(projectService, times(1)).resolveProject(path);
+        verify(sessionService, times(1)).newDefaultKieSessionWithPseudoClock(any(KieProject.class));
+    }
+
+    @Test
+    public void testRunSeveralScenariosInParallel() throws Exception {
+
+        Path path = mock(Path.class);
+
+        ArrayList<Scenario> scenarios = new ArrayList<Scenario>();
+        // Three batches
+        for (int i = 0; i < 2 * ScenarioRunnerService.BATCH_SIZE + 1; i++) {
+            scenarios.add(makeScenario("test" + i + ".scenario"));
+        }
+        when(scenarioLoader.loadScenarios(path)).thenReturn(scenarios);
+
+        service.runAllTests(path);
+
+        System.setProperty(ScenarioRunnerService.TEST_SCENARIO_PARALLEL_THREADS, "2");
+        try {
+            service.runAllTests(path);
+        } finally {
+            System.clearProperty(ScenarioRunnerService.TEST_SCENARIO_PARALLEL_THREADS);
+            service.destroy();
+        }
+
+        ArgumentCaptor<TestResultMessage> argumentCaptor = ArgumentCaptor.forClass(TestResultMessage.class);
+        verify(defaultTestResultMessageEvent, times(2)).fire(argumentCaptor.capture());
+
+        TestResultMessage serial = argumentCaptor.getAllValues().get(0);
+        TestResultMessage parallel = argumentCaptor.getAllValues().get(1);
+        assertEquals("testUser", parallel.getIdentifier());
+        assertEquals(serial.getRunCount(), parallel.getRunCount());
+        assertEquals(serial.getFailures().size(), parallel.getFailures().size());
+
+        // One ksession shared by the batches of the serial run, one for each of the two threads
+        verify(sessionService, times(3)).newDefaultKieSessionWithPseudoClock(any(KieProject.class));
+    }
+
     private Scenario makeScenario(String name) {
         Scenario scenario = new Scenario();
         scenario.setName(name);
@@ -18,9 +18,14 @@ package org.drools.workbench.screens.workitems.backend.server;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.inject.Named;
 
@@ -30,10 +35,18 @@ import org.guvnor.common.services.backend.file.FileExtensionFilter;
 import org.uberfire.io.IOService;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
 
 /**
- * Class to load Work Definitions from VFS
+ * Class to load Work Definitions from VFS.
+ * The WID files of a Project are discovered once and each WID file is only parsed again when it changes.
  */
+@ApplicationScoped
 public class ResourceWorkDefinitionsLoader {
 
     @Inject
@@ -45,28 +58,99 @@ public class ResourceWorkDefinitionsLoader {
 
     private FileExtensionFilter widFilter = new FileExtensionFilter( ".wid" );
 
+    //WID files by the URI of the Project root. Entries are dropped when a WID file is added to or removed from the Project.
+    private final ConcurrentMap<String, List<org.uberfire.java.nio.file.Path>> widPathsByProject = new ConcurrentHashMap<String, List<org.uberfire.java.nio.file.Path>>();
+
+    //Parsed Work Definitions by the URI of the WID file. Entries are dropped when the WID file changes.
+    private final ConcurrentMap<String, Map<String, WorkDefinition>> workDefinitionsByWid = new ConcurrentHashMap<String, Map<String, WorkDefinition>>();
+
     public Map<String, WorkDefinition> loadWorkDefinitions( final Path projectRoot ) {
-        //Find all WID files in the project
         final Map<String, WorkDefinition> workDefinitions = new HashMap<String, WorkDefinition>();
-        final org.uberfire.java.nio.file.Path nioProjectRoot = Paths.convert( projectRoot );
-        final Collection<org.uberfire.java.nio.file.Path> widPaths = fileDiscoveryService.discoverFiles( nioProjectRoot,
-                                                                                                            widFilter,
-                                                                                                            true );
-        if ( widPaths == null || widPaths.isEmpty() ) {
-            return workDefinitions;
+        for ( org.uberfire.java.nio.file.Path widPath : getWidPaths( projectRoot ) ) {
+            workDefinitions.putAll( getWorkDefinitions( widPath ) );
         }
+        return workDefinitions;
+    }
 
-        //Load WID files
-        final List<String> definitions = new ArrayList<String>();
-        for ( org.uberfire.java.nio.file.Path widPath : widPaths ) {
-            final String definition = ioService.readAllString( widPath );
-            definitions.add( definition );
-        }
+    private List<org.uberfire.java.nio.file.Path> getWidPaths( final Path projectRoot ) {
+        //Loading holds the entry's lock, so an invalidation arriving mid-load waits and then drops what was loaded
+        return widPathsByProject.computeIfAbsent( projectRoot.toURI(),
+                                                  ( projectUri ) -> {
+                                                      //Find all WID files in the project
+                                                      final List<org.uberfire.java.nio.file.Path> widPaths = new ArrayList<org.uberfire.java.nio.file.Path>();
+                                                      final org.uberfire.java.nio.file.Path nioProjectRoot = Paths.convert( projectRoot );
+                                                      final Collection<org.uberfire.java.nio.file.Path> discovered = fileDiscoveryService.discoverFiles( nioProjectRoot,
+                                                                                                                                                          widFilter,
+                                                                                                                                                          true );
+                                                      if ( discovered != null ) {
+                                                          widPaths.addAll( discovered );
+                                                      }
+                                                      return Collections.unmodifiableList( widPaths );
+                                                  } );
+    }
 
-        //Parse MVEL expressions into model
-        workDefinitions.putAll( WorkDefinitionsParser.parse( definitions ) );
+    private Map<String, WorkDefinition> getWorkDefinitions( final org.uberfire.java.nio.file.Path widPath ) {
+        return workDefinitionsByWid.computeIfAbsent( Paths.convert( widPath ).toURI(),
+                                                     ( widUri ) -> {
+                                                         //Parse MVEL expression into model
+                                                         final String definition = ioService.readAllString( widPath );
+                                                         return Collections.unmodifiableMap( WorkDefinitionsParser.parse( Collections.singletonList( definition ) ) );
+                                                     } );
+    }
 
-        return workDefinitions;
+    public void onResourceAdded( @Observes final ResourceAddedEvent event ) {
+        invalidate( event.getPath(),
+                    true );
+    }
+
+    public void onResourceUpdated( @Observes final ResourceUpdatedEvent event ) {
+        invalidate( event.getPath(),
+                    false );
+    }
+
+    public void onResourceDeleted( @Observes final ResourceDeletedEvent event ) {
+        invalidate( event.getPath(),
+                    true );
+    }
+
+    public void onResourceRenamed( @Observes final ResourceRenamedEvent event ) {
+        invalidate( event.getPath(),
+                    true );
+        invalidate( event.getDestinationPath(),
+                    true );
+    }
+
+    public void onResourceCopied( @Observes final ResourceCopiedEvent event ) {
+        invalidate( event.getDestinationPath(),
+                    true );
+    }
+
+    public void onResourceBatchChanges( @Observes final ResourceBatchChangesEvent event ) {
+        //The kind of change is not inspected; a batch is rare enough to rediscover the Project's WID files
+        for ( Path path : event.getBatch().keySet() ) {
+            invalidate( path,
+                        true );
+        }
+    }
+
+    private void invalidate( final Path path,
+                             final boolean structural ) {
+        if ( path == null || !widFilter.accept( Paths.convert( path ) ) ) {
+            return;
+        }
+        final String widUri = path.toURI();
+        workDefinitionsByWid.remove( widUri );
+        if ( structural ) {
+            //Remove every folder of the WID file as a Project root, rather than looking among the cached Projects:
+            //a discovery in progress is not among them yet, but removing its key waits for it
+            int slash = widUri.lastIndexOf( '/' );
+            while ( slash > 0 ) {
+                widPathsByProject.remove( widUri.substring( 0,
+                                                            slash ) );
+                slash = widUri.lastIndexOf( '/',
+                                            slash - 1 );
+            }
+        }
     }
 
 }
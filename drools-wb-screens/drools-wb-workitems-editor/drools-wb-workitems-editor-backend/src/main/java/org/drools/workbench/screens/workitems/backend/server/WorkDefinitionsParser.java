@@ -19,6 +19,7 @@ package org.drools.workbench.screens.workitems.backend.server;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +46,18 @@ import org.mvel2.ParserContext;
  */
 public class WorkDefinitionsParser {
 
+    static final int MAX_COMPILED_DEFINITIONS = 256;
+
+    //Compiled MVEL expressions by the content of the definition, least recently used first
+    private static final Map<String, Serializable> COMPILED_DEFINITIONS = new LinkedHashMap<String, Serializable>( 16,
+                                                                                                                 0.75f,
+                                                                                                                 true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, Serializable> eldest ) {
+            return size() > MAX_COMPILED_DEFINITIONS;
+        }
+    };
+
     /**
      * Parse a MVEL String into WorkDefinitions
      * @param workItemDefinitions
@@ -55,30 +68,10 @@ public class WorkDefinitionsParser {
 
         final Map<String, WorkDefinition> workDefinitions = new HashMap<String, WorkDefinition>();
 
-        //Add Data-type imports, in-case they are missing from definition
-        final ParserContext context = new ParserContext();
-        context.addImport( "ObjectDataType",
-                           ObjectDataType.class );
-        context.addImport( "StringDataType",
-                           StringDataType.class );
-        context.addImport( "IntegerDataType",
-                           IntegerDataType.class );
-        context.addImport( "FloatDataType",
-                           FloatDataType.class );
-        context.addImport( "BooleanDataType",
-                           BooleanDataType.class );
-        context.addImport( "ListDataType",
-                           ListDataType.class );
-        context.addImport( "EnumDataType",
-                           EnumDataType.class );
-        context.addImport( "UndefinedDataType",
-                           UndefinedDataType.class );
-
         //Compile expression and convert String
         for ( String workItemDefinition : workItemDefinitions ) {
 
-            final Serializable compiled = MVEL.compileExpression( workItemDefinition,
-                                                                  context );
+            final Serializable compiled = compile( workItemDefinition );
             final Object result = MVELSafeHelper.getEvaluator().executeExpression( compiled,
                                                                                    new HashMap() );
             final List<Map<String, Object>> workDefinitionsMap = (List<Map<String, Object>>) result;
@@ -131,4 +124,40 @@ public class WorkDefinitionsParser {
         return workDefinitions;
     }
 
+    private static Serializable compile( final String workItemDefinition ) {
+        synchronized ( COMPILED_DEFINITIONS ) {
+            final Serializable compiled = COMPILED_DEFINITIONS.get( workItemDefinition );
+            if ( compiled != null ) {
+                return compiled;
+            }
+        }
+
+        //Add Data-type imports, in-case they are missing from definition
+        final ParserContext context = new ParserContext();
+        context.addImport( "ObjectDataType",
+                           ObjectDataType.class );
+        context.addImport( "StringDataType",
+                           StringDataType.class );
+        context.addImport( "IntegerDataType",
+                           IntegerDataType.class );
+        context.addImport( "FloatDataType",
+                           FloatDataType.class );
+        context.addImport( "BooleanDataType",
+                           BooleanDataType.class );
+        context.addImport( "ListDataType",
+                           ListDataType.class );
+        context.addImport( "EnumDataType",
+                           EnumDataType.class );
+        context.addImport( "UndefinedDataType",
+                           UndefinedDataType.class );
+
+        final Serializable compiled = MVEL.compileExpression( workItemDefinition,
+                                                              context );
+        synchronized ( COMPILED_DEFINITIONS ) {
+            COMPILED_DEFINITIONS.put( workItemDefinition,
+                                      compiled );
+        }
+        return compiled;
+    }
+
 }
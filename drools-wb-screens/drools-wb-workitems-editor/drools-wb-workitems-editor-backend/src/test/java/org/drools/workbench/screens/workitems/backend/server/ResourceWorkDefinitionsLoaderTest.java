@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.workitems.backend.server;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.drools.core.process.core.WorkDefinition;
+import org.guvnor.common.services.backend.file.FileDiscoveryService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.DirectoryStream;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceWorkDefinitionsLoaderTest {
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private FileDiscoveryService fileDiscoveryService;
+
+    @InjectMocks
+    private ResourceWorkDefinitionsLoader loader;
+
+    private final Path projectRoot = PathFactory.newPath( "project",
+                                                          "file:///project" );
+    private final Path emailWid = PathFactory.newPath( "email.wid",
+                                                       "file:///project/src/main/resources/email.wid" );
+    private final Path logWid = PathFactory.newPath( "log.wid",
+                                                     "file:///project/src/main/resources/log.wid" );
+    private final Path newWid = PathFactory.newPath( "new.wid",
+                                                     "file:///project/src/main/resources/p0/new.wid" );
+    private final Path otherProjectWid = PathFactory.newPath( "other.wid",
+                                                              "file:///other/src/main/resources/other.wid" );
+
+    @Before
+    public void setup() {
+        when( fileDiscoveryService.discoverFiles( any( org.uberfire.java.nio.file.Path.class ),
+                                                  any( DirectoryStream.Filter.class ),
+                                                  anyBoolean() ) ).thenReturn( Arrays.asList( Paths.convert( emailWid ),
+                                                                                              Paths.convert( logWid ) ) );
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenAnswer( ( invocation ) -> wid( (org.uberfire.java.nio.file.Path) invocation.getArguments()[ 0 ] ) );
+    }
+
+    @Test
+    public void testWorkDefinitionsAreLoadedOnce() {
+        final Map<String, WorkDefinition> workDefinitions = loader.loadWorkDefinitions( projectRoot );
+        assertEquals( 2,
+                      workDefinitions.size() );
+        assertTrue( workDefinitions.containsKey( "email" ) );
+        assertTrue( workDefinitions.containsKey( "log" ) );
+
+        assertEquals( workDefinitions,
+                      loader.loadWorkDefinitions( projectRoot ) );
+
+        verifyDiscoveries( 1 );
+        verify( ioService,
+                times( 2 ) ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+    }
+
+    @Test
+    public void testUpdatedWidIsTheOnlyOneParsedAgain() {
+        loader.loadWorkDefinitions( projectRoot );
+
+        loader.onResourceUpdated( updated( emailWid ) );
+        loader.loadWorkDefinitions( projectRoot );
+
+        verifyDiscoveries( 1 );
+        verify( ioService,
+                times( 2 ) ).readAllString( Paths.convert( emailWid ) );
+        verify( ioService,
+                times( 1 ) ).readAllString( Paths.convert( logWid ) );
+    }
+
+    @Test
+    public void testAddedWidRediscoversTheProject() {
+        loader.loadWorkDefinitions( projectRoot );
+
+        loader.onResourceAdded( added( newWid ) );
+        loader.loadWorkDefinitions( projectRoot );
+
+        verifyDiscoveries( 2 );
+        // The WID files already parsed are not read again
+        verify( ioService,
+                times( 2 ) ).readAllString( any( org.uberfire.java.nio.file.Path.class ) );
+    }
+
+    @Test
+    public void testDeletedWidRediscoversTheProject() {
+        loader.loadWorkDefinitions( projectRoot );
+
+        loader.onResourceDeleted( deleted( logWid ) );
+        loader.loadWorkDefinitions( projectRoot );
+
+        verifyDiscoveries( 2 );
+    }
+
+    @Test
+    public void testOtherChangesDoNotRediscoverTheProject() {
+        loader.loadWorkDefinitions( projectRoot );
+
+        loader.onResourceAdded( added( PathFactory.newPath( "rule.drl",
+                                                            "file:///project/src/main/resources/rule.drl" ) ) );
+        loader.onResourceAdded( added( otherProjectWid ) );
+        loader.loadWorkDefinitions( projectRoot );
+
+        verifyDiscoveries( 1 );
+    }
+
+    @Test
+    public void testWidAddedWhileDiscoveringIsDiscoveredAgain() throws Exception {
+        final ResourceAddedEvent widAdded = added( newWid );
+        final Thread[] invalidation = new Thread[ 1 ];
+        when( fileDiscoveryService.discoverFiles( any( org.uberfire.java.nio.file.Path.class ),
+                                                  any( DirectoryStream.Filter.class ),
+                                                  anyBoolean() ) ).thenAnswer( ( invocation ) -> {
+            if ( invalidation[ 0 ] == null ) {
+                //The WID file is added after this discovery listed the folder, but before the discovery is cached
+                invalidation[ 0 ] = new Thread( () -> loader.onResourceAdded( widAdded ) );
+                invalidation[ 0 ].start();
+                invalidation[ 0 ].join( 200 );
+            }
+            return Arrays.asList( Paths.convert( emailWid ) );
+        } );
+
+        loader.loadWorkDefinitions( projectRoot );
+        invalidation[ 0 ].join();
+        loader.loadWorkDefinitions( projectRoot );
+
+        verifyDiscoveries( 2 );
+    }
+
+    @Test
+    public void testWidChangedWhileParsingIsParsedAgain() throws Exception {
+        final ResourceUpdatedEvent widUpdated = updated( emailWid );
+        final Thread[] invalidation = new Thread[ 1 ];
+        when( ioService.readAllString( any( org.uberfire.java.nio.file.Path.class ) ) ).thenAnswer( ( invocation ) -> {
+            final org.uberfire.java.nio.file.Path path = (org.uberfire.java.nio.file.Path) invocation.getArguments()[ 0 ];
+            if ( invalidation[ 0 ] == null && path.equals( Paths.convert( emailWid ) ) ) {
+                //The WID file changes after this load read it, but before the parsed definitions are cached
+                invalidation[ 0 ] = new Thread( () -> loader.onResourceUpdated( widUpdated ) );
+                invalidation[ 0 ].start();
+                invalidation[ 0 ].join( 200 );
+            }
+            return wid( path );
+        } );
+
+        loader.loadWorkDefinitions( projectRoot );
+        invalidation[ 0 ].join();
+        loader.loadWorkDefinitions( projectRoot );
+
+        verify( ioService,
+                times( 2 ) ).readAllString( Paths.convert( emailWid ) );
+    }
+
+    private void verifyDiscoveries( final int times ) {
+        verify( fileDiscoveryService,
+                times( times ) ).discoverFiles( any( org.uberfire.java.nio.file.Path.class ),
+                                                any( DirectoryStream.Filter.class ),
+                                                anyBoolean() );
+    }
+
+    private String wid( final org.uberfire.java.nio.file.Path path ) {
+        final String name = path.getFileName().toString().replace( ".wid",
+                                                                    "" );
+        return "[ [ \"name\" : \"" + name + "\", \"displayName\" : \"" + name + "\" ] ]";
+    }
+
+    private ResourceAddedEvent added( final Path path ) {
+        final ResourceAddedEvent event = mock( ResourceAddedEvent.class );
+        when( event.getPath() ).thenReturn( path );
+        return event;
+    }
+
+    private ResourceUpdatedEvent updated( final Path path ) {
+        final ResourceUpdatedEvent event = mock( ResourceUpdatedEvent.class );
+        when( event.getPath() ).thenReturn( path );
+        return event;
+    }
+
+    private ResourceDeletedEvent deleted( final Path path ) {
+        final ResourceDeletedEvent event = mock( ResourceDeletedEvent.class );
+        when( event.getPath() ).thenReturn( path );
+        return event;
+    }
+}
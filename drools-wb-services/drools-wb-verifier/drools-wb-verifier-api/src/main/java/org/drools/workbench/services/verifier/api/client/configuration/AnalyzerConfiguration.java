@@ -20,6 +20,7 @@ import java.util.Date;
 import org.drools.workbench.services.verifier.api.client.index.keys.UUIDKey;
 import org.drools.workbench.services.verifier.api.client.index.keys.UUIDKeyProvider;
 import org.drools.workbench.services.verifier.api.client.maps.util.HasKeys;
+import org.drools.workbench.services.verifier.api.client.relations.RelationCache;
 import org.uberfire.commons.validation.PortablePreconditions;
 
 public class AnalyzerConfiguration {
@@ -29,12 +30,31 @@ public class AnalyzerConfiguration {
     private final DateTimeFormatProvider dateTimeFormatter;
     private final CheckWhiteList checkWhiteList;
     private final RunnerType runnerType;
+    private final RelationCache relationCache;
 
     public AnalyzerConfiguration( final String webWorkerUUID,
                                   final DateTimeFormatProvider dateTimeFormatter,
                                   final UUIDKeyProvider uuidKeyProvider,
                                   final CheckWhiteList checkWhiteList,
                                   final RunnerType runnerType ) {
+        this( webWorkerUUID,
+              dateTimeFormatter,
+              uuidKeyProvider,
+              checkWhiteList,
+              runnerType,
+              new RelationCache() );
+    }
+
+    /**
+     * @param relationCache Cache for the relation results, for check runners that need one that is safe to share
+     * between threads.
+     */
+    public AnalyzerConfiguration( final String webWorkerUUID,
+                                  final DateTimeFormatProvider dateTimeFormatter,
+                                  final UUIDKeyProvider uuidKeyProvider,
+                                  final CheckWhiteList checkWhiteList,
+                                  final RunnerType runnerType,
+                                  final RelationCache relationCache ) {
         this.webWorkerUUID = PortablePreconditions.checkNotNull( "webWorkerUUID",
                                                                  webWorkerUUID );
         this.dateTimeFormatter = PortablePreconditions.checkNotNull( "dateTimeFormatter",
@@ -45,6 +65,8 @@ public class AnalyzerConfiguration {
                                                                   checkWhiteList );
         this.runnerType = PortablePreconditions.checkNotNull( "runnerType",
                                                               runnerType );
+        this.relationCache = PortablePreconditions.checkNotNull( "relationCache",
+                                                                 relationCache );
     }
 
     public String getWebWorkerUUID() {
@@ -66,5 +88,13 @@ public class AnalyzerConfiguration {
     public RunnerType getRunnerType() {
         return runnerType;
     }
+
+    /**
+     * @return The relation results shared by all the inspector lists of the analysis. Unless the cache was given
+     * for a runner that uses several threads, only to be used by the thread that runs the checks.
+     */
+    public RelationCache getRelationCache() {
+        return relationCache;
+    }
 }
 
@@ -67,11 +67,27 @@ public class Actions {
 
     public void remove( final Column column ) {
         final ExactMatcher matcher = Action.columnUUID().is( column.getUuidKey() );
-        for ( final Action action : where( matcher ).select().all() ) {
-            action.getUuidKey().retract();
+        startBatch();
+        try {
+            for ( final Action action : where( matcher ).select().all() ) {
+                action.getUuidKey().retract();
+            }
+        } finally {
+            endBatch();
         }
     }
 
+    /**
+     * The listeners are notified once for all the changes made until endBatch().
+     */
+    public void startBatch() {
+        map.startBatch();
+    }
+
+    public void endBatch() {
+        map.endBatch();
+    }
+
     public class ActionSelect
             extends Select<Action> {
 
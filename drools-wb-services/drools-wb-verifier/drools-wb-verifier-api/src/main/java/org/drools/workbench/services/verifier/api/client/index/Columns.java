@@ -64,6 +64,17 @@ public class Columns {
         column.getUuidKey().retract();
     }
 
+    /**
+     * The listeners are notified once for all the changes made until endBatch().
+     */
+    public void startBatch() {
+        map.startBatch();
+    }
+
+    public void endBatch() {
+        map.endBatch();
+    }
+
     public class ColumnSelect
             extends Select<Column> {
 
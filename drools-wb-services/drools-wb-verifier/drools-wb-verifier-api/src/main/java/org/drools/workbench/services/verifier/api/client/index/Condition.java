@@ -49,6 +49,7 @@ public abstract class Condition<T extends Comparable>
     protected final Column column;
     private final ConditionSuperType superType;
     private final Values<Comparable> values = new Values<>();
+    private T firstValue;
     private UpdatableKey<Condition<T>> valueKey;
 
     public Condition( final Column column,
@@ -101,6 +102,10 @@ public abstract class Condition<T extends Comparable>
         for ( final Object o : valueKey.getValues() ) {
             values.add( ( (Value) o ).getComparable() );
         }
+
+        // The inspectors compare against the first value on every check, so it is not looked up each time
+        final Iterator<Comparable> iterator = values.iterator();
+        firstValue = iterator.hasNext() ? (T) iterator.next() : null;
     }
 
     public Column getColumn() {
@@ -113,14 +118,7 @@ public abstract class Condition<T extends Comparable>
     }
 
     public T getFirstValue() {
-        final Iterator<Value> iterator = valueKey.getValues()
-                .iterator();
-        if ( iterator.hasNext() ) {
-            return (T) iterator.next()
-                    .getComparable();
-        } else {
-            return null;
-        }
+        return firstValue;
     }
 
     public Values<Comparable> getValues() {
@@ -66,11 +66,27 @@ public class Conditions {
 
     public void remove( final Column column ) {
         final ExactMatcher matcher = Condition.columnUUID().is( column.getUuidKey() );
-        for ( final Condition condition : where( matcher ).select().all() ) {
-            condition.getUuidKey().retract();
+        startBatch();
+        try {
+            for ( final Condition condition : where( matcher ).select().all() ) {
+                condition.getUuidKey().retract();
+            }
+        } finally {
+            endBatch();
         }
     }
 
+    /**
+     * The listeners are notified once for all the changes made until endBatch().
+     */
+    public void startBatch() {
+        map.startBatch();
+    }
+
+    public void endBatch() {
+        map.endBatch();
+    }
+
     public class ConditionSelector
             extends Select<Condition> {
 
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.services.verifier.api.client.index.keys;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gives the index objects of one analyzer numbers in the order they are created.
+ * A number takes less memory than a generated UUID string and is compared without going through the characters.
+ * The inspectors ask for keys lazily while the checks run, so the counter is safe to use from several threads.
+ */
+public class SequentialUUIDKeyProvider
+        extends UUIDKeyProvider {
+
+    private final AtomicLong next = new AtomicLong();
+
+    @Override
+    protected Long newKey() {
+        return next.getAndIncrement();
+    }
+
+    @Override
+    protected String newUUID() {
+        return Long.toString( newKey() );
+    }
+}
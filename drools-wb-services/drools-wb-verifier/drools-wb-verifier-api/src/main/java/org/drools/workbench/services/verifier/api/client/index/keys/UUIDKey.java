@@ -31,7 +31,7 @@ public class UUIDKey
     private HasKeys hasKeys;
 
     UUIDKey( final HasKeys hasKeys,
-             final String uuid ) {
+             final Comparable uuid ) {
         super( UNIQUE_UUID,
                uuid );
         this.hasKeys = hasKeys;
@@ -76,4 +76,9 @@ public class UUIDKey
         return getSingleValue().compareTo( key.getSingleValue() );
     }
 
+    @Override
+    public String toString() {
+        return String.valueOf( getSingleValueComparator() );
+    }
+
 }
@@ -22,9 +22,17 @@ public abstract class UUIDKeyProvider {
 
     public UUIDKey get( final HasKeys hasKeys ) {
         return new UUIDKey( hasKeys,
-                            newUUID() );
+                            newKey() );
     }
 
     protected abstract String newUUID();
 
+    /**
+     * @return A new identity, unique for the analyzer. The index orders the keys by it.
+     * Defaults to {@link #newUUID()}, providers can override it to hand out numbers, which are compared faster than strings.
+     */
+    protected Comparable newKey() {
+        return newUUID();
+    }
+
 }
@@ -15,13 +15,30 @@
  */
 package org.drools.workbench.services.verifier.api.client.index.keys;
 
+/**
+ * A key value of the index. The type of the value is resolved once, so that numbers, strings and booleans are
+ * compared without boxing or exceptions when the index maps are sorted and searched.
+ */
 public class Value
         implements Comparable<Value> {
 
+    private static final int OTHER = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int STRING = 3;
+    private static final int BOOLEAN = 4;
+
     private final Comparable comparable;
 
+    private final int type;
+    private final long longValue;
+    private final double doubleValue;
+
     public Value( final Comparable comparable ) {
         this.comparable = comparable;
+        this.type = typeOf( comparable );
+        this.longValue = type == LONG ? ( (Number) comparable ).longValue() : 0;
+        this.doubleValue = type == DOUBLE ? ( (Number) comparable ).doubleValue() : 0;
     }
 
     public Comparable getComparable() {
@@ -36,12 +53,108 @@ public class Value
             return -1;
         } else if ( value.comparable == null ) {
             return 1;
+        } else if ( type == LONG && value.type == LONG ) {
+            return Long.compare( longValue,
+                                 value.longValue );
+        } else if ( type == DOUBLE && value.type == DOUBLE ) {
+            return Double.compare( doubleValue,
+                                   value.doubleValue );
+        } else if ( type == LONG && value.type == DOUBLE ) {
+            return compare( longValue,
+                            value.doubleValue );
+        } else if ( type == DOUBLE && value.type == LONG ) {
+            return -compare( value.longValue,
+                             doubleValue );
+        } else if ( type == OTHER || type == value.type ) {
+            return compareComparables( comparable,
+                                       value.comparable );
+        } else {
+            // Strings, booleans and numbers only compare to their own type
+            return comparable.toString().compareTo( value.comparable.toString() );
+        }
+    }
+
+    /**
+     * Compares two values the way two Values holding them are compared.
+     */
+    public static int compare( final Comparable first,
+                               final Comparable second ) {
+        if ( first == null && second == null ) {
+            return 0;
+        } else if ( first == null ) {
+            return -1;
+        } else if ( second == null ) {
+            return 1;
+        }
+
+        final int firstType = typeOf( first );
+        final int secondType = typeOf( second );
+
+        if ( firstType == LONG && secondType == LONG ) {
+            return Long.compare( ( (Number) first ).longValue(),
+                                 ( (Number) second ).longValue() );
+        } else if ( firstType == DOUBLE && secondType == DOUBLE ) {
+            return Double.compare( ( (Number) first ).doubleValue(),
+                                   ( (Number) second ).doubleValue() );
+        } else if ( firstType == LONG && secondType == DOUBLE ) {
+            return compare( ( (Number) first ).longValue(),
+                            ( (Number) second ).doubleValue() );
+        } else if ( firstType == DOUBLE && secondType == LONG ) {
+            return -compare( ( (Number) second ).longValue(),
+                             ( (Number) first ).doubleValue() );
+        } else if ( firstType == OTHER || firstType == secondType ) {
+            return compareComparables( first,
+                                       second );
+        } else {
+            return first.toString().compareTo( second.toString() );
+        }
+    }
+
+    private static int typeOf( final Comparable comparable ) {
+        if ( comparable instanceof Integer
+                || comparable instanceof Long
+                || comparable instanceof Short
+                || comparable instanceof Byte ) {
+            return LONG;
+        } else if ( comparable instanceof Double
+                || comparable instanceof Float ) {
+            return DOUBLE;
+        } else if ( comparable instanceof String ) {
+            return STRING;
+        } else if ( comparable instanceof Boolean ) {
+            return BOOLEAN;
+        } else {
+            return OTHER;
+        }
+    }
+
+    private static int compareComparables( final Comparable first,
+                                           final Comparable second ) {
+        try {
+            return first.compareTo( second );
+        } catch ( final ClassCastException cce ) {
+            return first.toString().compareTo( second.toString() );
+        }
+    }
+
+    /**
+     * Exact comparison of a whole number and a decimal, without losing the precision of large longs.
+     */
+    private static int compare( final long longValue,
+                                final double doubleValue ) {
+        if ( Double.isNaN( doubleValue ) || doubleValue >= (double) Long.MAX_VALUE ) {
+            return -1;
+        } else if ( doubleValue < (double) Long.MIN_VALUE ) {
+            return 1;
+        }
+
+        final long wholePart = (long) doubleValue;
+        if ( longValue != wholePart ) {
+            return Long.compare( longValue,
+                                 wholePart );
         } else {
-            try {
-                return this.comparable.compareTo( value.comparable );
-            } catch ( final ClassCastException cce ) {
-                return this.comparable.toString().compareTo( value.comparable.toString() );
-            }
+            return Double.compare( 0.0,
+                                   doubleValue - wholePart );
         }
     }
 }
@@ -116,7 +116,9 @@ class ChangeHandledMultiMap<V extends Comparable, T, ListType extends List<T>>
     }
 
     protected void fire() {
-        if ( counter == 1 ) {
+        // A batch that did not change this map, for example one started by the KeyTreeMap for all its maps,
+        // does not notify the handlers
+        if ( counter == 1 && hasChanges() ) {
             for ( final MultiMapChangeHandler<V, T> changeHandler : changeHandlers ) {
                 changeHandler.onChange( changeSet );
             }
@@ -127,6 +129,10 @@ class ChangeHandledMultiMap<V extends Comparable, T, ListType extends List<T>>
         counter--;
     }
 
+    private boolean hasChanges() {
+        return !changeSet.added.isEmpty() || !changeSet.removed.isEmpty();
+    }
+
     private void addToChangeSet( final V value,
                                  final T t ) {
 
@@ -44,17 +44,23 @@ public class IndexedKeyTreeMap<T extends HasIndex & HasKeys>
             keys.add( additionalKey );
         }
 
-        doForAll( index,
-                  new Callback<T>() {
-                      @Override
-                      public void callback( final T t ) {
-                          t.setIndex( t.getIndex() + 1 );
-                      }
-                  } );
+        // Shifting the indexes moves every following item, the listeners are notified once for all of them
+        startBatch();
+        try {
+            doForAll( index,
+                      new Callback<T>() {
+                          @Override
+                          public void callback( final T t ) {
+                              t.setIndex( t.getIndex() + 1 );
+                          }
+                      } );
 
-        object.setIndex( index );
+            object.setIndex( index );
 
-        super.put( object );
+            super.put( object );
+        } finally {
+            endBatch();
+        }
     }
 
     private void doForAll( final int index,
@@ -71,17 +77,22 @@ public class IndexedKeyTreeMap<T extends HasIndex & HasKeys>
 
     @Override
     protected T remove( final UUIDKey uuidKey ) {
-        final T remove = super.remove( uuidKey );
+        startBatch();
+        try {
+            final T remove = super.remove( uuidKey );
 
-        doForAll( remove.getIndex(),
-                  new Callback<T>() {
-                      @Override
-                      public void callback( final T t ) {
-                          t.setIndex( t.getIndex() - 1 );
-                      }
-                  } );
+            doForAll( remove.getIndex(),
+                      new Callback<T>() {
+                          @Override
+                          public void callback( final T t ) {
+                              t.setIndex( t.getIndex() - 1 );
+                          }
+                      } );
 
-        return remove;
+            return remove;
+        } finally {
+            endBatch();
+        }
     }
 
     @Override
@@ -50,7 +50,8 @@ public class InspectorList<InspectorType extends HasUUID>
     public InspectorList( final boolean record,
                           final AnalyzerConfiguration configuration ) {
         this.relationResolver = new RelationResolver( this,
-                                                      record );
+                                                      record,
+                                                      configuration.getRelationCache() );
         this.uuidKey = configuration.getUUID( this );
     }
 
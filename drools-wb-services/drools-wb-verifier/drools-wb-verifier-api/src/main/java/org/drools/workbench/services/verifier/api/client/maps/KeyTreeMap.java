@@ -32,6 +32,8 @@ public class KeyTreeMap<T extends HasKeys> {
 
     protected final UUIDKeySet keys = new UUIDKeySet( this );
 
+    private int batchDepth = 0;
+
     protected KeyChangeListener<T> keyChangeListener = new KeyChangeListener<T>() {
         @Override
         public void update( final Key oldKey,
@@ -122,7 +124,31 @@ public class KeyTreeMap<T extends HasKeys> {
     }
 
     private MultiMap<Value, T, List<T>> getMap( final KeyDefinition id ) {
-        return MultiMapFactory.make( id.isUpdatable());
+        final MultiMap<Value, T, List<T>> map = MultiMapFactory.make( id.isUpdatable() );
+        for ( int i = 0; i < batchDepth; i++ ) {
+            MultiMap.startBatch( map );
+        }
+        return map;
+    }
+
+    /**
+     * Starts a batch in every map of the tree. The listeners of each map are notified once,
+     * with all the changes made to it, when the batch ends.
+     */
+    public void startBatch() {
+        batchDepth++;
+        for ( final MultiMap<Value, T, List<T>> map : tree.values() ) {
+            MultiMap.startBatch( map );
+        }
+    }
+
+    public void endBatch() {
+        PortablePreconditions.checkCondition( "No batch has been started", batchDepth > 0 );
+
+        batchDepth--;
+        for ( final MultiMap<Value, T, List<T>> map : tree.values() ) {
+            MultiMap.endBatch( map );
+        }
     }
 
     public MultiMap<Value, T, List<T>> get( final KeyDefinition keyDefinition ) {
@@ -132,9 +158,14 @@ public class KeyTreeMap<T extends HasKeys> {
     public void merge( final KeyTreeMap<T> keyTreeMap ) {
         keys.addAll( keyTreeMap.keys );
 
-        for ( final KeyDefinition otherId : keyTreeMap.tree.keySet() ) {
-            putAll( otherId,
-                    keyTreeMap.tree.get( otherId ) );
+        startBatch();
+        try {
+            for ( final KeyDefinition otherId : keyTreeMap.tree.keySet() ) {
+                putAll( otherId,
+                        keyTreeMap.tree.get( otherId ) );
+            }
+        } finally {
+            endBatch();
         }
     }
 
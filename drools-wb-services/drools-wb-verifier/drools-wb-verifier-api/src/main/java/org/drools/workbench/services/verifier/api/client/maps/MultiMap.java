@@ -28,22 +28,34 @@ public interface MultiMap<Key extends Comparable, Value, ListType extends List<V
     static <Key extends Comparable, V, ListType extends List<V>> MultiMap<Key, V, ListType> merge( final MultiMap<Key, V, ListType> first,
                                                                                                    final MultiMap<Key, V, ListType> second ) {
 
-        if ( first instanceof ChangeHandledMultiMap ) {
-            (( ChangeHandledMultiMap ) first).addToCounter();
-        }
+        startBatch( first );
 
         for ( final Key key : second.keySet() ) {
             first.putAllValues( key,
                                 second.get( key ) );
         }
 
-        if ( first instanceof ChangeHandledMultiMap ) {
-            (( ChangeHandledMultiMap ) first).fire();
-        }
+        endBatch( first );
 
         return first;
     }
 
+    /**
+     * Collects the changes made to the map until endBatch() into one change set.
+     * The change listeners are notified once, when the outermost batch ends.
+     */
+    static void startBatch( final MultiMap map ) {
+        if ( map instanceof ChangeHandledMultiMap ) {
+            (( ChangeHandledMultiMap ) map).addToCounter();
+        }
+    }
+
+    static void endBatch( final MultiMap map ) {
+        if ( map instanceof ChangeHandledMultiMap ) {
+            (( ChangeHandledMultiMap ) map).fire();
+        }
+    }
+
     boolean put( final Key key,
                  final Value value );
 
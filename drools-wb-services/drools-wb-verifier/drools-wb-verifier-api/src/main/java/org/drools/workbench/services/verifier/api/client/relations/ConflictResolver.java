@@ -21,12 +21,24 @@ import org.drools.workbench.services.verifier.api.client.maps.util.HasUUID;
 
 public class ConflictResolver {
 
+    private static final RelationCache NO_CACHE = new RelationCache();
+
     private final InspectorList collection;
     private final Conflicts     conflicts;
+    private final RelationCache relationCache;
 
     public ConflictResolver( final InspectorList list,
                              final boolean record ) {
+        this( list,
+              record,
+              NO_CACHE );
+    }
+
+    public ConflictResolver( final InspectorList list,
+                             final boolean record,
+                             final RelationCache relationCache ) {
         this.collection = list;
+        this.relationCache = relationCache;
         conflicts = new Conflicts( record );
     }
 
@@ -39,7 +51,8 @@ public class ConflictResolver {
         for ( Object o : collection ) {
             if ( o instanceof IsConflicting ) {
                 final Conflict conflict = hasConflictingObjectInList( otherCollection,
-                                                                      ( IsConflicting ) o );
+                                                                      ( IsConflicting ) o,
+                                                                      relationCache );
                 if ( conflict.foundIssue() ) {
                     return new Conflict( collection,
                                          otherCollection,
@@ -52,7 +65,8 @@ public class ConflictResolver {
     }
 
     private static Conflict getConflictingObjects( final InspectorList collection,
-                                                   final IsConflicting isConflicting ) {
+                                                   final IsConflicting isConflicting,
+                                                   final RelationCache relationCache ) {
 
         if ( isConflicting == null || collection == null ) {
             return Conflict.EMPTY;
@@ -60,22 +74,34 @@ public class ConflictResolver {
 
         for ( final Object other : collection ) {
             return isConflicting( isConflicting,
-                                  ( HasUUID ) other );
+                                  ( HasUUID ) other,
+                                  relationCache );
         }
 
         return Conflict.EMPTY;
     }
 
     private static Conflict hasConflictingObjectInList( final InspectorList collection,
-                                                        final IsConflicting isConflicting ) {
+                                                        final IsConflicting isConflicting,
+                                                        final RelationCache relationCache ) {
         return getConflictingObjects( collection,
-                                      isConflicting );
+                                      isConflicting,
+                                      relationCache );
     }
 
     static Conflict isConflicting( final HasUUID isConflicting,
                                    final HasUUID other ) {
+        return isConflicting( isConflicting,
+                              other,
+                              NO_CACHE );
+    }
+
+    private static Conflict isConflicting( final HasUUID isConflicting,
+                                           final HasUUID other,
+                                           final RelationCache relationCache ) {
         if ( isConflicting instanceof IsConflicting ) {
-            if ( (( IsConflicting ) isConflicting).conflicts( other ) ) {
+            if ( relationCache.conflicts( ( IsConflicting ) isConflicting,
+                                          other ) ) {
                 return new Conflict( isConflicting,
                                      other );
             }
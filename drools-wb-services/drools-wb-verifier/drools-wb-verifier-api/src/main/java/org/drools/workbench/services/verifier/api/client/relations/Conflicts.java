@@ -29,17 +29,17 @@ public class Conflicts {
         this.record = record;
     }
 
-    public void add( final Conflict conflict ) {
+    public synchronized void add( final Conflict conflict ) {
         if ( record ) {
             keyMap.put( conflict.otherUUID(), conflict );
         }
     }
 
-    public Conflict get( final UUIDKey otherUUID ) {
+    public synchronized Conflict get( final UUIDKey otherUUID ) {
         return keyMap.get( otherUUID );
     }
 
-    public void remove( final Conflict first ) {
+    public synchronized void remove( final Conflict first ) {
         if ( record ) {
             keyMap.remove( first.otherUUID() );
         }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.services.verifier.api.client.relations;
+
+import java.util.HashMap;
+
+import org.drools.workbench.services.verifier.api.client.index.keys.UUIDKey;
+import org.drools.workbench.services.verifier.api.client.maps.util.HasUUID;
+
+/**
+ * Remembers the conflicts and subsumes results of item pairs while a group of checks runs.
+ * The checks of one rule pair resolve the same item pairs again and again, each check type on its own.
+ * The results are only kept from start() until the matching end(), so the cache does not grow with the table.
+ * <p>
+ * One cache is shared by the inspector lists of an analysis. The results are kept in a single state that is not
+ * thread safe, this relies on the check runners running the checks of an analysis one after the other on a single
+ * thread. A runner that runs the checks on several threads uses a cache that overrides getState() to give
+ * each thread a state of its own.
+ */
+public class RelationCache {
+
+    private final State state = new State();
+
+    public void start() {
+        getState().depth++;
+    }
+
+    public void end() {
+        final State state = getState();
+        if ( state.depth > 0 && --state.depth == 0 ) {
+            state.conflicts.clear();
+            state.subsumes.clear();
+        }
+    }
+
+    public boolean conflicts( final IsConflicting item,
+                              final HasUUID other ) {
+        final State state = getState();
+        if ( state.depth == 0 ) {
+            return item.conflicts( other );
+        }
+
+        final HashMap<UUIDKey, Boolean> results = getResults( state.conflicts,
+                                                              item.getUuidKey() );
+        Boolean result = results.get( other.getUuidKey() );
+        if ( result == null ) {
+            result = item.conflicts( other );
+            results.put( other.getUuidKey(),
+                         result );
+        }
+        return result;
+    }
+
+    public boolean subsumes( final IsSubsuming item,
+                             final HasUUID other ) {
+        final State state = getState();
+        if ( state.depth == 0 || !( item instanceof HasUUID ) ) {
+            return item.subsumes( other );
+        }
+
+        final HashMap<UUIDKey, Boolean> results = getResults( state.subsumes,
+                                                              ( (HasUUID) item ).getUuidKey() );
+        Boolean result = results.get( other.getUuidKey() );
+        if ( result == null ) {
+            result = item.subsumes( other );
+            results.put( other.getUuidKey(),
+                         result );
+        }
+        return result;
+    }
+
+    /**
+     * @return The results and the start() depth the cache works on.
+     */
+    protected State getState() {
+        return state;
+    }
+
+    private HashMap<UUIDKey, Boolean> getResults( final HashMap<UUIDKey, HashMap<UUIDKey, Boolean>> relation,
+                                                  final UUIDKey uuidKey ) {
+        HashMap<UUIDKey, Boolean> results = relation.get( uuidKey );
+        if ( results == null ) {
+            results = new HashMap<>();
+            relation.put( uuidKey,
+                          results );
+        }
+        return results;
+    }
+
+    protected static class State {
+
+        private final HashMap<UUIDKey, HashMap<UUIDKey, Boolean>> conflicts = new HashMap<>();
+        private final HashMap<UUIDKey, HashMap<UUIDKey, Boolean>> subsumes = new HashMap<>();
+
+        private int depth = 0;
+
+        public State() {
+        }
+
+        public boolean isStarted() {
+            return depth > 0;
+        }
+    }
+}
@@ -32,11 +32,24 @@ public class RelationResolver {
 
     public RelationResolver( final InspectorList list,
                              final boolean record ) {
+        this( list,
+              record,
+              new RelationCache() );
+    }
+
+    public RelationResolver( final InspectorList list,
+                             final boolean record,
+                             final RelationCache relationCache ) {
         this.list = list;
+
+        // Without a cache, or until the cache is started, the relations are resolved every time
+        final RelationCache cache = relationCache != null ? relationCache : new RelationCache();
         conflictResolver = new ConflictResolver( list,
-                                                 record );
+                                                 record,
+                                                 cache );
         subsumptionResolver = new SubsumptionResolver( list,
-                                                       record );
+                                                       record,
+                                                       cache );
     }
 
     public boolean isConflicting( final InspectorList otherCollection ) {
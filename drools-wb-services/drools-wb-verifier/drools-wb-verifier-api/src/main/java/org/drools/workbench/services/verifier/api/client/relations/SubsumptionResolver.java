@@ -21,12 +21,24 @@ import org.drools.workbench.services.verifier.api.client.maps.InspectorList;
 
 public class SubsumptionResolver {
 
+    private static final RelationCache NO_CACHE = new RelationCache();
+
     private final InspectorList collection;
     private final SubsumptionBlockers subsumptionBlockers ;
+    private final RelationCache relationCache;
 
     public SubsumptionResolver( final InspectorList collection,
                                 final boolean record ) {
+        this( collection,
+              record,
+              NO_CACHE );
+    }
+
+    public SubsumptionResolver( final InspectorList collection,
+                                final boolean record,
+                                final RelationCache relationCache ) {
         this.collection = collection;
+        this.relationCache = relationCache;
         subsumptionBlockers = new SubsumptionBlockers(record);
     }
 
@@ -69,7 +81,8 @@ public class SubsumptionResolver {
         // Every object in other collection is subsumed by an object in collection.
         for ( final Object object : otherList ) {
             final SubsumptionBlocker blocker = SubsumptionResolver.isSubsumedByAnObjectInThisList( collection,
-                                                                                                   ( HasUUID ) object );
+                                                                                                   ( HasUUID ) object,
+                                                                                                   relationCache );
             if ( blocker.foundIssue() ) {
 
                 return new SubsumptionBlocker( collection,
@@ -83,9 +96,18 @@ public class SubsumptionResolver {
 
     public static SubsumptionBlocker isSubsumedByAnObjectInThisList( final InspectorList otherCollection,
                                                                      final HasUUID object ) {
+        return isSubsumedByAnObjectInThisList( otherCollection,
+                                               object,
+                                               NO_CACHE );
+    }
+
+    private static SubsumptionBlocker isSubsumedByAnObjectInThisList( final InspectorList otherCollection,
+                                                                      final HasUUID object,
+                                                                      final RelationCache relationCache ) {
         if ( object instanceof IsSubsuming ) {
             if ( subsumesItem( otherCollection,
-                               ( IsSubsuming ) object ) ) {
+                               ( IsSubsuming ) object,
+                               relationCache ) ) {
                 return SubsumptionBlocker.EMPTY;
             } else {
                 return new SubsumptionBlocker( otherCollection,
@@ -102,9 +124,11 @@ public class SubsumptionResolver {
     }
 
     private static boolean subsumesItem( final InspectorList otherCollection,
-                                         final IsSubsuming object ) {
+                                         final IsSubsuming object,
+                                         final RelationCache relationCache ) {
         for ( final Object otherObject : otherCollection ) {
-            if ( object.subsumes( otherObject ) ) {
+            if ( relationCache.subsumes( object,
+                                         ( HasUUID ) otherObject ) ) {
                 return true;
             }
         }
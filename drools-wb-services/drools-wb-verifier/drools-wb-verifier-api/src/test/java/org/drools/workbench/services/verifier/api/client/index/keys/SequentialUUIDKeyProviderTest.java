@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.services.verifier.api.client.index.keys;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.drools.workbench.services.verifier.api.client.maps.util.HasKeys;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class SequentialUUIDKeyProviderTest {
+
+    @Test
+    public void testKeysAreOrderedByCreation() throws Exception {
+        final SequentialUUIDKeyProvider provider = new SequentialUUIDKeyProvider();
+
+        UUIDKey previous = provider.get( mock( HasKeys.class ) );
+        // Past 9 and 99, where the strings of the numbers would no longer be in order
+        for ( int i = 0; i < 200; i++ ) {
+            final UUIDKey next = provider.get( mock( HasKeys.class ) );
+            assertTrue( previous.compareTo( next ) < 0 );
+            assertTrue( next.compareTo( previous ) > 0 );
+            previous = next;
+        }
+    }
+
+    @Test
+    public void testToString() throws Exception {
+        final SequentialUUIDKeyProvider provider = new SequentialUUIDKeyProvider();
+
+        assertEquals( "0",
+                      provider.get( mock( HasKeys.class ) ).toString() );
+        assertEquals( "1",
+                      provider.get( mock( HasKeys.class ) ).toString() );
+    }
+
+    @Test
+    public void testKeysAreUniqueAcrossThreads() throws Exception {
+        final SequentialUUIDKeyProvider provider = new SequentialUUIDKeyProvider();
+        final HasKeys hasKeys = mock( HasKeys.class );
+
+        final ExecutorService executorService = Executors.newFixedThreadPool( 4 );
+        try {
+            final List<Future<List<String>>> futures = new ArrayList<>();
+            for ( int i = 0; i < 4; i++ ) {
+                futures.add( executorService.submit( new Callable<List<String>>() {
+                    @Override
+                    public List<String> call() throws Exception {
+                        final List<String> keys = new ArrayList<>();
+                        for ( int j = 0; j < 10000; j++ ) {
+                            keys.add( provider.get( hasKeys ).toString() );
+                        }
+                        return keys;
+                    }
+                } ) );
+            }
+
+            final Set<String> keys = new HashSet<>();
+            for ( final Future<List<String>> future : futures ) {
+                keys.addAll( future.get() );
+            }
+            assertEquals( 40000,
+                          keys.size() );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -57,4 +57,54 @@ public class ValueTest {
         assertTrue( a.compareTo( b ) < 0 );
         assertTrue( b.compareTo( a ) > 0 );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testIntegerVSLong() throws Exception {
+        final Value nine = new Value( 9 );
+        final Value ten = new Value( 10L );
+
+        assertTrue( nine.compareTo( ten ) < 0 );
+        assertTrue( ten.compareTo( nine ) > 0 );
+        assertEquals( 0,
+                      new Value( 10 ).compareTo( ten ) );
+    }
+
+    @Test
+    public void testIntegerVSDouble() throws Exception {
+        final Value two = new Value( 2 );
+        final Value twoAndHalf = new Value( 2.5 );
+        final Value minusTwoAndHalf = new Value( -2.5 );
+
+        assertTrue( two.compareTo( twoAndHalf ) < 0 );
+        assertTrue( twoAndHalf.compareTo( two ) > 0 );
+        assertTrue( new Value( -2 ).compareTo( minusTwoAndHalf ) > 0 );
+        assertTrue( minusTwoAndHalf.compareTo( new Value( -2 ) ) < 0 );
+        assertEquals( 0,
+                      two.compareTo( new Value( 2.0 ) ) );
+    }
+
+    @Test
+    public void testLargeLongVSDouble() throws Exception {
+        final Value largeLong = new Value( ( 1L << 53 ) + 1 );
+        final Value largeDouble = new Value( ( double ) ( 1L << 53 ) );
+
+        assertTrue( largeLong.compareTo( largeDouble ) > 0 );
+        assertTrue( largeDouble.compareTo( largeLong ) < 0 );
+        assertTrue( new Value( Long.MAX_VALUE ).compareTo( new Value( Double.MAX_VALUE ) ) < 0 );
+    }
+
+    @Test
+    public void testCompare() throws Exception {
+        assertTrue( Value.compare( 9,
+                                   10L ) < 0 );
+        assertTrue( Value.compare( 2.5,
+                                   2 ) > 0 );
+        assertTrue( Value.compare( "hello",
+                                   1 ) > 0 );
+        assertTrue( Value.compare( null,
+                                   1 ) < 0 );
+        assertEquals( 0,
+                      Value.compare( true,
+                                     true ) );
+    }
+}
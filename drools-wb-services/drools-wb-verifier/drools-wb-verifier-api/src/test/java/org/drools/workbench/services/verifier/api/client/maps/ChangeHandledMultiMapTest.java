@@ -79,4 +79,66 @@ public class ChangeHandledMultiMapTest {
 
         assertEquals( 1, timesCalled );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBatch() throws Exception {
+        MultiMap.startBatch( map );
+
+        map.put( new Value( "hello" ),
+                 "a" );
+        map.put( new Value( "hi" ),
+                 "b" );
+        map.removeValue( new Value( "hello" ),
+                         "a" );
+
+        assertNull( changeSet );
+        assertEquals( 0, timesCalled );
+
+        MultiMap.endBatch( map );
+
+        assertTrue( changeSet.getAdded().get( new Value( "hello" ) ).contains( "a" ) );
+        assertTrue( changeSet.getAdded().get( new Value( "hi" ) ).contains( "b" ) );
+        assertTrue( changeSet.getRemoved().get( new Value( "hello" ) ).contains( "a" ) );
+
+        assertEquals( 1, timesCalled );
+    }
+
+    @Test
+    public void testNestedBatch() throws Exception {
+        MultiMap.startBatch( map );
+        MultiMap.startBatch( map );
+
+        map.put( new Value( "hello" ),
+                 "a" );
+
+        MultiMap.endBatch( map );
+
+        assertEquals( 0, timesCalled );
+
+        MultiMap.endBatch( map );
+
+        assertEquals( 1, timesCalled );
+    }
+
+    @Test
+    public void testEmptyBatchDoesNotNotify() throws Exception {
+        MultiMap.startBatch( map );
+        MultiMap.endBatch( map );
+
+        assertNull( changeSet );
+        assertEquals( 0, timesCalled );
+    }
+
+    @Test
+    public void testNoNotificationAfterEmptyBatch() throws Exception {
+        map.put( new Value( "hello" ),
+                 "a" );
+
+        assertEquals( 1, timesCalled );
+
+        MultiMap.startBatch( map );
+        MultiMap.endBatch( map );
+
+        assertEquals( 1, timesCalled );
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.services.verifier.api.client.relations;
+
+import org.drools.workbench.services.verifier.api.client.AnalyzerConfigurationMock;
+import org.drools.workbench.services.verifier.api.client.configuration.AnalyzerConfiguration;
+import org.drools.workbench.services.verifier.api.client.index.keys.Key;
+import org.drools.workbench.services.verifier.api.client.index.keys.UUIDKey;
+import org.drools.workbench.services.verifier.api.client.maps.InspectorList;
+import org.drools.workbench.services.verifier.api.client.maps.util.HasKeys;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class RelationCacheTest {
+
+    private AnalyzerConfiguration configuration;
+
+    private InspectorList a;
+    private InspectorList b;
+    private Person itemInA;
+    private Person itemInB;
+
+    @Before
+    public void setUp() throws
+                        Exception {
+        configuration = new AnalyzerConfigurationMock();
+
+        a = new InspectorList( configuration );
+        b = new InspectorList( configuration );
+
+        itemInA = spy( new Person( 10 ) );
+        a.add( itemInA );
+
+        itemInB = spy( new Person( 10 ) );
+        b.add( itemInB );
+    }
+
+    @Test
+    public void notStarted() throws
+                             Exception {
+        assertTrue( a.subsumes( b ) );
+        assertTrue( a.subsumes( b ) );
+
+        verify( itemInA,
+                times( 2 ) ).conflicts( any() );
+        verify( itemInB,
+                times( 2 ) ).subsumes( any() );
+    }
+
+    @Test
+    public void resolvedOnceWhileStarted() throws
+                                           Exception {
+        configuration.getRelationCache()
+                .start();
+
+        assertTrue( a.subsumes( b ) );
+        assertTrue( a.subsumes( b ) );
+        assertFalse( a.conflicts( b ) );
+
+        verify( itemInA,
+                times( 1 ) ).conflicts( any() );
+        verify( itemInB,
+                times( 1 ) ).subsumes( any() );
+
+        configuration.getRelationCache()
+                .end();
+    }
+
+    @Test
+    public void forgottenAfterEnd() throws
+                                    Exception {
+        configuration.getRelationCache()
+                .start();
+        assertTrue( a.subsumes( b ) );
+        configuration.getRelationCache()
+                .end();
+
+        // UPDATE
+        itemInA.setAge( 15 );
+
+        configuration.getRelationCache()
+                .start();
+        assertFalse( a.subsumes( b ) );
+        assertTrue( a.conflicts( b ) );
+        configuration.getRelationCache()
+                .end();
+    }
+
+    @Test
+    public void nestedStart() throws
+                              Exception {
+        final RelationCache relationCache = configuration.getRelationCache();
+        relationCache.start();
+        relationCache.start();
+        assertTrue( a.subsumes( b ) );
+        relationCache.end();
+
+        itemInA.setAge( 15 );
+
+        // Still started, so the result is remembered
+        assertTrue( a.subsumes( b ) );
+        relationCache.end();
+
+        assertFalse( a.subsumes( b ) );
+    }
+
+    public class Person
+            implements IsConflicting,
+                       IsSubsuming,
+                       HasKeys {
+
+        int age;
+
+        private UUIDKey uuidKey = configuration.getUUID( this );
+
+        public Person( final int age ) {
+            this.age = age;
+        }
+
+        @Override
+        public UUIDKey getUuidKey() {
+            return uuidKey;
+        }
+
+        @Override
+        public Key[] keys() {
+            return new Key[]{
+                    uuidKey
+            };
+        }
+
+        public void setAge( final int age ) {
+            this.age = age;
+        }
+
+        @Override
+        public boolean conflicts( final Object other ) {
+            if ( other instanceof Person ) {
+                return age != ( (Person) other ).age;
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public boolean subsumes( final Object other ) {
+            if ( other instanceof Person ) {
+                return age == ( (Person) other ).age;
+            } else {
+                return false;
+            }
+        }
+    }
+}
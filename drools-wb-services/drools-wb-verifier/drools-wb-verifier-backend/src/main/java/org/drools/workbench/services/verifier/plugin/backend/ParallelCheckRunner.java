@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.drools.workbench.services.verifier.plugin.backend;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gwt.user.client.Command;
+import org.drools.workbench.services.verifier.api.client.StatusUpdate;
+import org.drools.workbench.services.verifier.core.checks.base.Check;
+import org.drools.workbench.services.verifier.core.checks.base.CheckRunner;
+import org.uberfire.commons.validation.PortablePreconditions;
+
+/**
+ * Runs the checks on the JVM by splitting them across a fork join pool.
+ * <br>
+ * <br>
+ * Like the JavaCheckRunner the run blocks until every check is done. The checks keep their own results,
+ * the workers only share a counter of the finished checks. Status updates and the completion command
+ * are executed on the calling thread. The analysis can be cancelled from another thread or by interrupting
+ * the calling thread, the checks that have not been started by then are skipped.
+ * <br>
+ * <br>
+ * The pair checks of an analysis share the relation cache of its configuration, so the analyzer has to be
+ * configured with a ThreadConfinedRelationCache when it uses this runner.
+ * <br>
+ * <br>
+ * Lives outside the GWT modules since the fork join pool is not available for the web worker.
+ */
+public class ParallelCheckRunner
+        implements CheckRunner {
+
+    private static final int BLOCK_SIZE = 50;
+    private static final long STATUS_INTERVAL_MILLISECONDS = 100;
+
+    private final ForkJoinPool pool;
+
+    private volatile ParallelAnalysis activeAnalysis;
+
+    public ParallelCheckRunner() {
+        this( ForkJoinPool.commonPool() );
+    }
+
+    public ParallelCheckRunner( final ForkJoinPool pool ) {
+        this.pool = PortablePreconditions.checkNotNull( "pool",
+                                                        pool );
+    }
+
+    @Override
+    public void run( final Set<Check> rechecks,
+                     final StatusUpdate onStatus,
+                     final Command onCompletion ) {
+        final ParallelAnalysis analysis = new ParallelAnalysis( rechecks );
+        activeAnalysis = analysis;
+
+        try {
+            analysis.run( pool,
+                          onStatus );
+        } finally {
+            if ( activeAnalysis == analysis ) {
+                activeAnalysis = null;
+            }
+        }
+
+        if ( onCompletion != null ) {
+            onCompletion.execute();
+        }
+    }
+
+    @Override
+    public void cancelExistingAnalysis() {
+        final ParallelAnalysis analysis = activeAnalysis;
+
+        if ( analysis != null ) {
+            analysis.cancel();
+            activeAnalysis = null;
+        }
+    }
+
+    private static class ParallelAnalysis {
+
+        private final List<Check> checksToRun;
+        private final AtomicInteger finished = new AtomicInteger();
+        private volatile boolean isCancelled = false;
+
+        private ParallelAnalysis( final Set<Check> checksToRun ) {
+            // Snapshot, the caller clears the set after the run
+            this.checksToRun = new ArrayList<>( checksToRun );
+        }
+
+        private void run( final ForkJoinPool pool,
+                          final StatusUpdate onStatus ) {
+            final ForkJoinTask<Void> task = pool.submit( new ChecksTask( this,
+                                                                          0,
+                                                                          checksToRun.size() ) );
+
+            int reported = -1;
+
+            while ( true ) {
+                final int done = finished.get();
+                if ( onStatus != null && done != reported ) {
+                    onStatus.update( done,
+                                     Math.min( checksToRun.size(),
+                                               done + BLOCK_SIZE ),
+                                     checksToRun.size() );
+                    reported = done;
+                }
+
+                try {
+                    task.get( STATUS_INTERVAL_MILLISECONDS,
+                              TimeUnit.MILLISECONDS );
+                    return;
+                } catch ( final TimeoutException e ) {
+                    // Still running, report the progress
+                } catch ( final InterruptedException e ) {
+                    cancel();
+                    Thread.currentThread()
+                            .interrupt();
+                    return;
+                } catch ( final ExecutionException e ) {
+                    if ( e.getCause() instanceof RuntimeException ) {
+                        throw (RuntimeException) e.getCause();
+                    } else if ( e.getCause() instanceof Error ) {
+                        throw (Error) e.getCause();
+                    } else {
+                        throw new IllegalStateException( e.getCause() );
+                    }
+                }
+            }
+        }
+
+        private void cancel() {
+            isCancelled = true;
+        }
+    }
+
+    private static class ChecksTask
+            extends RecursiveAction {
+
+        private final ParallelAnalysis analysis;
+        private final int startIndex;
+        private final int endIndex;
+
+        private ChecksTask( final ParallelAnalysis analysis,
+                            final int startIndex,
+                            final int endIndex ) {
+            this.analysis = analysis;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+        }
+
+        @Override
+        protected void compute() {
+            if ( analysis.isCancelled ) {
+                return;
+            }
+
+            if ( endIndex - startIndex > BLOCK_SIZE ) {
+                final int middle = ( startIndex + endIndex ) >>> 1;
+                invokeAll( new ChecksTask( analysis,
+                                           startIndex,
+                                           middle ),
+                           new ChecksTask( analysis,
+                                           middle,
+                                           endIndex ) );
+            } else {
+                for ( int index = startIndex; index < endIndex; index++ ) {
+                    if ( analysis.isCancelled ) {
+                        return;
+                    }
+                    analysis.checksToRun.get( index )
+                            .check();
+                    analysis.finished.incrementAndGet();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.verifier.plugin.backend;
+
+import org.drools.workbench.services.verifier.api.client.relations.RelationCache;
+
+/**
+ * Relation cache for the ParallelCheckRunner. Each thread works on a state of its own between start() and end(),
+ * so the pair checks running at the same time on different threads do not see each others results.
+ * The state is dropped when the outermost end() is reached, the pool threads do not hold on to it.
+ */
+public class ThreadConfinedRelationCache
+        extends RelationCache {
+
+    private final State idle = new State();
+    private final ThreadLocal<State> states = new ThreadLocal<>();
+
+    @Override
+    public void start() {
+        if ( states.get() == null ) {
+            states.set( new State() );
+        }
+        super.start();
+    }
+
+    @Override
+    public void end() {
+        super.end();
+
+        final State state = states.get();
+        if ( state != null && !state.isStarted() ) {
+            states.remove();
+        }
+    }
+
+    @Override
+    protected State getState() {
+        final State state = states.get();
+        if ( state == null ) {
+            // Never started, nothing is cached and nothing is written
+            return idle;
+        }
+        return state;
+    }
+}
@@ -23,14 +23,16 @@ import org.drools.workbench.services.verifier.api.client.configuration.CheckWhit
 import org.drools.workbench.services.verifier.api.client.configuration.DateTimeFormatProvider;
 import org.drools.workbench.services.verifier.api.client.configuration.RunnerType;
 import org.drools.workbench.services.verifier.api.client.index.Index;
-import org.drools.workbench.services.verifier.api.client.index.keys.UUIDKeyProvider;
+import org.drools.workbench.services.verifier.api.client.index.keys.SequentialUUIDKeyProvider;
+import org.drools.workbench.services.verifier.api.client.relations.RelationCache;
+import org.drools.workbench.services.verifier.core.checks.base.CheckRunner;
+import org.drools.workbench.services.verifier.core.checks.base.CheckRunnerFactory;
 import org.drools.workbench.services.verifier.core.main.Analyzer;
 import org.drools.workbench.services.verifier.core.main.Reporter;
 import org.drools.workbench.services.verifier.plugin.client.api.Initialize;
 import org.drools.workbench.services.verifier.plugin.client.builders.BuildException;
 import org.drools.workbench.services.verifier.plugin.client.builders.IndexBuilder;
 import org.drools.workbench.services.verifier.plugin.client.builders.VerifierColumnUtilities;
-import org.uberfire.commons.uuid.UUID;
 
 public class AnalyzerBuilder {
 
@@ -42,13 +44,17 @@ public class AnalyzerBuilder {
     private AnalyzerConfiguration configuration;
     private Analyzer analyzer;
     private RunnerType runnerType;
+    private DateTimeFormatProvider dateTimeFormatProvider;
+    private CheckRunner checkRunner;
+    private RelationCache relationCache;
 
     public Analyzer buildAnalyzer() throws
                                     BuildException {
         if ( analyzer == null ) {
             analyzer = new Analyzer( reporter,
                                      getIndex(),
-                                     getConfiguration() );
+                                     getConfiguration(),
+                                     getCheckRunner() );
         }
         return analyzer;
     }
@@ -78,25 +84,42 @@ public class AnalyzerBuilder {
 
             configuration = new AnalyzerConfiguration(
                     initialize.getUuid(),
-                    new DateTimeFormatProvider() {
-                        @Override
-                        public String format( final Date dateValue ) {
-                            return DateTimeFormat.getFormat( initialize.getDateFormat() )
-                                    .format( dateValue );
-                        }
-                    },
-                    new UUIDKeyProvider() {
-                        @Override
-                        protected String newUUID() {
-                            return UUID.uuid();
-                        }
-                    },
+                    getDateTimeFormatProvider(),
+                    new SequentialUUIDKeyProvider(),
                     CheckWhiteList.newDefault(),
-                    runnerType );
+                    runnerType,
+                    getRelationCache() );
         }
         return configuration;
     }
 
+    private CheckRunner getCheckRunner() {
+        if ( checkRunner == null ) {
+            checkRunner = CheckRunnerFactory.make( runnerType );
+        }
+        return checkRunner;
+    }
+
+    private RelationCache getRelationCache() {
+        if ( relationCache == null ) {
+            relationCache = new RelationCache();
+        }
+        return relationCache;
+    }
+
+    private DateTimeFormatProvider getDateTimeFormatProvider() {
+        if ( dateTimeFormatProvider == null ) {
+            dateTimeFormatProvider = new DateTimeFormatProvider() {
+                @Override
+                public String format( final Date dateValue ) {
+                    return DateTimeFormat.getFormat( initialize.getDateFormat() )
+                            .format( dateValue );
+                }
+            };
+        }
+        return dateTimeFormatProvider;
+    }
+
     public AnalyzerBuilder with( final Reporter reporter ) {
         this.reporter = reporter;
         return this;
@@ -111,4 +134,28 @@ public class AnalyzerBuilder {
         this.runnerType = runnerType;
         return this;
     }
+
+    /**
+     * Replaces the GWT date formatting, needed when the analyzer is built outside of the web worker.
+     */
+    public AnalyzerBuilder with( final DateTimeFormatProvider dateTimeFormatProvider ) {
+        this.dateTimeFormatProvider = dateTimeFormatProvider;
+        return this;
+    }
+
+    /**
+     * Replaces the runner picked by the runner type, for runners that can not be compiled for the web worker.
+     */
+    public AnalyzerBuilder with( final CheckRunner checkRunner ) {
+        this.checkRunner = checkRunner;
+        return this;
+    }
+
+    /**
+     * Replaces the relation cache, needed when the check runner runs the checks on several threads.
+     */
+    public AnalyzerBuilder with( final RelationCache relationCache ) {
+        this.relationCache = relationCache;
+        return this;
+    }
 }
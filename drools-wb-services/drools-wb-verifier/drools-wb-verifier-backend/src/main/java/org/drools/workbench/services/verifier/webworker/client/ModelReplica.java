@@ -0,0 +1,180 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.drools.workbench.services.verifier.webworker.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.workbench.models.guided.dtable.shared.model.BRLActionVariableColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.BRLConditionVariableColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
+import org.drools.workbench.services.verifier.plugin.client.Coordinate;
+import org.drools.workbench.services.verifier.plugin.client.api.CellValue;
+import org.drools.workbench.services.verifier.plugin.client.api.FactTypes;
+import org.drools.workbench.services.verifier.plugin.client.api.HeaderMetaData;
+import org.drools.workbench.services.verifier.plugin.client.builders.ModelMetaDataEnhancer;
+import org.uberfire.commons.validation.PortablePreconditions;
+
+/**
+ * Web worker side copy of the decision table. Cell, row and column deletion changes are applied to it,
+ * anything else replaces the whole model.
+ */
+public class ModelReplica {
+
+    private GuidedDecisionTable52 model;
+    private FactTypes factTypes;
+
+    public ModelReplica( final GuidedDecisionTable52 model,
+                         final FactTypes factTypes ) {
+        setModel( model );
+        setFactTypes( factTypes );
+    }
+
+    public GuidedDecisionTable52 getModel() {
+        return model;
+    }
+
+    public void setModel( final GuidedDecisionTable52 model ) {
+        this.model = PortablePreconditions.checkNotNull( "model",
+                                                         model );
+    }
+
+    public FactTypes getFactTypes() {
+        return factTypes;
+    }
+
+    public void setFactTypes( final FactTypes factTypes ) {
+        this.factTypes = PortablePreconditions.checkNotNull( "factTypes",
+                                                             factTypes );
+    }
+
+    public HeaderMetaData getHeaderMetaData() {
+        return new ModelMetaDataEnhancer( model ).getHeaderMetaData();
+    }
+
+    /**
+     * @return Coordinates of the cells that were set.
+     */
+    public List<Coordinate> update( final List<CellValue> cellValues ) throws
+                                                                      UpdateException {
+        PortablePreconditions.checkNotNull( "cellValues",
+                                            cellValues );
+
+        final List<Coordinate> coordinates = new ArrayList<>();
+
+        for ( final CellValue cellValue : cellValues ) {
+            final Coordinate coordinate = cellValue.getCoordinate();
+
+            if ( coordinate.getRow() < 0
+                    || coordinate.getRow() >= model.getData()
+                    .size() ) {
+                throw new UpdateException( "Row " + coordinate.getRow() + " does not exist." );
+            }
+
+            final List<DTCellValue52> row = model.getData()
+                    .get( coordinate.getRow() );
+
+            if ( coordinate.getCol() < 0
+                    || coordinate.getCol() >= row.size() ) {
+                throw new UpdateException( "Column " + coordinate.getCol() + " does not exist." );
+            }
+
+            row.set( coordinate.getCol(),
+                     cellValue.getValue() );
+            coordinates.add( coordinate );
+        }
+
+        return coordinates;
+    }
+
+    public void insertRow( final int index,
+                           final List<DTCellValue52> row ) {
+        PortablePreconditions.checkNotNull( "row",
+                                            row );
+
+        model.getData()
+                .add( index,
+                      row );
+    }
+
+    public void removeRow( final int index ) {
+        model.getData()
+                .remove( index );
+    }
+
+    /**
+     * Removes the column at the expanded index and its cells. A BRL variable column takes the whole
+     * BRL column with it, as it does in the editor.
+     */
+    public void deleteColumns( final int firstColumnIndex,
+                               final int numberOfColumns ) throws
+                                                           UpdateException {
+        final int columnCountBefore = model.getExpandedColumns()
+                .size();
+
+        if ( firstColumnIndex < 0 || firstColumnIndex + numberOfColumns > columnCountBefore ) {
+            throw new UpdateException( "Column " + firstColumnIndex + " does not exist." );
+        }
+
+        for ( int i = 0; i < numberOfColumns; i++ ) {
+            removeColumn( model.getExpandedColumns()
+                                  .get( firstColumnIndex ) );
+        }
+
+        final int removed = columnCountBefore - model.getExpandedColumns()
+                .size();
+
+        for ( final List<DTCellValue52> row : model.getData() ) {
+            for ( int i = 0; i < removed; i++ ) {
+                row.remove( firstColumnIndex );
+            }
+        }
+    }
+
+    private void removeColumn( final BaseColumn column ) throws
+                                                         UpdateException {
+        if ( column instanceof BRLConditionVariableColumn ) {
+            model.getConditions()
+                    .remove( model.getBRLColumn( (BRLConditionVariableColumn) column ) );
+        } else if ( column instanceof BRLActionVariableColumn ) {
+            model.getActionCols()
+                    .remove( model.getBRLColumn( (BRLActionVariableColumn) column ) );
+        } else if ( column instanceof ConditionCol52 && !model.getConditions()
+                .contains( column ) ) {
+            final Pattern52 pattern = model.getPattern( (ConditionCol52) column );
+            pattern.getChildColumns()
+                    .remove( column );
+            if ( pattern.getChildColumns()
+                    .isEmpty() ) {
+                model.getConditions()
+                        .remove( pattern );
+            }
+        } else if ( !( model.getConditions()
+                .remove( column )
+                || model.getActionCols()
+                .remove( column )
+                || model.getAttributeCols()
+                .remove( column )
+                || model.getMetadataCols()
+                .remove( column ) ) ) {
+            throw new UpdateException( "Column " + column.getHeader() + " can not be deleted." );
+        }
+    }
+}
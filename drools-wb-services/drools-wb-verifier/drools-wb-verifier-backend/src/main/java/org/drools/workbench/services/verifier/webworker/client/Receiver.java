@@ -27,11 +27,12 @@ import org.drools.workbench.services.verifier.core.main.Analyzer;
 import org.drools.workbench.services.verifier.core.main.Reporter;
 import org.drools.workbench.services.verifier.plugin.client.api.DeleteColumns;
 import org.drools.workbench.services.verifier.plugin.client.api.Initialize;
-import org.drools.workbench.services.verifier.plugin.client.api.MakeRule;
+import org.drools.workbench.services.verifier.plugin.client.api.InsertRule;
 import org.drools.workbench.services.verifier.plugin.client.api.NewColumn;
 import org.drools.workbench.services.verifier.plugin.client.api.RemoveRule;
+import org.drools.workbench.services.verifier.plugin.client.api.RequestResync;
 import org.drools.workbench.services.verifier.plugin.client.api.RequestStatus;
-import org.drools.workbench.services.verifier.plugin.client.api.Update;
+import org.drools.workbench.services.verifier.plugin.client.api.UpdateCells;
 import org.drools.workbench.services.verifier.plugin.client.api.WebWorkerException;
 import org.drools.workbench.services.verifier.plugin.client.builders.BuildException;
 import org.uberfire.commons.validation.PortablePreconditions;
@@ -44,6 +45,7 @@ public class Receiver {
     private Issues latestReport;
     private Index index;
     private AnalyzerConfiguration configuration;
+    private ModelReplica modelReplica;
 
     public Receiver( final Poster poster,
                      final RunnerType runnerType ) {
@@ -60,12 +62,12 @@ public class Receiver {
             requestStatus();
         } else if ( o instanceof RemoveRule ) {
             removeRule( (RemoveRule) o );
-        } else if ( o instanceof Update ) {
-            update( (Update) o );
+        } else if ( o instanceof UpdateCells ) {
+            updateCells( (UpdateCells) o );
         } else if ( o instanceof DeleteColumns ) {
             deleteColumns( (DeleteColumns) o );
-        } else if ( o instanceof MakeRule ) {
-            makeRule( (MakeRule) o );
+        } else if ( o instanceof InsertRule ) {
+            insertRule( (InsertRule) o );
         } else if ( o instanceof NewColumn ) {
             newColumn( (NewColumn) o );
         }
@@ -73,31 +75,34 @@ public class Receiver {
 
     private void removeRule( final RemoveRule removeRule ) {
         try {
+            modelReplica.removeRow( removeRule.getDeletedRow() );
             getUpdateManager().removeRule( removeRule.getDeletedRow() );
         } catch ( final Exception e ) {
-            poster.post( new WebWorkerException( "Failed to remove a rule: " +
-                                                         e.getMessage() ) );
+            failed( "Failed to remove a rule: ",
+                    e );
         }
     }
 
     private void deleteColumns( final DeleteColumns deleteColumns ) {
         try {
+            modelReplica.deleteColumns( deleteColumns.getFirstColumnIndex(),
+                                        deleteColumns.getNumberOfColumns() );
             getUpdateManager().deleteColumns( deleteColumns.getFirstColumnIndex(),
                                               deleteColumns.getNumberOfColumns() );
         } catch ( final Exception e ) {
-            poster.post( new WebWorkerException( "Deleting columns failed: " +
-                                                         e.getMessage() ) );
+            failed( "Deleting columns failed: ",
+                    e );
         }
 
     }
 
-    private void update( final Update update ) {
+    private void updateCells( final UpdateCells updateCells ) {
         try {
-            getUpdateManager().update( update.getModel(),
-                                       update.getCoordinates() );
-        } catch ( final UpdateException e ) {
-            poster.post( new WebWorkerException( "Dtable update failed: " +
-                                                         e.getMessage() ) );
+            getUpdateManager().update( modelReplica.getModel(),
+                                       modelReplica.update( updateCells.getCellValues() ) );
+        } catch ( final Exception e ) {
+            failed( "Dtable update failed: ",
+                    e );
         }
     }
 
@@ -109,28 +114,43 @@ public class Receiver {
 
     private void newColumn( final NewColumn newColumn ) {
         try {
+            modelReplica.setModel( newColumn.getModel() );
+            modelReplica.setFactTypes( newColumn.getFactTypes() );
             getUpdateManager().newColumn( newColumn.getModel(),
                                           newColumn.getHeaderMetaData(),
                                           newColumn.getFactTypes(),
                                           newColumn.getColumnIndex() );
-        } catch ( final BuildException buildException ) {
-            poster.post( new WebWorkerException( "Adding a new column failed: " +
-                                                         buildException.getMessage() ) );
+        } catch ( final Exception e ) {
+            failed( "Adding a new column failed: ",
+                    e );
         }
     }
 
-    private void makeRule( final MakeRule makeRule ) {
+    private void insertRule( final InsertRule insertRule ) {
         try {
-            getUpdateManager().makeRule( makeRule.getModel(),
-                                         makeRule.getHeaderMetaData(),
-                                         makeRule.getFactTypes(),
-                                         makeRule.getIndex() );
-        } catch ( final BuildException buildException ) {
-            poster.post( new WebWorkerException( "Rule Creation failed: " +
-                                                         buildException.getMessage() ) );
+            modelReplica.insertRow( insertRule.getIndex(),
+                                    insertRule.getRow() );
+            getUpdateManager().makeRule( modelReplica.getModel(),
+                                         modelReplica.getHeaderMetaData(),
+                                         modelReplica.getFactTypes(),
+                                         insertRule.getIndex() );
+        } catch ( final Exception e ) {
+            failed( "Rule Creation failed: ",
+                    e );
         }
     }
 
+    /**
+     * A change that was not fully applied leaves the copy of the model and the index out of step with the editor.
+     * The editor is asked to initialize the worker again, like it does after rows or columns are moved.
+     */
+    private void failed( final String message,
+                         final Exception e ) {
+        poster.post( new WebWorkerException( message +
+                                                     e.getMessage() ) );
+        poster.post( new RequestResync() );
+    }
+
     private DTableUpdateManager getUpdateManager() {
         return new DTableUpdateManager( index,
                                         analyzer,
@@ -157,6 +177,8 @@ public class Receiver {
                     } );
 
 
+            modelReplica = new ModelReplica( initialize.getModel(),
+                                             initialize.getFactTypes() );
             analyzer = analyzerBuilder.buildAnalyzer();
             index = analyzerBuilder.getIndex();
             configuration = analyzerBuilder.getConfiguration();
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.verifier.plugin.backend;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.workbench.services.verifier.api.client.configuration.CheckWhiteList;
+import org.drools.workbench.services.verifier.api.client.reporting.Issue;
+import org.drools.workbench.services.verifier.core.checks.base.Check;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ParallelCheckRunnerTest {
+
+    private ForkJoinPool pool;
+    private ParallelCheckRunner runner;
+
+    private AtomicInteger checked;
+
+    @Before
+    public void setUp() throws
+                        Exception {
+        pool = new ForkJoinPool( 4 );
+        runner = new ParallelCheckRunner( pool );
+        checked = new AtomicInteger();
+    }
+
+    @After
+    public void tearDown() throws
+                           Exception {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void runsEveryCheckOnce() throws
+                                     Exception {
+        final Set<Check> checks = new HashSet<>();
+        final List<CountingCheck> countingChecks = new ArrayList<>();
+        for ( int i = 0; i < 1000; i++ ) {
+            final CountingCheck check = new CountingCheck();
+            countingChecks.add( check );
+            checks.add( check );
+        }
+
+        final Thread caller = Thread.currentThread();
+        final List<Thread> statusThreads = new ArrayList<>();
+        final List<Thread> completionThreads = new ArrayList<>();
+
+        runner.run( checks,
+                    ( start, end, totalCheckCount ) -> statusThreads.add( Thread.currentThread() ),
+                    () -> completionThreads.add( Thread.currentThread() ) );
+
+        assertEquals( 1000,
+                      checked.get() );
+        for ( final CountingCheck check : countingChecks ) {
+            assertEquals( 1,
+                          check.runs );
+        }
+
+        assertFalse( statusThreads.isEmpty() );
+        for ( final Thread thread : statusThreads ) {
+            assertSame( caller,
+                        thread );
+        }
+        assertEquals( 1,
+                      completionThreads.size() );
+        assertSame( caller,
+                    completionThreads.get( 0 ) );
+    }
+
+    @Test
+    public void cancelSkipsTheChecksThatHaveNotStarted() throws
+                                                         Exception {
+        pool.shutdownNow();
+        pool = new ForkJoinPool( 1 );
+        runner = new ParallelCheckRunner( pool );
+
+        final Set<Check> checks = new HashSet<>();
+        for ( int i = 0; i < 200; i++ ) {
+            checks.add( new CountingCheck() {
+                @Override
+                public void check() {
+                    super.check();
+                    runner.cancelExistingAnalysis();
+                }
+            } );
+        }
+
+        final AtomicInteger completions = new AtomicInteger();
+        runner.run( checks,
+                    null,
+                    completions::incrementAndGet );
+
+        // One worker, the first check cancels the rest
+        assertEquals( 1,
+                      checked.get() );
+        assertEquals( 1,
+                      completions.get() );
+    }
+
+    @Test
+    public void interruptCancelsTheAnalysis() throws
+                                              Exception {
+        final Set<Check> checks = new HashSet<>();
+        for ( int i = 0; i < 200; i++ ) {
+            checks.add( new CountingCheck() );
+        }
+
+        Thread.currentThread()
+                .interrupt();
+        try {
+            runner.run( checks,
+                        null,
+                        null );
+        } finally {
+            assertTrue( Thread.interrupted() );
+        }
+    }
+
+    private class CountingCheck
+            implements Check {
+
+        private int runs = 0;
+
+        @Override
+        public void check() {
+            runs++;
+            checked.incrementAndGet();
+        }
+
+        @Override
+        public Issue getIssue() {
+            return Issue.EMPTY;
+        }
+
+        @Override
+        public boolean hasIssues() {
+            return false;
+        }
+
+        @Override
+        public boolean isActive( final CheckWhiteList whiteList ) {
+            return true;
+        }
+    }
+}
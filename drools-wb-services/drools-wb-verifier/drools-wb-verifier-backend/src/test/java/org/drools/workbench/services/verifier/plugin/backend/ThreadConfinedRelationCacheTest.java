@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.verifier.plugin.backend;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.workbench.services.verifier.api.client.index.keys.Key;
+import org.drools.workbench.services.verifier.api.client.index.keys.SequentialUUIDKeyProvider;
+import org.drools.workbench.services.verifier.api.client.index.keys.UUIDKey;
+import org.drools.workbench.services.verifier.api.client.maps.util.HasKeys;
+import org.drools.workbench.services.verifier.api.client.relations.IsConflicting;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ThreadConfinedRelationCacheTest {
+
+    private ThreadConfinedRelationCache relationCache;
+
+    private Item item;
+    private Item other;
+
+    @Before
+    public void setUp() throws
+                        Exception {
+        final SequentialUUIDKeyProvider uuidKeyProvider = new SequentialUUIDKeyProvider();
+
+        relationCache = new ThreadConfinedRelationCache();
+        item = new Item( uuidKeyProvider );
+        other = new Item( uuidKeyProvider );
+    }
+
+    @Test
+    public void resolvedOnceWhileStarted() throws
+                                           Exception {
+        relationCache.start();
+
+        assertTrue( relationCache.conflicts( item,
+                                             other ) );
+        assertTrue( relationCache.conflicts( item,
+                                             other ) );
+
+        relationCache.end();
+
+        assertEquals( 1,
+                      item.resolved.get() );
+    }
+
+    @Test
+    public void notCachedForThreadThatHasNotStarted() throws
+                                                      Exception {
+        relationCache.start();
+        assertTrue( relationCache.conflicts( item,
+                                             other ) );
+
+        final Thread otherThread = new Thread( () -> {
+            relationCache.conflicts( item,
+                                     other );
+            relationCache.conflicts( item,
+                                     other );
+        } );
+        otherThread.start();
+        otherThread.join();
+
+        relationCache.end();
+
+        assertEquals( 3,
+                      item.resolved.get() );
+    }
+
+    @Test
+    public void threadsDoNotShareResults() throws
+                                           Exception {
+        relationCache.start();
+        assertTrue( relationCache.conflicts( item,
+                                             other ) );
+
+        final Thread otherThread = new Thread( () -> {
+            relationCache.start();
+            relationCache.conflicts( item,
+                                     other );
+            relationCache.conflicts( item,
+                                     other );
+            relationCache.end();
+        } );
+        otherThread.start();
+        otherThread.join();
+
+        // Still started on this thread
+        assertTrue( relationCache.conflicts( item,
+                                             other ) );
+        relationCache.end();
+
+        assertEquals( 2,
+                      item.resolved.get() );
+    }
+
+    @Test
+    public void forgottenAfterEnd() throws
+                                    Exception {
+        relationCache.start();
+        relationCache.start();
+        assertTrue( relationCache.conflicts( item,
+                                             other ) );
+        relationCache.end();
+        assertTrue( relationCache.conflicts( item,
+                                             other ) );
+        relationCache.end();
+
+        relationCache.start();
+        assertTrue( relationCache.conflicts( item,
+                                             other ) );
+        relationCache.end();
+
+        assertEquals( 2,
+                      item.resolved.get() );
+    }
+
+    private static class Item
+            implements IsConflicting,
+                       HasKeys {
+
+        private final AtomicInteger resolved = new AtomicInteger();
+        private final UUIDKey uuidKey;
+
+        private Item( final SequentialUUIDKeyProvider uuidKeyProvider ) {
+            uuidKey = uuidKeyProvider.get( this );
+        }
+
+        @Override
+        public UUIDKey getUuidKey() {
+            return uuidKey;
+        }
+
+        @Override
+        public Key[] keys() {
+            return new Key[]{
+                    uuidKey
+            };
+        }
+
+        @Override
+        public boolean conflicts( final Object other ) {
+            resolved.incrementAndGet();
+            return other != this;
+        }
+    }
+}
@@ -93,6 +93,25 @@ public class DecisionTableAnalyzerRangeCheckTest
         assertContains( "MissingRangeTitle", analyzerProvider.getAnalysisReport() );
     }
 
+    @Test
+    public void testMissingAgeRangeWithRowsOutsideTheGap() throws Exception {
+        analyzer = analyzerProvider.makeAnalyser()
+                                   .withPersonAgeColumn( "<" )
+                                   .withPersonAgeColumn( ">=" )
+                                   .withPersonApprovedActionSetField()
+                                   .withData( DataBuilderProvider
+                                                      .row( 0, null, true )
+                                                      .row( null, 100, false )
+                                                      .row( null, 200, false )
+                                                      .row( null, 300, false )
+                                                      .end() )
+                                   .buildAnalyzer();
+
+        fireUpAnalyzer();
+
+        assertContains( "MissingRangeTitle", analyzerProvider.getAnalysisReport() );
+    }
+
     @Test
     public void testCompleteAgeRange() throws Exception {
         analyzer = analyzerProvider.makeAnalyser()
@@ -110,6 +129,31 @@ public class DecisionTableAnalyzerRangeCheckTest
         assertDoesNotContain( "MissingRangeTitle", analyzerProvider.getAnalysisReport() );
     }
 
+    @Test
+    public void testAgeRangeUpdate() throws Exception {
+        table52 = analyzerProvider.makeAnalyser()
+                                  .withPersonAgeColumn( "<" )
+                                  .withPersonAgeColumn( ">=" )
+                                  .withPersonApprovedActionSetField()
+                                  .withData( DataBuilderProvider
+                                                     .row( 0, null, true )
+                                                     .row( null, 0, true )
+                                                     .end() )
+                                  .buildTable();
+
+        fireUpAnalyzer();
+
+        assertDoesNotContain( "MissingRangeTitle", analyzerProvider.getAnalysisReport() );
+
+        setValue( 1, 3, 100 );
+
+        assertContains( "MissingRangeTitle", analyzerProvider.getAnalysisReport() );
+
+        setValue( 1, 3, 0 );
+
+        assertDoesNotContain( "MissingRangeTitle", analyzerProvider.getAnalysisReport() );
+    }
+
     @Test
     public void testMissingDepositBetween0And12345() throws Exception {
         analyzer = analyzerProvider.makeAnalyser()
@@ -71,6 +71,31 @@ public class DecisionTableAnalyzerUpdateTest
         assertTrue( analyzerProvider.getAnalysisReport().isEmpty() );
     }
 
+    @Test
+    public void testIssuesOfOtherRowsAreKeptOnRowValueChange() throws Exception {
+
+        table52 = analyzerProvider.makeAnalyser()
+                                  .withPersonAgeColumn( "==" )
+                                  .withPersonApprovedActionSetField()
+                                  .withData( DataBuilderProvider
+                                                     .row( 1, true )
+                                                     .row( 1, true )
+                                                     .row( 2, true )
+                                                     .end() )
+                                  .buildTable();
+
+        fireUpAnalyzer();
+
+        assertContains( "RedundantRows", analyzerProvider.getAnalysisReport(), 1 );
+        assertContains( "RedundantRows", analyzerProvider.getAnalysisReport(), 2 );
+
+        setValue( 2, 2, 3 );
+
+        assertContains( "RedundantRows", analyzerProvider.getAnalysisReport(), 1 );
+        assertContains( "RedundantRows", analyzerProvider.getAnalysisReport(), 2 );
+        assertDoesNotContain( "RedundantRows", analyzerProvider.getAnalysisReport(), 3 );
+    }
+
     @Test
     public void testRemoveRow() throws Exception {
         table52 = analyzerProvider.makeAnalyser()
@@ -227,6 +252,32 @@ public class DecisionTableAnalyzerUpdateTest
 
     }
 
+    @Test
+    public void testInsertRowInTheMiddle() throws Exception {
+        table52 = analyzerProvider.makeAnalyser()
+                                  .withPersonAgeColumn( "==" )
+                                  .withPersonAgeColumn( "==" )
+                                  .withPersonApprovedActionSetField()
+                                  .withData( DataBuilderProvider
+                                                     .row( 1, 1, true )
+                                                     .row( 0, 1, true )
+                                                     .row( 2, 2, true )
+                                                     .end() )
+                                  .buildTable();
+
+        fireUpAnalyzer();
+
+        assertContains( "ImpossibleMatch", analyzerProvider.getAnalysisReport(), 2 );
+
+        insertRow( 1,
+                   DataType.DataTypes.NUMERIC,
+                   DataType.DataTypes.NUMERIC,
+                   DataType.DataTypes.BOOLEAN );
+
+        assertContains( "ImpossibleMatch", analyzerProvider.getAnalysisReport(), 3 );
+        assertDoesNotContain( "ImpossibleMatch", analyzerProvider.getAnalysisReport(), 2 );
+    }
+
     @Test
     public void testAppendRow() throws Exception {
         table52 = analyzerProvider.makeAnalyser()
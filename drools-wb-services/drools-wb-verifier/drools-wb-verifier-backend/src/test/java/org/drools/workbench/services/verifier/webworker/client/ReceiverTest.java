@@ -15,12 +15,25 @@
  */
 package org.drools.workbench.services.verifier.webworker.client;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.services.verifier.api.client.Status;
 import org.drools.workbench.services.verifier.api.client.configuration.RunnerType;
 import org.drools.workbench.services.verifier.api.client.reporting.Issues;
+import org.drools.workbench.services.verifier.plugin.client.Coordinate;
+import org.drools.workbench.services.verifier.plugin.client.api.CellValue;
+import org.drools.workbench.services.verifier.plugin.client.api.DeleteColumns;
 import org.drools.workbench.services.verifier.plugin.client.api.Initialize;
+import org.drools.workbench.services.verifier.plugin.client.api.InsertRule;
+import org.drools.workbench.services.verifier.plugin.client.api.RemoveRule;
+import org.drools.workbench.services.verifier.plugin.client.api.RequestResync;
+import org.drools.workbench.services.verifier.plugin.client.api.UpdateCells;
+import org.drools.workbench.services.verifier.plugin.client.api.WebWorkerException;
 import org.drools.workbench.services.verifier.plugin.client.builders.ModelMetaDataEnhancer;
 import org.drools.workbench.services.verifier.webworker.client.testutil.AnalyzerProvider;
 import org.junit.Before;
@@ -30,6 +43,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 
+import static org.drools.workbench.services.verifier.webworker.client.testutil.TestUtil.*;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 @RunWith(GwtMockitoTestRunner.class)
@@ -79,4 +94,176 @@ public class ReceiverTest {
 
         verify( poster ).post( issuesArgumentCaptor.capture() );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testUpdateCells() throws
+                                  Exception {
+
+        final GuidedDecisionTable52 table1 = init( DataBuilderProvider
+                                                           .row( 1,
+                                                                 true )
+                                                           .row( 2,
+                                                                 true )
+                                                           .end() );
+
+        receiver.received( new UpdateCells( Collections.singletonList( new CellValue( new Coordinate( 1,
+                                                                                                      2 ),
+                                                                                      new DTCellValue52( 1 ) ) ) ) );
+
+        assertEquals( 1,
+                      table1.getData()
+                              .get( 1 )
+                              .get( 2 )
+                              .getNumericValue()
+                              .intValue() );
+        assertContains( "RedundantRows",
+                        getLatestIssues().getSet() );
+    }
+
+    @Test
+    public void testInsertRule() throws
+                                 Exception {
+
+        final GuidedDecisionTable52 table1 = init( DataBuilderProvider
+                                                           .row( 1,
+                                                                 true )
+                                                           .end() );
+
+        final List<DTCellValue52> row = new ArrayList<>();
+        row.add( new DTCellValue52( 2 ) );
+        row.add( new DTCellValue52( "" ) );
+        row.add( new DTCellValue52( 1 ) );
+        row.add( new DTCellValue52( true ) );
+
+        receiver.received( new InsertRule( 0,
+                                           row ) );
+
+        assertEquals( 2,
+                      table1.getData()
+                              .size() );
+        assertEquals( row,
+                      table1.getData()
+                              .get( 0 ) );
+        assertContains( "RedundantRows",
+                        getLatestIssues().getSet() );
+    }
+
+    @Test
+    public void testRemoveRuleThenUpdateCells() throws
+                                                Exception {
+
+        final GuidedDecisionTable52 table1 = init( DataBuilderProvider
+                                                           .row( 1,
+                                                                 true )
+                                                           .row( 3,
+                                                                 true )
+                                                           .row( 2,
+                                                                 true )
+                                                           .end() );
+
+        receiver.received( new RemoveRule( 1 ) );
+
+        assertEquals( 2,
+                      table1.getData()
+                              .size() );
+
+        receiver.received( new UpdateCells( Collections.singletonList( new CellValue( new Coordinate( 1,
+                                                                                                      2 ),
+                                                                                      new DTCellValue52( 1 ) ) ) ) );
+
+        assertContains( "RedundantRows",
+                        getLatestIssues().getSet() );
+    }
+
+    @Test
+    public void testDeleteColumnsThenUpdateCells() throws
+                                                   Exception {
+
+        final GuidedDecisionTable52 table1 = init( DataBuilderProvider
+                                                           .row( 1,
+                                                                 true )
+                                                           .row( 2,
+                                                                 true )
+                                                           .end() );
+
+        receiver.received( new DeleteColumns( 3,
+                                              1 ) );
+
+        assertTrue( table1.getActionCols()
+                            .isEmpty() );
+        assertEquals( 3,
+                      table1.getData()
+                              .get( 0 )
+                              .size() );
+        assertEquals( 3,
+                      table1.getData()
+                              .get( 1 )
+                              .size() );
+
+        receiver.received( new UpdateCells( Collections.singletonList( new CellValue( new Coordinate( 1,
+                                                                                                      2 ),
+                                                                                      new DTCellValue52( 1 ) ) ) ) );
+
+        assertContains( "RedundantRows",
+                        getLatestIssues().getSet() );
+    }
+
+    @Test
+    public void testFailedInsertRuleRequestsResync() throws
+                                                     Exception {
+
+        init( DataBuilderProvider
+                      .row( 1,
+                            true )
+                      .end() );
+
+        final List<DTCellValue52> row = new ArrayList<>();
+        row.add( new DTCellValue52( 2 ) );
+
+        receiver.received( new InsertRule( 5,
+                                           row ) );
+
+        verify( poster ).post( any( WebWorkerException.class ) );
+        verify( poster ).post( any( RequestResync.class ) );
+    }
+
+    @Test
+    public void testFailedUpdateCellsRequestsResync() throws
+                                                      Exception {
+
+        init( DataBuilderProvider
+                      .row( 1,
+                            true )
+                      .end() );
+
+        receiver.received( new UpdateCells( Collections.singletonList( new CellValue( new Coordinate( 5,
+                                                                                                      2 ),
+                                                                                      new DTCellValue52( 1 ) ) ) ) );
+
+        verify( poster ).post( any( WebWorkerException.class ) );
+        verify( poster ).post( any( RequestResync.class ) );
+    }
+
+    private GuidedDecisionTable52 init( final Object[][] data ) {
+        final GuidedDecisionTable52 table1 = analyzerProvider.makeAnalyser()
+                .withPersonAgeColumn( "==" )
+                .withPersonApprovedActionSetField()
+                .withData( data )
+                .buildTable();
+
+        receiver.received( new Initialize( "testUUID",
+                                           table1,
+                                           new ModelMetaDataEnhancer( table1 ).getHeaderMetaData(),
+                                           analyzerProvider.getFactTypes(),
+                                           "dd-MMM-yyyy" ) );
+        return table1;
+    }
+
+    private Issues getLatestIssues() {
+        verify( poster,
+                atLeastOnce() ).post( issuesArgumentCaptor.capture() );
+
+        final List<Issues> allIssues = issuesArgumentCaptor.getAllValues();
+        return allIssues.get( allIssues.size() - 1 );
+    }
+}
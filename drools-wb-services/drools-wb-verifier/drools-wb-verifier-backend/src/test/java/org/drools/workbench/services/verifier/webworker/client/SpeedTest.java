@@ -17,22 +17,31 @@
 package org.drools.workbench.services.verifier.webworker.client;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.google.gwt.i18n.client.DateTimeFormat;
 import com.google.gwtmockito.GwtMock;
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.services.verifier.api.client.configuration.RunnerType;
 import org.drools.workbench.services.verifier.api.client.resources.i18n.AnalysisConstants;
 import org.drools.workbench.services.verifier.core.main.Analyzer;
 import org.drools.workbench.services.verifier.plugin.client.Coordinate;
+import org.drools.workbench.services.verifier.plugin.client.api.CellValue;
+import org.drools.workbench.services.verifier.plugin.client.api.Initialize;
+import org.drools.workbench.services.verifier.plugin.client.api.UpdateCells;
+import org.drools.workbench.services.verifier.plugin.client.builders.ModelMetaDataEnhancer;
 import org.drools.workbench.services.verifier.webworker.client.testutil.AnalyzerProvider;
+import org.jboss.errai.marshalling.server.ServerMarshalling;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import static org.drools.workbench.services.verifier.webworker.client.testutil.TestUtil.*;
+import static org.mockito.Mockito.*;
 
 @RunWith(GwtMockitoTestRunner.class)
 @Ignore("Just for profiling")
@@ -183,5 +192,160 @@ public class SpeedTest {
                         analyzerProvider.getAnalysisReport() );
     }
 
+    @Test
+    public void largeTables() throws
+                              Exception {
+        for ( final int rows : new int[]{1000, 5000, 20000} ) {
+            analyzeLargeTable( rows );
+        }
+    }
+
+    private void analyzeLargeTable( final int rows ) throws
+                                                     Exception {
+        final GuidedDecisionTable52 table52 = makeLargeTable( rows );
+
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        final long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        final long baseline = System.currentTimeMillis();
+
+        final Analyzer analyzer = analyzerProvider.makeAnalyser( table52 );
+
+        final long indexed = System.currentTimeMillis();
+
+        analyzer.analyze();
+
+        final long validated = System.currentTimeMillis();
+        final long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        System.out.println( rows + " rows: indexing " + ( indexed - baseline ) + " ms, "
+                                    + "validation " + ( validated - indexed ) + " ms, "
+                                    + "heap " + ( ( heapAfter - heapBefore ) / ( 1024 * 1024 ) ) + " MB" );
+    }
+
+    /**
+     * Index build and pair checks of a table with numeric ranges only, the case the typed index values are for.
+     */
+    @Test
+    public void numericTable() throws
+                               Exception {
+        final int rows = 5000;
+
+        final DataBuilderProvider.DataBuilder builder = DataBuilderProvider
+                .row( 0,
+                      10,
+                      true );
+        for ( int i = 1; i < rows; i++ ) {
+            builder
+                    .row( i * 10,
+                          i * 10 + 10,
+                          true );
+        }
+
+        final GuidedDecisionTable52 table52 = analyzerProvider.makeAnalyser()
+                .withPersonAgeColumn( ">=" )
+                .withPersonAgeColumn( "<" )
+                .withPersonApprovedActionSetField()
+                .withData( builder.end() )
+                .buildTable();
+
+        final long baseline = System.currentTimeMillis();
+
+        final Analyzer analyzer = analyzerProvider.makeAnalyser( table52 );
+
+        final long indexed = System.currentTimeMillis();
+
+        analyzer.analyze();
+
+        final long validated = System.currentTimeMillis();
+
+        System.out.println( rows + " numeric rows: indexing " + ( indexed - baseline ) + " ms, "
+                                    + "pair checks " + ( validated - indexed ) + " ms" );
+    }
+
+    /**
+     * Compares the full model update message against the cell delta message for a single cell edit.
+     */
+    @Test
+    public void cellUpdatePayload() throws
+                                    Exception {
+        for ( final int rows : new int[]{1000, 5000, 20000} ) {
+            measureCellUpdate( rows );
+        }
+    }
+
+    private void measureCellUpdate( final int rows ) throws
+                                                     Exception {
+        final GuidedDecisionTable52 table52 = makeLargeTable( rows );
+
+        final Receiver receiver = new Receiver( mock( Poster.class ),
+                                                RunnerType.JAVA );
+        receiver.received( new Initialize( "speedTest",
+                                           table52,
+                                           new ModelMetaDataEnhancer( table52 ).getHeaderMetaData(),
+                                           analyzerProvider.getFactTypes(),
+                                           "dd-MMM-yyyy" ) );
+
+        // Age column of the row in the middle
+        final Coordinate coordinate = new Coordinate( rows / 2,
+                                                      3 );
+        final DTCellValue52 value = table52.getData()
+                .get( coordinate.getRow() )
+                .get( coordinate.getCol() );
+
+        // Before the deltas every edit sent the whole model
+        final long modelMarshalling = System.nanoTime();
+        final int modelSize = payloadSize( table52 );
+        final long modelMarshalled = System.nanoTime();
+
+        value.setNumericValue( -2 );
+        final UpdateCells updateCells = new UpdateCells( Collections.singletonList( new CellValue( coordinate,
+                                                                                                  value ) ) );
+        final long cellsMarshalling = System.nanoTime();
+        final int cellsSize = payloadSize( updateCells );
+        final long cellsReceived = System.nanoTime();
+        receiver.received( updateCells );
+        final long cellsDone = System.nanoTime();
+
+        System.out.println( rows + " rows: whole model " + modelSize + " chars, marshalling " + toMillis( modelMarshalled - modelMarshalling ) + " ms; "
+                                    + "UpdateCells " + cellsSize + " chars, marshalling " + toMillis( cellsReceived - cellsMarshalling ) + " ms, "
+                                    + "receiving " + toMillis( cellsDone - cellsReceived ) + " ms" );
+    }
+
+    /**
+     * @return Length of the JSON sent to the web worker, -1 if the marshalling is not available.
+     */
+    private int payloadSize( final Object message ) {
+        try {
+            return ServerMarshalling.toJSON( message )
+                    .length();
+        } catch ( final Exception e ) {
+            return -1;
+        }
+    }
+
+    private long toMillis( final long nanos ) {
+        return nanos / 1000000;
+    }
+
+    private GuidedDecisionTable52 makeLargeTable( final int rows ) {
+        final DataBuilderProvider.DataBuilder builder = DataBuilderProvider
+                .row( "name-1",
+                      -1,
+                      true );
+        for ( int i = 0; i < rows - 1; i++ ) {
+            builder
+                    .row( "name-" + ( i % 10 ),
+                          i,
+                          true );
+        }
+
+        return analyzerProvider.makeAnalyser()
+                .withPersonNameColumn( "==" )
+                .withPersonAgeColumn( "==" )
+                .withPersonApprovedActionSetField()
+                .withData( builder.end() )
+                .buildTable();
+    }
 
-}
\ No newline at end of file
+}
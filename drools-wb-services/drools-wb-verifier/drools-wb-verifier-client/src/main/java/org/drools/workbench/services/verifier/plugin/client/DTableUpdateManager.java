@@ -34,4 +34,9 @@ public interface DTableUpdateManager {
                    final int index ) ;
 
     void removeRule( final Integer rowDeleted );
+
+    /**
+     * Sends the whole model again, for changes that have no delta of their own, like moving rows or columns.
+     */
+    void resync( final GuidedDecisionTable52 model );
 }
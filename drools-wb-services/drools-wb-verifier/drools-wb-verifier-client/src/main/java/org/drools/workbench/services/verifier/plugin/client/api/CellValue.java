@@ -1,5 +1,5 @@
 /*
- * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not
  * use this file except in compliance with the License. You may obtain a copy of
@@ -15,30 +15,31 @@
  */
 package org.drools.workbench.services.verifier.plugin.client.api;
 
-import java.util.List;
-
-import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.services.verifier.plugin.client.Coordinate;
 import org.jboss.errai.common.client.api.annotations.MapsTo;
 import org.jboss.errai.common.client.api.annotations.Portable;
 
+/**
+ * New value of one cell.
+ */
 @Portable
-public class Update {
+public class CellValue {
 
-    private final GuidedDecisionTable52 model;
-    private final List<Coordinate> coordinates;
+    private final Coordinate coordinate;
+    private final DTCellValue52 value;
 
-    public Update( @MapsTo("model") final GuidedDecisionTable52 model,
-                   @MapsTo("coordinates") final List<Coordinate> coordinates ) {
-        this.model = model;
-        this.coordinates = coordinates;
+    public CellValue( @MapsTo("coordinate") final Coordinate coordinate,
+                      @MapsTo("value") final DTCellValue52 value ) {
+        this.coordinate = coordinate;
+        this.value = value;
     }
 
-    public GuidedDecisionTable52 getModel() {
-        return model;
+    public Coordinate getCoordinate() {
+        return coordinate;
     }
 
-    public List<Coordinate> getCoordinates() {
-        return coordinates;
+    public DTCellValue52 getValue() {
+        return value;
     }
 }
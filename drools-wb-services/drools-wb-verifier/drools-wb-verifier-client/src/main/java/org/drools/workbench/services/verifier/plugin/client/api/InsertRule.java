@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.drools.workbench.services.verifier.plugin.client.api;
+
+import java.util.List;
+
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
+import org.jboss.errai.common.client.api.annotations.MapsTo;
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * New row. This carries only the cells of the row,
+ * the web worker inserts them to its own copy of the model.
+ */
+@Portable
+public class InsertRule {
+
+    private final int index;
+    private final List<DTCellValue52> row;
+
+    public InsertRule( @MapsTo("index") final int index,
+                       @MapsTo("row") final List<DTCellValue52> row ) {
+        this.index = index;
+        this.row = row;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<DTCellValue52> getRow() {
+        return row;
+    }
+}
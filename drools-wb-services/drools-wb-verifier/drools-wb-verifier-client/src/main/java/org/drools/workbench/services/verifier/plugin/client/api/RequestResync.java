@@ -0,0 +1,30 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.drools.workbench.services.verifier.plugin.client.api;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Sent by the web worker when a change could not be applied to its copy of the model.
+ * The copy can no longer be trusted, so the worker asks to be initialized again with the current model.
+ */
+@Portable
+public class RequestResync {
+
+    public RequestResync( ) {
+    }
+
+}
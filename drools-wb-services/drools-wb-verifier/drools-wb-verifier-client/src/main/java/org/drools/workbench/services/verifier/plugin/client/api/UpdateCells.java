@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.drools.workbench.services.verifier.plugin.client.api;
+
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.MapsTo;
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Cell edits. This carries only the changed cells,
+ * the web worker applies them to its own copy of the model.
+ */
+@Portable
+public class UpdateCells {
+
+    private final List<CellValue> cellValues;
+
+    public UpdateCells( @MapsTo("cellValues") final List<CellValue> cellValues ) {
+        this.cellValues = cellValues;
+    }
+
+    public List<CellValue> getCellValues() {
+        return cellValues;
+    }
+}
@@ -18,7 +18,10 @@ package org.drools.workbench.services.verifier.core.cache;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.drools.workbench.services.verifier.api.client.configuration.AnalyzerConfiguration;
@@ -38,6 +41,11 @@ import org.uberfire.commons.validation.PortablePreconditions;
 public class RuleInspectorCache {
 
     private final Map<Rule, RuleInspector> ruleInspectors = new HashMap<>();
+    /**
+     * Rule inspectors in row order. Rows are inserted and removed like the index shifts the row numbers,
+     * so the position in the list is the row number.
+     */
+    private final List<RuleInspector> ruleInspectorsByRow = new ArrayList<>();
     protected final Index index;
     private final CheckStorage checkStorage;
     private final AnalyzerConfiguration configuration;
@@ -58,6 +66,7 @@ public class RuleInspectorCache {
         }
 
         ruleInspectors.clear();
+        ruleInspectorsByRow.clear();
 
         for ( final Rule rule : index.getRules()
                 .where( Rule.uuid()
@@ -69,6 +78,17 @@ public class RuleInspectorCache {
                                     this,
                                     configuration ) );
         }
+
+        ruleInspectorsByRow.addAll( ruleInspectors.values() );
+        Collections.sort( ruleInspectorsByRow,
+                          new Comparator<RuleInspector>() {
+                              @Override
+                              public int compare( final RuleInspector a,
+                                                  final RuleInspector b ) {
+                                  return Integer.compare( a.getRowIndex(),
+                                                          b.getRowIndex() );
+                              }
+                          } );
     }
 
     public void newColumn( final Column column ) {
@@ -101,6 +121,14 @@ public class RuleInspectorCache {
 
         final RuleInspector remove = ruleInspectors.remove( rule );
 
+        if ( remove != null ) {
+            if ( getRuleInspectorByRow( rowNumber ) == remove ) {
+                ruleInspectorsByRow.remove( rowNumber );
+            } else {
+                ruleInspectorsByRow.remove( remove );
+            }
+        }
+
         index.getRules()
                 .remove( rule );
 
@@ -108,6 +136,11 @@ public class RuleInspectorCache {
     }
 
     public Rule getRule( final int rowNumber ) {
+        final RuleInspector ruleInspector = getRuleInspectorByRow( rowNumber );
+        if ( ruleInspector != null ) {
+            return ruleInspector.getRule();
+        }
+
         return index.getRules()
                 .where( Rule.index()
                                 .is( rowNumber ) )
@@ -115,6 +148,19 @@ public class RuleInspectorCache {
                 .first();
     }
 
+    /**
+     * @return Rule inspector from the row ordered list, null if the list does not have the row in place.
+     */
+    private RuleInspector getRuleInspectorByRow( final int rowNumber ) {
+        if ( rowNumber >= 0 && rowNumber < ruleInspectorsByRow.size() ) {
+            final RuleInspector ruleInspector = ruleInspectorsByRow.get( rowNumber );
+            if ( ruleInspector.getRowIndex() == rowNumber ) {
+                return ruleInspector;
+            }
+        }
+        return null;
+    }
+
     public void deleteColumns( final int firstColumnIndex ) {
         final Collection<Column> all = index.getColumns()
                 .where( Column.index()
@@ -137,10 +183,11 @@ public class RuleInspectorCache {
                         .select();
 
 
+        final Collection<Field> fields = fieldSelector.all();
         final ArrayList<Action> actions = new ArrayList<Action>();
         final ArrayList<Condition> conditions = new ArrayList<Condition>();
 
-        for ( final Field field : fieldSelector.all() ) {
+        for ( final Field field : fields ) {
             for ( final Column column : all ) {
                 final Collection<Action> all1 = field.getActions()
                         .where( Action.columnUUID()
@@ -157,24 +204,75 @@ public class RuleInspectorCache {
             }
         }
 
-        for ( final Action action : actions ) {
-            action.getUuidKey()
-                    .retract();
-        }
+        final Collection<Rule> rules = index.getRules()
+                .where( Rule.uuid()
+                                .any() )
+                .select()
+                .all();
 
-        for ( final Condition condition : conditions ) {
-            condition.getUuidKey()
-                    .retract();
-        }
+        // Each retract changes the maps of the rule, the field and the columns.
+        // The batch notifies the listeners of each map once, after all of them are removed.
+        startBatch( rules,
+                    fields );
+        try {
+            for ( final Action action : actions ) {
+                action.getUuidKey()
+                        .retract();
+            }
 
-        for ( final Column column : all ) {
-            column.getUuidKey()
-                    .retract();
+            for ( final Condition condition : conditions ) {
+                condition.getUuidKey()
+                        .retract();
+            }
+
+            for ( final Column column : all ) {
+                column.getUuidKey()
+                        .retract();
+            }
+        } finally {
+            endBatch( rules,
+                      fields );
         }
 
         reset();
     }
 
+    private void startBatch( final Collection<Rule> rules,
+                             final Collection<Field> fields ) {
+        index.getColumns()
+                .startBatch();
+        for ( final Rule rule : rules ) {
+            rule.getConditions()
+                    .startBatch();
+            rule.getActions()
+                    .startBatch();
+        }
+        for ( final Field field : fields ) {
+            field.getConditions()
+                    .startBatch();
+            field.getActions()
+                    .startBatch();
+        }
+    }
+
+    private void endBatch( final Collection<Rule> rules,
+                           final Collection<Field> fields ) {
+        for ( final Field field : fields ) {
+            field.getConditions()
+                    .endBatch();
+            field.getActions()
+                    .endBatch();
+        }
+        for ( final Rule rule : rules ) {
+            rule.getConditions()
+                    .endBatch();
+            rule.getActions()
+                    .endBatch();
+        }
+        index.getColumns()
+                .endBatch();
+    }
+
     public RuleInspector addRule( final Rule rule ) {
         this.index.getRules()
                 .add( rule );
@@ -185,12 +283,21 @@ public class RuleInspectorCache {
                                                                configuration );
 
         add( ruleInspector );
+        ruleInspectorsByRow.add( Math.max( 0,
+                                           Math.min( rule.getIndex(),
+                                                     ruleInspectorsByRow.size() ) ),
+                                 ruleInspector );
 
         return ruleInspector;
     }
 
     public RuleInspector getRuleInspector( final int row ) {
-        return ruleInspectors.get( getRule( (int) row ) );
+        final RuleInspector ruleInspector = getRuleInspectorByRow( row );
+        if ( ruleInspector != null ) {
+            return ruleInspector;
+        }
+
+        return ruleInspectors.get( getRule( row ) );
     }
 
     public AnalyzerConfiguration getConfiguration() {
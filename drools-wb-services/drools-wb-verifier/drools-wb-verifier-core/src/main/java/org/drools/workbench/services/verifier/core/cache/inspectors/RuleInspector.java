@@ -198,14 +198,14 @@ public class RuleInspector
         }
     }
 
-    public InspectorList<ConditionsInspectorMultiMap> getConditionsInspectors() {
+    public synchronized InspectorList<ConditionsInspectorMultiMap> getConditionsInspectors() {
         if ( conditionsInspectors == null ) {
             makeConditionsInspectors();
         }
         return conditionsInspectors;
     }
 
-    public InspectorList<ActionsInspectorMultiMap> getActionsInspectors() {
+    public synchronized InspectorList<ActionsInspectorMultiMap> getActionsInspectors() {
         if ( actionsInspectors == null ) {
             makeActionsInspectors();
         }
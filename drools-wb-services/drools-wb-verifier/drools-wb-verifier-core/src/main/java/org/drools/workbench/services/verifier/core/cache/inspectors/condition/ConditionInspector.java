@@ -27,6 +27,7 @@ import org.drools.workbench.services.verifier.api.client.configuration.AnalyzerC
 import org.drools.workbench.services.verifier.api.client.index.Condition;
 import org.drools.workbench.services.verifier.api.client.index.keys.Key;
 import org.drools.workbench.services.verifier.api.client.index.keys.UUIDKey;
+import org.drools.workbench.services.verifier.api.client.index.keys.Value;
 import org.drools.workbench.services.verifier.api.client.index.keys.Values;
 
 public abstract class ConditionInspector<T extends Comparable<T>>
@@ -52,14 +53,7 @@ public abstract class ConditionInspector<T extends Comparable<T>>
     }
 
     public T getValue() {
-        if ( condition.getValues()
-                .isEmpty() ) {
-            return null;
-        } else {
-            return (T) condition.getValues()
-                    .iterator()
-                    .next();
-        }
+        return condition.getFirstValue();
     }
 
     protected boolean valueIsGreaterThanOrEqualTo( final Comparable<T> otherValue ) {
@@ -71,11 +65,13 @@ public abstract class ConditionInspector<T extends Comparable<T>>
     }
 
     protected boolean valueIsGreaterThan( final Comparable<T> otherValue ) {
-        return otherValue.compareTo( getValue() ) > 0;
+        return Value.compare( otherValue,
+                              getValue() ) > 0;
     }
 
     protected boolean valueIsLessThan( final Comparable<T> otherValue ) {
-        return otherValue.compareTo( getValue() ) < 0;
+        return Value.compare( otherValue,
+                              getValue() ) < 0;
     }
 
     protected boolean valueIsEqualTo( final Comparable<T> otherValue ) {
@@ -89,7 +85,8 @@ public abstract class ConditionInspector<T extends Comparable<T>>
             if ( getValue() == null ) {
                 return false;
             } else {
-                return otherValue.compareTo( getValue() ) == 0;
+                return Value.compare( otherValue,
+                                      getValue() ) == 0;
             }
         }
     }
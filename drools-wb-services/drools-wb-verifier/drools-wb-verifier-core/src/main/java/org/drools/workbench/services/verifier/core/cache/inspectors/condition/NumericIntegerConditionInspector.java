@@ -37,13 +37,13 @@ public class NumericIntegerConditionInspector
                 if ( (anotherPoint.getOperator().equals( Operator.LESS_THAN ) && operator.equals( Operator.LESS_OR_EQUAL )) ) {
                     return covers( anotherPoint.getValue() - 1 );
                 } else if ( (anotherPoint.getOperator().equals( Operator.GREATER_OR_EQUAL ) && operator.equals( Operator.GREATER_THAN )) ) {
-                    if ( getValue().equals( anotherPoint.getValue() - 1 ) ) {
+                    if ( getValue() == anotherPoint.getValue() - 1 ) {
                         return true;
                     }
                 } else if ( (anotherPoint.getOperator().equals( Operator.GREATER_THAN ) && operator.equals( Operator.GREATER_OR_EQUAL )) ) {
                     return covers( anotherPoint.getValue() + 1 );
                 } else if ( (anotherPoint.getOperator().equals( Operator.LESS_OR_EQUAL ) && operator.equals( Operator.LESS_THAN )) ) {
-                    if ( getValue().equals( anotherPoint.getValue() + 1 ) ) {
+                    if ( getValue() == anotherPoint.getValue() + 1 ) {
                         return true;
                     }
                 }
@@ -22,10 +22,8 @@ import org.drools.workbench.services.verifier.api.client.configuration.AnalyzerC
 import org.drools.workbench.services.verifier.api.client.index.DataType;
 import org.drools.workbench.services.verifier.api.client.index.FieldCondition;
 import org.drools.workbench.services.verifier.api.client.index.ObjectField;
-import org.drools.workbench.services.verifier.api.client.index.Rule;
 import org.drools.workbench.services.verifier.api.client.maps.InspectorList;
 import org.drools.workbench.services.verifier.api.client.maps.LeafInspectorList;
-import org.drools.workbench.services.verifier.api.client.relations.SubsumptionResolver;
 import org.drools.workbench.services.verifier.api.client.reporting.CheckType;
 import org.drools.workbench.services.verifier.api.client.reporting.Issue;
 import org.drools.workbench.services.verifier.api.client.reporting.Severity;
@@ -36,14 +34,30 @@ import org.drools.workbench.services.verifier.core.cache.inspectors.condition.Co
 import org.drools.workbench.services.verifier.core.cache.inspectors.condition.ConditionInspector;
 import org.drools.workbench.services.verifier.core.cache.inspectors.condition.ConditionsInspectorMultiMap;
 import org.drools.workbench.services.verifier.core.cache.inspectors.condition.NumericIntegerConditionInspector;
-import org.drools.workbench.services.verifier.core.checks.base.CheckFactory;
-import org.drools.workbench.services.verifier.core.checks.base.CheckStorage;
 import org.drools.workbench.services.verifier.core.checks.base.OneToManyCheck;
 
+/**
+ * Reports a row when the values outside of the ranges of its numeric and boolean conditions are not covered by
+ * any other row.
+ * <br>
+ * <br>
+ * The inverted conditions of the row are kept until the conditions of the row change. The row that covered them
+ * the last time is tried first, so rechecking a row in a table without gaps usually takes a single comparison.
+ * When the row has a single numeric condition, the other rows whose condition on the same field does not overlap
+ * the inverted range are skipped without comparing the whole rows.
+ */
 public class RangeCheck
         extends OneToManyCheck {
 
-    private InspectorList<RuleInspector> otherRows;
+    private InspectorList<ConditionsInspectorMultiMap> conditionsInspectors;
+    private InspectorList<ConditionsInspectorMultiMap> invertedConditionsInspectors;
+    private boolean containsInvertedItems = false;
+
+    //Set when the row has a single numeric condition
+    private ObjectField rangeField;
+    private ConditionInspector invertedRange;
+
+    private RuleInspector lastCoveringRow;
 
     public RangeCheck( final RuleInspector ruleInspector,
                        final AnalyzerConfiguration configuration ) {
@@ -64,15 +78,14 @@ public class RangeCheck
     @Override
     public void check() {
 
-        otherRows = getOtherRows();
+        final InspectorList<RuleInspector> otherRows = getOtherRows();
 
         if ( otherRows.size() == 0 ) {
             hasIssues = false;
         } else {
-            // For some reason these clones always turn out to be evil.
-            final RuleInspectorClone evilClone = makeClone();
+            resolveInvertedConditions();
 
-            if ( evilClone.containsInvertedItems && !isSubsumedByOtherRows( evilClone ) ) {
+            if ( containsInvertedItems && !isCoveredByOtherRows( otherRows ) ) {
                 hasIssues = true;
             } else {
                 hasIssues = false;
@@ -80,15 +93,162 @@ public class RangeCheck
         }
     }
 
-    private boolean isSubsumedByOtherRows( final RuleInspectorClone evilClone ) {
-        if ( otherRows.isEmpty() ) {
-            // Currently not reporting this issue if there is only one row.
+    private boolean isCoveredByOtherRows( final InspectorList<RuleInspector> otherRows ) {
+        if ( lastCoveringRow != null
+                && otherRows.contains( lastCoveringRow )
+                && covers( lastCoveringRow ) ) {
+            return true;
+        }
+
+        for ( final RuleInspector other : otherRows ) {
+            if ( other != lastCoveringRow && covers( other ) ) {
+                lastCoveringRow = other;
+                return true;
+            }
+        }
+
+        lastCoveringRow = null;
+        return false;
+    }
+
+    /**
+     * @return true if the other row matches some of the values the conditions of this row do not match.
+     */
+    private boolean covers( final RuleInspector other ) {
+        return overlapsInvertedRange( other )
+                && ruleInspector.getBrlConditionsInspectors()
+                .subsumes( other.getBrlConditionsInspectors() )
+                && invertedConditionsInspectors.subsumes( other.getConditionsInspectors() );
+    }
+
+    /**
+     * The inverted conditions can not subsume the conditions of a row they conflict with. For a single numeric condition
+     * the conflict is decided by the condition of the other row on the same field, when that is its only one.
+     * @return false if the other row can not cover this row.
+     */
+    private boolean overlapsInvertedRange( final RuleInspector other ) {
+        if ( invertedRange == null ) {
+            return true;
+        }
+
+        final InspectorList<ConditionsInspectorMultiMap> otherConditions = other.getConditionsInspectors();
+        if ( otherConditions.size() != 1 ) {
+            return true;
+        }
+
+        final LeafInspectorList<ConditionInspector> otherRange = otherConditions.get( 0 )
+                .get( rangeField );
+        if ( otherRange == null || otherRange.size() != 1 ) {
             return true;
-        } else {
-            return !SubsumptionResolver.isSubsumedByAnObjectInThisList( otherRows,
-                                                                        evilClone )
-                    .foundIssue();
         }
+
+        return !invertedRange.conflicts( otherRange.get( 0 ) );
+    }
+
+    /**
+     * The rule inspector makes a new list of conditions inspectors whenever a condition of the row changes,
+     * so the inverted conditions only need to be made again when the list is not the same.
+     */
+    private void resolveInvertedConditions() {
+        final InspectorList<ConditionsInspectorMultiMap> current = ruleInspector.getConditionsInspectors();
+
+        if ( current == conditionsInspectors ) {
+            return;
+        }
+
+        conditionsInspectors = current;
+        containsInvertedItems = false;
+        invertedConditionsInspectors = new InspectorList<>( ruleInspector.getCache()
+                                                                    .getConfiguration() );
+
+        for ( final ConditionsInspectorMultiMap original : current ) {
+
+            final ConditionsInspectorMultiMap inverted = new ConditionsInspectorMultiMap( ruleInspector.getCache()
+                                                                                                  .getConfiguration() );
+
+            for ( final ObjectField field : original.keySet() ) {
+
+                LeafInspectorList<ConditionInspector> originalConditionInspectors = original.get( field );
+                if ( originalConditionInspectors.isEmpty() ) {
+                    inverted.putAllValues( field,
+                                           originalConditionInspectors );
+                } else {
+                    for ( final ConditionInspector originalInspector : originalConditionInspectors ) {
+                        inverted.put( field,
+                                      resolveInspector( originalInspector ) );
+                    }
+                }
+            }
+
+            invertedConditionsInspectors.add( inverted );
+        }
+
+        resolveInvertedRange();
+    }
+
+    private void resolveInvertedRange() {
+        rangeField = null;
+        invertedRange = null;
+
+        if ( invertedConditionsInspectors.size() != 1 ) {
+            return;
+        }
+
+        final ConditionsInspectorMultiMap inverted = invertedConditionsInspectors.get( 0 );
+        if ( inverted.keySet()
+                .size() != 1 ) {
+            return;
+        }
+
+        final ObjectField field = inverted.keySet()
+                .iterator()
+                .next();
+        final LeafInspectorList<ConditionInspector> invertedInspectors = inverted.get( field );
+        if ( invertedInspectors.size() == 1
+                && invertedInspectors.get( 0 ) instanceof ComparableConditionInspector
+                && DataType.isNumeric( field.getFieldType() ) ) {
+            rangeField = field;
+            invertedRange = invertedInspectors.get( 0 );
+        }
+    }
+
+    private ConditionInspector resolveInspector( final ConditionInspector originalInspector ) {
+
+        if ( originalInspector.getCondition() instanceof FieldCondition ) {
+            final FieldCondition fieldCondition = (FieldCondition) originalInspector.getCondition();
+            final AnalyzerConfiguration configuration = ruleInspector.getCache()
+                    .getConfiguration();
+
+            if ( fieldCondition.getField()
+                    .getFieldType()
+                    .equals( "Integer" ) ) {
+
+                containsInvertedItems = true;
+                return new NumericIntegerConditionInspector( invert( fieldCondition,
+                                                                     configuration ),
+                                                             configuration );
+
+            } else if ( DataType.isNumeric( fieldCondition.getField()
+                                                    .getFieldType() ) ) {
+
+                containsInvertedItems = true;
+                return new ComparableConditionInspector<>( invert( fieldCondition,
+                                                                   configuration ),
+                                                           configuration );
+
+            } else if ( fieldCondition.getField()
+                    .getFieldType()
+                    .equals( "Boolean" ) ) {
+
+                containsInvertedItems = true;
+                return new BooleanConditionInspector( invert( fieldCondition,
+                                                              configuration ),
+                                                      configuration );
+
+            }
+        }
+
+        return originalInspector;
     }
 
     private FieldCondition invert( final FieldCondition condition,
@@ -120,11 +280,6 @@ public class RangeCheck
         }
     }
 
-    private RuleInspectorClone makeClone() {
-        return new RuleInspectorClone( ruleInspector.getRule(),
-                                       ruleInspector.getCache() );
-    }
-
     @Override
     public Issue getIssue() {
         return new Issue( Severity.NOTE,
@@ -132,97 +287,4 @@ public class RangeCheck
                           new HashSet<>( Arrays.asList( ruleInspector.getRowIndex() + 1 ) )
         );
     }
-
-    private class RuleInspectorClone
-            extends RuleInspector {
-
-        private final InspectorList<ConditionsInspectorMultiMap> conditionsInspectors;
-        boolean containsInvertedItems = false;
-
-        public RuleInspectorClone( final Rule rule,
-                                   final RuleInspectorCache cache ) {
-            super( rule,
-                   new CheckStorage( new CheckFactory( cache.getConfiguration() ) ),
-                   cache,
-                   cache.getConfiguration() );
-            conditionsInspectors = new InspectorList<>( cache.getConfiguration() );
-            makeConditionsInspectors();
-        }
-
-        @Override
-        public InspectorList<ConditionsInspectorMultiMap> getConditionsInspectors() {
-            return conditionsInspectors;
-        }
-
-        private void makeConditionsInspectors() {
-            conditionsInspectors.clear();
-
-            for ( final ConditionsInspectorMultiMap original : super.getConditionsInspectors() ) {
-
-                final ConditionsInspectorMultiMap clone = new ConditionsInspectorMultiMap( getCache().getConfiguration() );
-
-                for ( final ObjectField field : original.keySet() ) {
-
-                    LeafInspectorList<ConditionInspector> originalConditionInspectors = original.get( field );
-                    if ( originalConditionInspectors.isEmpty() ) {
-                        clone.putAllValues( field,
-                                            originalConditionInspectors );
-                    } else {
-                        for ( final ConditionInspector originalInspector : originalConditionInspectors ) {
-                            clone.put( field,
-                                       resolveInspector( originalInspector ) );
-                        }
-                    }
-                }
-
-                conditionsInspectors.add( clone );
-            }
-
-        }
-
-        private ConditionInspector resolveInspector( final ConditionInspector originalInspector ) {
-
-            if ( originalInspector.getCondition() instanceof FieldCondition ) {
-                final FieldCondition fieldCondition = (FieldCondition) originalInspector.getCondition();
-
-                if ( fieldCondition.getField()
-                        .getFieldType()
-                        .equals( "Integer" ) ) {
-
-                    containsInvertedItems = true;
-                    return new NumericIntegerConditionInspector( invert( fieldCondition,
-                                                                         getCache().getConfiguration() ),
-                                                                 getCache().getConfiguration() );
-
-                } else if ( DataType.isNumeric( fieldCondition.getField()
-                                                        .getFieldType() ) ) {
-
-                    containsInvertedItems = true;
-                    return new ComparableConditionInspector<>( invert( fieldCondition,
-                                                                       getCache().getConfiguration() ),
-                                                               getCache().getConfiguration() );
-
-                } else if ( fieldCondition.getField()
-                        .getFieldType()
-                        .equals( "Boolean" ) ) {
-
-                    containsInvertedItems = true;
-                    return new BooleanConditionInspector( invert( fieldCondition,
-                                                                  getCache().getConfiguration() ),
-                                                          getCache().getConfiguration() );
-
-                }
-            }
-
-            return originalInspector;
-        }
-
-        @Override
-        public boolean subsumes( final Object other ) {
-            return other instanceof RuleInspector
-                    && getBrlConditionsInspectors().subsumes( ( (RuleInspector) other ).getBrlConditionsInspectors() )
-                    && getConditionsInspectors().subsumes( ( (RuleInspector) other ).getConditionsInspectors() );
-        }
-    }
-
 }
@@ -84,7 +84,8 @@ public class CheckFactory {
         } else {
             return Optional.of( new PairCheckBundle( ruleInspector,
                                                      other,
-                                                     filteredSet ) );
+                                                     filteredSet,
+                                                     configuration.getRelationCache() ) );
         }
     }
 
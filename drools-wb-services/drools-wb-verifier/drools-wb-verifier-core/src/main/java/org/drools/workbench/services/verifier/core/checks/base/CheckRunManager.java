@@ -24,6 +24,7 @@ import org.drools.workbench.services.verifier.api.client.Status;
 import org.drools.workbench.services.verifier.api.client.StatusUpdate;
 import org.drools.workbench.services.verifier.api.client.configuration.RunnerType;
 import org.drools.workbench.services.verifier.core.cache.inspectors.RuleInspector;
+import org.uberfire.commons.validation.PortablePreconditions;
 
 public class CheckRunManager{
 
@@ -32,7 +33,12 @@ public class CheckRunManager{
     private final CheckRunner checkRunner;
 
     public CheckRunManager( final RunnerType runnerType ) {
-        checkRunner = CheckRunnerFactory.make( runnerType );
+        this( CheckRunnerFactory.make( runnerType ) );
+    }
+
+    public CheckRunManager( final CheckRunner checkRunner ) {
+        this.checkRunner = PortablePreconditions.checkNotNull( "checkRunner",
+                                                               checkRunner );
     }
 
     /**
@@ -71,12 +77,16 @@ public class CheckRunManager{
         return rechecks.isEmpty();
     }
 
-    public void remove( final RuleInspector removedRuleInspector ) {
+    /**
+     * @return Checks that were removed with the rule inspector.
+     */
+    public Set<Check> remove( final RuleInspector removedRuleInspector ) {
         //Ensure active analysis is cancelled
         cancelExistingAnalysis();
 
         final Set<Check> checks = removedRuleInspector.clearChecks();
         rechecks.removeAll( checks );
+        return checks;
     }
 
     public void cancelExistingAnalysis() {
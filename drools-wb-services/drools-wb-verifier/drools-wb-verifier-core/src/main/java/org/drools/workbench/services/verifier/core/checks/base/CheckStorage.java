@@ -31,6 +31,7 @@ import org.drools.workbench.services.verifier.core.cache.inspectors.RuleInspecto
 public class CheckStorage {
 
     private final PairCheckStorage pairCheckStorage = new PairCheckStorage();
+    private final FieldOverlapIndex fieldOverlapIndex = new FieldOverlapIndex();
     private final MultiSet<RuleInspector, Check> ruleInspectorChecks = new MultiSet<>();
     private final MultiSet<RuleInspector, OneToManyCheck> oneToManyChecks = new MultiSet<>();
     private final CheckFactory checkFactory;
@@ -54,25 +55,32 @@ public class CheckStorage {
         return checks;
     }
 
-    private HashSet<Check> makePairRowChecks( final RuleInspector ruleInspector,
-                                              final Collection<RuleInspector> all ) {
-        final HashSet<Check> checks = new HashSet<>();
-
-        for ( final RuleInspector other : all ) {
-            if ( !ruleInspector.equals( other ) ) {
-                final Optional<PairCheckBundle> pairCheckList = checkFactory.makePairRowCheck( ruleInspector,
-                                                                                               other );
-                if ( pairCheckList.isPresent() ) {
-                    checks.add( pairCheckList.get() );
-                    pairCheckStorage.add( pairCheckList.get() );
-                }
-            }
+    private void makePairRowChecks( final RuleInspector ruleInspector,
+                                    final Collection<RuleInspector> candidates ) {
+        for ( final RuleInspector other : candidates ) {
+            makePairRowCheck( ruleInspector,
+                              other );
+            // Add pair inspector for old values.
+            makePairRowCheck( other,
+                              ruleInspector );
         }
+    }
 
-        return checks;
+    private void makePairRowCheck( final RuleInspector ruleInspector,
+                                   final RuleInspector other ) {
+        if ( !pairCheckStorage.contains( ruleInspector,
+                                         other ) ) {
+            final Optional<PairCheckBundle> pairCheckList = checkFactory.makePairRowCheck( ruleInspector,
+                                                                                           other );
+            if ( pairCheckList.isPresent() ) {
+                pairCheckStorage.add( pairCheckList.get() );
+            }
+        }
     }
 
     public Set<Check> getChecks( final RuleInspector ruleInspector ) {
+        updatePairRowChecks( ruleInspector );
+
         final HashSet<Check> result = new HashSet<>();
 
         result.addAll( getRuleInspectorChecks( ruleInspector ) );
@@ -108,6 +116,8 @@ public class CheckStorage {
         result.addAll( pairCheckStorage.remove( ruleInspector ) );
         result.addAll( removeOneToMany( ruleInspector ) );
 
+        fieldOverlapIndex.remove( ruleInspector );
+
         return result;
     }
 
@@ -133,21 +143,22 @@ public class CheckStorage {
 
         makeSingleRowChecks( ruleInspector );
 
-        final Set<RuleInspector> knownRuleInspectors = ruleInspectorChecks.keys();
+        fieldOverlapIndex.add( ruleInspector );
 
         makePairRowChecks( ruleInspector,
-                           knownRuleInspectors );
-
-        for ( final RuleInspector other : knownRuleInspectors ) {
-            if ( !other.equals( ruleInspector ) ) {
-                // Add pair inspector for old values.
+                           fieldOverlapIndex.getCandidates( ruleInspector ) );
+    }
 
-                final Optional<PairCheckBundle> pairCheckList = checkFactory.makePairRowCheck( other,
-                                                                                               ruleInspector );
-                if ( pairCheckList.isPresent() ) {
-                    pairCheckStorage.add( pairCheckList.get() );
-                }
-            }
+    /**
+     * Values of the row might have changed since the checks were made.
+     * Pairs that were skipped earlier might now be related.
+     * The pairs that are no longer related are kept, rechecking them clears their issues.
+     */
+    private void updatePairRowChecks( final RuleInspector ruleInspector ) {
+        if ( fieldOverlapIndex.contains( ruleInspector )
+                && fieldOverlapIndex.update( ruleInspector ) ) {
+            makePairRowChecks( ruleInspector,
+                               fieldOverlapIndex.getCandidates( ruleInspector ) );
         }
     }
 
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.verifier.core.checks.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.drools.workbench.services.verifier.api.client.index.FieldCondition;
+import org.drools.workbench.services.verifier.api.client.index.ObjectField;
+import org.drools.workbench.services.verifier.api.client.index.keys.Values;
+import org.drools.workbench.services.verifier.api.client.maps.InspectorList;
+import org.drools.workbench.services.verifier.api.client.maps.LeafInspectorList;
+import org.drools.workbench.services.verifier.api.client.relations.Operator;
+import org.drools.workbench.services.verifier.core.cache.inspectors.RuleInspector;
+import org.drools.workbench.services.verifier.core.cache.inspectors.condition.ComparableConditionInspector;
+import org.drools.workbench.services.verifier.core.cache.inspectors.condition.ConditionInspector;
+import org.drools.workbench.services.verifier.core.cache.inspectors.condition.ConditionsInspectorMultiMap;
+
+/**
+ * Blocking index used to find the rows that are worth pairing for the pair checks.
+ * <br>
+ * <br>
+ * A row is blocked on a field when its only condition for that field is an equality with a single value.
+ * Two rows that are blocked on the same field with different values conflict on that field,
+ * so neither can subsume the other. Conflict, redundancy, subsumption and single hit checks
+ * can not find issues for such a pair and the pair is never made.
+ */
+class FieldOverlapIndex {
+
+    private final Set<RuleInspector> ruleInspectors = new HashSet<>();
+    private final Map<RuleInspector, Map<ObjectField, Comparable>> keysByRuleInspector = new HashMap<>();
+    private final Map<ObjectField, FieldBlocks> blocksByField = new HashMap<>();
+
+    public boolean contains( final RuleInspector ruleInspector ) {
+        return ruleInspectors.contains( ruleInspector );
+    }
+
+    public void add( final RuleInspector ruleInspector ) {
+        final Map<ObjectField, Comparable> keys = resolveKeys( ruleInspector );
+
+        for ( final ObjectField objectField : keys.keySet() ) {
+            if ( !blocksByField.containsKey( objectField ) ) {
+                blocksByField.put( objectField,
+                                   new FieldBlocks( ruleInspectors ) );
+            }
+        }
+
+        for ( final Map.Entry<ObjectField, FieldBlocks> entry : blocksByField.entrySet() ) {
+            final Comparable value = keys.get( entry.getKey() );
+            if ( value == null ) {
+                entry.getValue().unblocked.add( ruleInspector );
+            } else {
+                entry.getValue().block( value,
+                                        ruleInspector );
+            }
+        }
+
+        keysByRuleInspector.put( ruleInspector,
+                                 keys );
+        ruleInspectors.add( ruleInspector );
+    }
+
+    public void remove( final RuleInspector ruleInspector ) {
+        final Map<ObjectField, Comparable> keys = keysByRuleInspector.remove( ruleInspector );
+
+        if ( keys == null ) {
+            return;
+        }
+
+        for ( final Map.Entry<ObjectField, FieldBlocks> entry : blocksByField.entrySet() ) {
+            final Comparable value = keys.get( entry.getKey() );
+            if ( value == null ) {
+                entry.getValue().unblocked.remove( ruleInspector );
+            } else {
+                entry.getValue().unblock( value,
+                                          ruleInspector );
+            }
+        }
+
+        ruleInspectors.remove( ruleInspector );
+    }
+
+    /**
+     * Re-reads the conditions of the row.
+     * @return true if the blocking keys of the row changed.
+     */
+    public boolean update( final RuleInspector ruleInspector ) {
+        final Map<ObjectField, Comparable> oldKeys = keysByRuleInspector.get( ruleInspector );
+
+        if ( oldKeys != null && oldKeys.equals( resolveKeys( ruleInspector ) ) ) {
+            return false;
+        }
+
+        remove( ruleInspector );
+        add( ruleInspector );
+        return true;
+    }
+
+    /**
+     * @return Every known row, excluding the given one, that might be related to the given row.
+     */
+    public Collection<RuleInspector> getCandidates( final RuleInspector ruleInspector ) {
+        final Map<ObjectField, Comparable> keys = keysByRuleInspector.get( ruleInspector );
+
+        if ( keys == null ) {
+            return Collections.emptyList();
+        }
+
+        final List<RuleInspector> result = new ArrayList<>();
+
+        for ( final RuleInspector other : getSmallestBlock( keys ) ) {
+            if ( other != ruleInspector
+                    && !areBlocked( keys,
+                                    keysByRuleInspector.get( other ) ) ) {
+                result.add( other );
+            }
+        }
+
+        return result;
+    }
+
+    private Collection<RuleInspector> getSmallestBlock( final Map<ObjectField, Comparable> keys ) {
+        FieldBlocks smallest = null;
+        Comparable smallestValue = null;
+
+        for ( final Map.Entry<ObjectField, Comparable> entry : keys.entrySet() ) {
+            final FieldBlocks fieldBlocks = blocksByField.get( entry.getKey() );
+            if ( smallest == null
+                    || fieldBlocks.getBlockSize( entry.getValue() ) < smallest.getBlockSize( smallestValue ) ) {
+                smallest = fieldBlocks;
+                smallestValue = entry.getValue();
+            }
+        }
+
+        if ( smallest == null ) {
+            return ruleInspectors;
+        } else {
+            return smallest.getBlock( smallestValue );
+        }
+    }
+
+    private boolean areBlocked( final Map<ObjectField, Comparable> keys,
+                                final Map<ObjectField, Comparable> otherKeys ) {
+        for ( final Map.Entry<ObjectField, Comparable> entry : keys.entrySet() ) {
+            final Comparable otherValue = otherKeys.get( entry.getKey() );
+            if ( otherValue != null && !otherValue.equals( entry.getValue() ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<ObjectField, Comparable> resolveKeys( final RuleInspector ruleInspector ) {
+        final InspectorList<ConditionsInspectorMultiMap> conditionsInspectors = ruleInspector.getConditionsInspectors();
+
+        final Map<ObjectField, Comparable> keys = new HashMap<>();
+
+        // Blocking is only safe when every pattern has fields and each fact type has only one pattern.
+        // Otherwise a pattern could be matched against a pattern that has no condition for the blocked field.
+        final Set<String> factTypes = new HashSet<>();
+
+        for ( final ConditionsInspectorMultiMap conditionsInspector : conditionsInspectors ) {
+            final String factType = resolveFactType( conditionsInspector );
+
+            if ( factType == null || !factTypes.add( factType ) ) {
+                return Collections.emptyMap();
+            }
+        }
+
+        for ( final ConditionsInspectorMultiMap conditionsInspector : conditionsInspectors ) {
+            for ( final ObjectField objectField : conditionsInspector.keySet() ) {
+                final Comparable value = resolveValue( objectField,
+                                                       conditionsInspector.get( objectField ) );
+                if ( value != null ) {
+                    keys.put( objectField,
+                              value );
+                }
+            }
+        }
+
+        return keys;
+    }
+
+    private String resolveFactType( final ConditionsInspectorMultiMap conditionsInspector ) {
+        String factType = null;
+
+        for ( final ObjectField objectField : conditionsInspector.keySet() ) {
+            final String fieldFactType = objectField.getFactType();
+            if ( factType == null ) {
+                factType = fieldFactType;
+            } else if ( !factType.equals( fieldFactType ) ) {
+                return null;
+            }
+        }
+
+        return factType;
+    }
+
+    private Comparable resolveValue( final ObjectField objectField,
+                                     final LeafInspectorList<ConditionInspector> conditionInspectors ) {
+        if ( conditionInspectors == null || conditionInspectors.size() != 1 ) {
+            return null;
+        }
+
+        final ConditionInspector conditionInspector = conditionInspectors.get( 0 );
+
+        if ( !( conditionInspector instanceof ComparableConditionInspector )
+                || !( conditionInspector.getCondition() instanceof FieldCondition )
+                || !Operator.EQUALS.equals( ( (ComparableConditionInspector) conditionInspector ).getOperator() )
+                || !"==".equals( ( (FieldCondition) conditionInspector.getCondition() ).getOperator() ) ) {
+            return null;
+        }
+
+        final Values values = conditionInspector.getValues();
+        if ( values == null || values.size() != 1 ) {
+            return null;
+        }
+
+        final Comparable value = (Comparable) values.iterator()
+                .next();
+
+        if ( !isBlockable( value ) ) {
+            return null;
+        }
+
+        final FieldBlocks fieldBlocks = blocksByField.get( objectField );
+        if ( fieldBlocks != null && !fieldBlocks.valueType.equals( value.getClass() ) ) {
+            // Values of different types are never equal, but the inspectors might still find them overlapping.
+            return null;
+        }
+
+        return value;
+    }
+
+    /**
+     * Only value types where equals() agrees with compareTo() can be used for blocking.
+     */
+    private boolean isBlockable( final Comparable value ) {
+        if ( value instanceof String ) {
+            return !( (String) value ).trim()
+                    .isEmpty();
+        }
+
+        return value instanceof Boolean
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof Date;
+    }
+
+    private static class FieldBlocks {
+
+        private final Map<Comparable, Set<RuleInspector>> blocked = new HashMap<>();
+        private final Set<RuleInspector> unblocked;
+        private Class valueType;
+
+        private FieldBlocks( final Collection<RuleInspector> unblocked ) {
+            this.unblocked = new HashSet<>( unblocked );
+        }
+
+        private void block( final Comparable value,
+                            final RuleInspector ruleInspector ) {
+            if ( valueType == null ) {
+                valueType = value.getClass();
+            }
+
+            Set<RuleInspector> set = blocked.get( value );
+            if ( set == null ) {
+                set = new HashSet<>();
+                blocked.put( value,
+                             set );
+            }
+            set.add( ruleInspector );
+        }
+
+        private void unblock( final Comparable value,
+                              final RuleInspector ruleInspector ) {
+            final Set<RuleInspector> set = blocked.get( value );
+            if ( set != null ) {
+                set.remove( ruleInspector );
+                if ( set.isEmpty() ) {
+                    blocked.remove( value );
+                }
+            }
+        }
+
+        private int getBlockSize( final Comparable value ) {
+            final Set<RuleInspector> set = blocked.get( value );
+            if ( set == null ) {
+                return unblocked.size();
+            } else {
+                return set.size() + unblocked.size();
+            }
+        }
+
+        /**
+         * @return Rows that are not blocked from a row that has the given value for this field.
+         */
+        private Collection<RuleInspector> getBlock( final Comparable value ) {
+            final Set<RuleInspector> set = blocked.get( value );
+            if ( set == null ) {
+                return unblocked;
+            }
+
+            final List<RuleInspector> result = new ArrayList<>( set.size() + unblocked.size() );
+            result.addAll( set );
+            result.addAll( unblocked );
+            return result;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.drools.workbench.services.verifier.core.checks.base;
 
 import java.util.List;
 
+import org.drools.workbench.services.verifier.api.client.relations.RelationCache;
 import org.drools.workbench.services.verifier.core.cache.inspectors.RuleInspector;
 import org.uberfire.commons.validation.PortablePreconditions;
 
@@ -27,15 +28,42 @@ public class PairCheckBundle
     protected final RuleInspector ruleInspector;
     protected final RuleInspector other;
 
+    private final RelationCache relationCache;
+
     public PairCheckBundle( final RuleInspector ruleInspector,
                             final RuleInspector other,
                             final List<Check> filteredSet ) {
+        this( ruleInspector,
+              other,
+              filteredSet,
+              new RelationCache() );
+    }
+
+    public PairCheckBundle( final RuleInspector ruleInspector,
+                            final RuleInspector other,
+                            final List<Check> filteredSet,
+                            final RelationCache relationCache ) {
         super( filteredSet );
 
         this.ruleInspector = PortablePreconditions.checkNotNull( "ruleInspector",
                                                                  ruleInspector );
         this.other = PortablePreconditions.checkNotNull( "other",
                                                          other );
+        this.relationCache = PortablePreconditions.checkNotNull( "relationCache",
+                                                                 relationCache );
+    }
+
+    /**
+     * The checks of the pair resolve the same relations between the rows, so they are resolved once for all of them.
+     */
+    @Override
+    public void check() {
+        relationCache.start();
+        try {
+            super.check();
+        } finally {
+            relationCache.end();
+        }
     }
 
     public RuleInspector getRuleInspector() {
@@ -93,6 +93,12 @@ public class PairCheckStorage {
         }
     }
 
+    public boolean contains( final RuleInspector ruleInspector,
+                             final RuleInspector other ) {
+        final MultiSet<RuleInspector, PairCheckBundle> multiSet = pairChecksByOtherRowInspector.get( other );
+        return multiSet != null && multiSet.containsKey( ruleInspector );
+    }
+
     public Collection<PairCheckBundle> get( final RuleInspector ruleInspector ) {
         final Collection<PairCheckBundle> pairCheckLists = this.pairChecks.get( ruleInspector );
         final MultiSet<RuleInspector, PairCheckBundle> multiSet = getByOther( ruleInspector );
@@ -15,7 +15,10 @@
  */
 package org.drools.workbench.services.verifier.core.main;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import com.google.gwt.user.client.Command;
@@ -31,6 +34,8 @@ import org.drools.workbench.services.verifier.core.cache.RuleInspectorCache;
 import org.drools.workbench.services.verifier.core.cache.inspectors.RuleInspector;
 import org.drools.workbench.services.verifier.core.checks.base.Check;
 import org.drools.workbench.services.verifier.core.checks.base.CheckRunManager;
+import org.drools.workbench.services.verifier.core.checks.base.CheckRunner;
+import org.drools.workbench.services.verifier.core.checks.base.CheckRunnerFactory;
 
 public class Analyzer {
 
@@ -39,17 +44,44 @@ public class Analyzer {
     private final AnalyzerConfiguration configuration;
     private final Reporter reporter;
     private final StatusUpdate onStatus = getOnStatusCommand();
-    private final Command onCompletion = getOnCompletionCommand();
+
+    /**
+     * Checks added since the last analysis. Only their issues can change when the analysis completes.
+     */
+    private final Set<Check> pendingChecks = new HashSet<>();
+    /**
+     * Checks of the analyses that have not completed yet. A cancelled analysis completes later.
+     */
+    private final List<Set<Check>> runningChecks = new ArrayList<>();
+    /**
+     * Checks that found issues. The issues are made when the report is sent, because their row numbers
+     * change when rows are inserted or deleted above them.
+     */
+    private final Set<Check> checksWithIssues = new HashSet<>();
 
 
     public Analyzer( final Reporter reporter,
                      final Index index,
                      final AnalyzerConfiguration configuration ) {
+        this( reporter,
+              index,
+              configuration,
+              CheckRunnerFactory.make( PortablePreconditions.checkNotNull( "configuration",
+                                                                           configuration ).getRunnerType() ) );
+    }
+
+    /**
+     * @param checkRunner Runner used instead of the one picked by the runner type of the configuration.
+     */
+    public Analyzer( final Reporter reporter,
+                     final Index index,
+                     final AnalyzerConfiguration configuration,
+                     final CheckRunner checkRunner ) {
         this.reporter = PortablePreconditions.checkNotNull( "reporter",
                                                             reporter );
         this.configuration = PortablePreconditions.checkNotNull( "configuration",
                                                                  configuration );
-        this.checkRunManager = new CheckRunManager( configuration.getRunnerType() );
+        this.checkRunManager = new CheckRunManager( checkRunner );
         this.cache = new RuleInspectorCache( PortablePreconditions.checkNotNull( "index",
                                                                                  index ),
                                              configuration );
@@ -63,36 +95,68 @@ public class Analyzer {
     public void newRule( final Rule rule ) {
         final RuleInspector ruleInspector = cache.addRule( rule );
 
-        checkRunManager.addChecks( ruleInspector.getChecks() );
+        addChecks( ruleInspector.getChecks() );
     }
 
     public void deleteColumn( final int firstColumnIndex ) {
         cache.deleteColumns( firstColumnIndex );
+
+        // The cache made new rule inspectors, the old checks are gone.
+        pendingChecks.clear();
+        for ( final Set<Check> checks : runningChecks ) {
+            checks.clear();
+        }
+        checksWithIssues.clear();
     }
 
     public void resetChecks() {
         for ( final RuleInspector ruleInspector : cache.all() ) {
-            checkRunManager.addChecks( ruleInspector.getChecks() );
+            addChecks( ruleInspector.getChecks() );
         }
     }
 
-    private Set<Issue> getIssues() {
+    private void addChecks( final Set<Check> checks ) {
+        checkRunManager.addChecks( checks );
+        pendingChecks.addAll( checks );
+    }
 
-        final Set<Issue> unorderedIssues = new HashSet<>();
+    private Set<Issue> getIssues() {
+        final Set<Issue> issues = new HashSet<>();
+        for ( final Check check : checksWithIssues ) {
+            issues.add( check.getIssue() );
+        }
+        return issues;
+    }
 
-        for ( final RuleInspector ruleInspector : cache.all() ) {
-            for ( final Check check : ruleInspector.getChecks() ) {
-                if ( check.hasIssues() ) {
-                    unorderedIssues.add( check.getIssue() );
-                }
+    private void updateIssues( final Set<Check> checks ) {
+        for ( final Check check : checks ) {
+            if ( check.hasIssues() ) {
+                checksWithIssues.add( check );
+            } else {
+                checksWithIssues.remove( check );
             }
         }
+    }
 
-        return unorderedIssues;
+    private void removeRunningChecks( final Set<Check> checks ) {
+        final Iterator<Set<Check>> iterator = runningChecks.iterator();
+        while ( iterator.hasNext() ) {
+            if ( iterator.next() == checks ) {
+                iterator.remove();
+                return;
+            }
+        }
     }
 
     public void removeRule( final Integer rowDeleted ) {
-        checkRunManager.remove( cache.removeRow( rowDeleted ) );
+        final Set<Check> removedChecks = checkRunManager.remove( cache.removeRow( rowDeleted ) );
+
+        pendingChecks.removeAll( removedChecks );
+        for ( final Set<Check> checks : runningChecks ) {
+            checks.removeAll( removedChecks );
+        }
+        checksWithIssues.removeAll( removedChecks );
+
         analyze();
     }
 
@@ -115,13 +179,17 @@ public class Analyzer {
         }
 
         if ( !checks.isEmpty() ) {
-            checkRunManager.addChecks( checks );
+            addChecks( checks );
         }
     }
 
     public void analyze() {
+        final Set<Check> checks = new HashSet<>( pendingChecks );
+        pendingChecks.clear();
+        runningChecks.add( checks );
+
         this.checkRunManager.run( onStatus,
-                                  onCompletion );
+                                  getOnCompletionCommand( checks ) );
     }
 
     protected StatusUpdate getOnStatusCommand() {
@@ -139,11 +207,16 @@ public class Analyzer {
         };
     }
 
-    protected Command getOnCompletionCommand() {
+    /**
+     * @param checks Checks that were run, the issues of the other checks stay as they are.
+     */
+    protected Command getOnCompletionCommand( final Set<Check> checks ) {
         return new Command() {
 
             @Override
             public void execute() {
+                removeRunningChecks( checks );
+                updateIssues( checks );
                 reporter.sendReport( getIssues() );
             }
         };
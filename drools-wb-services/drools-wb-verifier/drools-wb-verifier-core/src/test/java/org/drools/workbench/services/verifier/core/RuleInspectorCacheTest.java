@@ -37,12 +37,13 @@ import static org.junit.Assert.*;
 public class RuleInspectorCacheTest {
 
     private RuleInspectorCache cache;
+    private AnalyzerConfiguration configuration;
 
     @Before
     public void setUp() throws
                         Exception {
         final Index index = new IndexImpl();
-        final AnalyzerConfiguration configuration = new AnalyzerConfigurationMock();
+        configuration = new AnalyzerConfigurationMock();
 
         cache = new RuleInspectorCache( index,
                                         configuration );
@@ -90,6 +91,64 @@ public class RuleInspectorCacheTest {
                                   5 );
     }
 
+    @Test
+    public void testGetRuleInspector() throws
+                                       Exception {
+        for ( int row = 0; row < 7; row++ ) {
+            assertEquals( row,
+                          cache.getRuleInspector( row )
+                                  .getRowIndex() );
+        }
+    }
+
+    @Test
+    public void testGetRuleInspectorAfterRemoveRow() throws
+                                                     Exception {
+        final RuleInspector fourth = cache.getRuleInspector( 4 );
+
+        cache.removeRow( 3 );
+
+        assertEquals( fourth,
+                      cache.getRuleInspector( 3 ) );
+        for ( int row = 0; row < 6; row++ ) {
+            assertEquals( row,
+                          cache.getRuleInspector( row )
+                                  .getRowIndex() );
+        }
+        assertNull( cache.getRuleInspector( 6 ) );
+    }
+
+    @Test
+    public void testGetRuleInspectorAfterAddRuleInTheMiddle() throws
+                                                              Exception {
+        final RuleInspector third = cache.getRuleInspector( 2 );
+
+        final RuleInspector added = cache.addRule( new Rule( 2,
+                                                             configuration ) );
+
+        assertEquals( added,
+                      cache.getRuleInspector( 2 ) );
+        assertEquals( third,
+                      cache.getRuleInspector( 3 ) );
+        for ( int row = 0; row < 8; row++ ) {
+            assertEquals( row,
+                          cache.getRuleInspector( row )
+                                  .getRowIndex() );
+        }
+    }
+
+    @Test
+    public void testGetRuleInspectorAfterReset() throws
+                                                 Exception {
+        cache.reset();
+
+        for ( int row = 0; row < 7; row++ ) {
+            assertEquals( row,
+                          cache.getRuleInspector( row )
+                                  .getRowIndex() );
+        }
+    }
+
     private void assertContainsRowNumbers( final Collection<RuleInspector> all,
                                            final int... numbers ) {
         final ArrayList<Integer> rowNumbers = new ArrayList<>();
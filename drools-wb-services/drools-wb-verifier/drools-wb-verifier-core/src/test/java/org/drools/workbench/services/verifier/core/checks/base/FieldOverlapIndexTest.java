@@ -0,0 +1,231 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.verifier.core.checks.base;
+
+import java.util.Collection;
+
+import org.drools.workbench.services.verifier.api.client.configuration.AnalyzerConfiguration;
+import org.drools.workbench.services.verifier.api.client.index.Column;
+import org.drools.workbench.services.verifier.api.client.index.Field;
+import org.drools.workbench.services.verifier.api.client.index.FieldCondition;
+import org.drools.workbench.services.verifier.api.client.index.ObjectField;
+import org.drools.workbench.services.verifier.api.client.index.keys.Values;
+import org.drools.workbench.services.verifier.api.client.maps.InspectorList;
+import org.drools.workbench.services.verifier.core.cache.inspectors.RuleInspector;
+import org.drools.workbench.services.verifier.core.cache.inspectors.condition.ConditionsInspectorMultiMap;
+import org.drools.workbench.services.verifier.core.cache.inspectors.condition.NumericIntegerConditionInspector;
+import org.drools.workbench.services.verifier.core.cache.inspectors.condition.StringConditionInspector;
+import org.drools.workbench.services.verifier.core.checks.AnalyzerConfigurationMock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FieldOverlapIndexTest {
+
+    @Mock
+    private Field field;
+
+    private AnalyzerConfiguration configuration;
+
+    private ObjectField name;
+    private ObjectField age;
+
+    private FieldOverlapIndex index;
+
+    @Before
+    public void setUp() throws Exception {
+        configuration = new AnalyzerConfigurationMock();
+        name = new ObjectField( "Person",
+                                "String",
+                                "name",
+                                configuration );
+        age = new ObjectField( "Person",
+                               "Integer",
+                               "age",
+                               configuration );
+        index = new FieldOverlapIndex();
+    }
+
+    @Test
+    public void differentValuesAreNotCandidates() throws Exception {
+        final RuleInspector toni = ruleInspector( person( "Toni",
+                                                          "==",
+                                                          10 ) );
+        final RuleInspector eder = ruleInspector( person( "Eder",
+                                                          "==",
+                                                          10 ) );
+        final RuleInspector toniAgain = ruleInspector( person( "Toni",
+                                                               "==",
+                                                               20 ) );
+
+        index.add( toni );
+        index.add( eder );
+        index.add( toniAgain );
+
+        assertTrue( index.getCandidates( toni ).isEmpty() );
+        assertTrue( index.getCandidates( eder ).isEmpty() );
+        assertTrue( index.getCandidates( toniAgain ).isEmpty() );
+    }
+
+    @Test
+    public void sameValuesAreCandidates() throws Exception {
+        final RuleInspector a = ruleInspector( person( "Toni",
+                                                       "==",
+                                                       10 ) );
+        final RuleInspector b = ruleInspector( person( "Toni",
+                                                       "==",
+                                                       10 ) );
+
+        index.add( a );
+        index.add( b );
+
+        final Collection<RuleInspector> candidates = index.getCandidates( a );
+        assertEquals( 1,
+                      candidates.size() );
+        assertTrue( candidates.contains( b ) );
+    }
+
+    @Test
+    public void rangesAreAlwaysCandidates() throws Exception {
+        final RuleInspector a = ruleInspector( person( "Toni",
+                                                       "==",
+                                                       10 ) );
+        final RuleInspector b = ruleInspector( person( "Toni",
+                                                       ">",
+                                                       20 ) );
+
+        index.add( a );
+        index.add( b );
+
+        assertTrue( index.getCandidates( a ).contains( b ) );
+        assertTrue( index.getCandidates( b ).contains( a ) );
+    }
+
+    @Test
+    public void rowWithoutConditionsIsAlwaysCandidate() throws Exception {
+        final RuleInspector a = ruleInspector( person( "Toni",
+                                                       "==",
+                                                       10 ) );
+        final RuleInspector empty = ruleInspector();
+
+        index.add( a );
+        index.add( empty );
+
+        assertTrue( index.getCandidates( a ).contains( empty ) );
+        assertTrue( index.getCandidates( empty ).contains( a ) );
+    }
+
+    @Test
+    public void twoPatternsOfTheSameTypeAreNotBlocked() throws Exception {
+        final RuleInspector a = ruleInspector( person( "Toni",
+                                                       "==",
+                                                       10 ),
+                                               person( "Eder",
+                                                       "==",
+                                                       10 ) );
+        final RuleInspector b = ruleInspector( person( "Michael",
+                                                       "==",
+                                                       10 ) );
+
+        index.add( a );
+        index.add( b );
+
+        assertTrue( index.getCandidates( b ).contains( a ) );
+    }
+
+    @Test
+    public void update() throws Exception {
+        final ConditionsInspectorMultiMap toni = person( "Toni",
+                                                         "==",
+                                                         10 );
+        final RuleInspector a = ruleInspector( toni );
+        final RuleInspector b = ruleInspector( person( "Eder",
+                                                       "==",
+                                                       10 ) );
+
+        index.add( a );
+        index.add( b );
+
+        assertFalse( index.update( a ) );
+        assertTrue( index.getCandidates( a ).isEmpty() );
+
+        final InspectorList<ConditionsInspectorMultiMap> list = new InspectorList<>( configuration );
+        list.add( person( "Eder",
+                          "==",
+                          10 ) );
+        when( a.getConditionsInspectors() ).thenReturn( list );
+
+        assertTrue( index.update( a ) );
+        assertTrue( index.getCandidates( a ).contains( b ) );
+        assertTrue( index.getCandidates( b ).contains( a ) );
+    }
+
+    @Test
+    public void remove() throws Exception {
+        final RuleInspector a = ruleInspector( person( "Toni",
+                                                       "==",
+                                                       10 ) );
+        final RuleInspector b = ruleInspector( person( "Toni",
+                                                       "==",
+                                                       10 ) );
+
+        index.add( a );
+        index.add( b );
+        index.remove( b );
+
+        assertFalse( index.contains( b ) );
+        assertTrue( index.getCandidates( a ).isEmpty() );
+    }
+
+    private RuleInspector ruleInspector( final ConditionsInspectorMultiMap... patterns ) {
+        final InspectorList<ConditionsInspectorMultiMap> list = new InspectorList<>( configuration );
+        for ( final ConditionsInspectorMultiMap pattern : patterns ) {
+            list.add( pattern );
+        }
+
+        final RuleInspector ruleInspector = mock( RuleInspector.class );
+        when( ruleInspector.getConditionsInspectors() ).thenReturn( list );
+        return ruleInspector;
+    }
+
+    private ConditionsInspectorMultiMap person( final String nameValue,
+                                                final String ageOperator,
+                                                final Integer ageValue ) {
+        final ConditionsInspectorMultiMap map = new ConditionsInspectorMultiMap( configuration );
+        map.put( name,
+                 new StringConditionInspector( new FieldCondition<>( field,
+                                                                     mock( Column.class ),
+                                                                     "==",
+                                                                     new Values<>( nameValue ),
+                                                                     configuration ),
+                                               configuration ) );
+        map.put( age,
+                 new NumericIntegerConditionInspector( new FieldCondition<>( field,
+                                                                             mock( Column.class ),
+                                                                             ageOperator,
+                                                                             new Values<>( ageValue ),
+                                                                             configuration ),
+                                                       configuration ) );
+        return map;
+    }
+}